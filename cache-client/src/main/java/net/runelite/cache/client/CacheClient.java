@@ -71,6 +71,7 @@ public class CacheClient implements AutoCloseable
 
 	private final Store store; // store cache will be written to
 	private final String host;
+	private final int port;
 	private final int clientRevision;
 	private DownloadWatcher watcher;
 
@@ -88,9 +89,15 @@ public class CacheClient implements AutoCloseable
 	}
 
 	public CacheClient(Store store, String host, int clientRevision)
+	{
+		this(store, host, PORT, clientRevision);
+	}
+
+	public CacheClient(Store store, String host, int port, int clientRevision)
 	{
 		this.store = store;
 		this.host = host;
+		this.port = port;
 		this.clientRevision = clientRevision;
 	}
 
@@ -117,7 +124,7 @@ public class CacheClient implements AutoCloseable
 					p.addLast("decoder", new HandshakeResponseDecoder());
 
 					p.addLast(
-						new CacheClientHandler(),
+						new CacheClientHandler(CacheClient.this),
 						new HandshakeResponseHandler(CacheClient.this),
 						new ArchiveResponseHandler(CacheClient.this)
 					);
@@ -131,7 +138,7 @@ public class CacheClient implements AutoCloseable
 			});
 
 		// Start the client.
-		ChannelFuture f = b.connect(host, PORT).syncUninterruptibly();
+		ChannelFuture f = b.connect(host, port).syncUninterruptibly();
 		channel = f.channel();
 	}
 
@@ -142,7 +149,7 @@ public class CacheClient implements AutoCloseable
 
 		state = ClientState.HANDSHAKING;
 
-		assert handshakeFuture == null;
+		assert handshakeFuture == null || handshakeFuture.isDone();
 		handshakeFuture = new CompletableFuture<>();
 
 		channel.writeAndFlush(handshakePacket);
@@ -155,10 +162,23 @@ public class CacheClient implements AutoCloseable
 	@Override
 	public void close()
 	{
-		channel.close().syncUninterruptibly();
+		if (channel != null)
+		{
+			channel.close().syncUninterruptibly();
+		}
 		group.shutdownGracefully();
 	}
 
+	void flush()
+	{
+		channel.flush();
+	}
+
+	public boolean isConnected()
+	{
+		return state == ClientState.CONNECTED && channel != null && channel.isActive();
+	}
+
 	public int getClientRevision()
 	{
 		return clientRevision;
@@ -207,116 +227,24 @@ public class CacheClient implements AutoCloseable
 		List<IndexInfo> indexes = requestIndexes();
 		for (IndexInfo indexInfo : indexes)
 		{
-			int i = indexInfo.getId();
-			int crc = indexInfo.getCrc();
-			int revision = indexInfo.getRevision();
-
-			Index index = store.findIndex(i);
-
-			if (index == null)
-			{
-				logger.info("Index {} does not exist, creating", i);
-			}
-			else if (index.getRevision() != revision)
-			{
-				if (revision < index.getRevision())
-				{
-					logger.warn("Index {} revision is going BACKWARDS! (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
-				}
-				else
-				{
-					logger.info("Index {} has the wrong revision (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
-				}
-			}
-			else if (index.getCrc() != crc)
-			{
-				logger.warn("Index {} CRC has changed! (our crc {}, their crc {})",
-					index.getCrc(), index.getCrc(), crc);
-			}
-			else
-			{
-				// despite the index being up to date, not everything
-				// can be downloaded, eg. for tracks.
-				logger.info("Index {} is up to date", index.getId());
-			}
-
-			logger.info("Downloading index {}", i);
-
-			FileResult indexFileResult = requestFile(255, i, true).join();
-			indexFileResult.decompress(null);
-
-			logger.info("Downloaded index {}", i);
-
-			if (indexFileResult.getCrc() != crc)
+			List<Archive> archives = updateIndex(indexInfo);
+			if (archives == null)
 			{
-				logger.warn("Corrupted download for index {}", i);
 				continue;
 			}
 
-			IndexData indexData = new IndexData();
-			indexData.load(indexFileResult.getContents());
-
-			if (index == null)
-			{
-				index = store.addIndex(i);
-			}
-
-			// update index settings
-			index.setProtocol(indexData.getProtocol());
-			index.setNamed(indexData.isNamed());
-			index.setCrc(crc);
-			index.setRevision(revision);
-
-			logger.info("Index {} has {} archives", i, indexData.getArchives().length);
-
-			for (ArchiveData ad : indexData.getArchives())
+			for (Archive archive : archives)
 			{
-				Archive existing = index.getArchive(ad.getId());
-
-				if (existing != null && existing.getRevision() == ad.getRevision()
-					&& existing.getCrc() == ad.getCrc()
-					&& existing.getNameHash() == ad.getNameHash())
-				{
-					logger.debug("Archive {}/{} in index {} is up to date",
-						ad.getId(), indexData.getArchives().length, index.getId());
-					continue;
-				}
-
-				if (existing == null)
-				{
-					logger.info("Archive {}/{} in index {} is out of date, downloading",
-						ad.getId(), indexData.getArchives().length, index.getId());
-				}
-				else if (ad.getRevision() < existing.getRevision())
-				{
-					logger.warn("Archive {}/{} in index {} revision is going BACKWARDS! (our revision {}, their revision {})",
-						ad.getId(), indexData.getArchives().length, index.getId(),
-						existing.getRevision(), ad.getRevision());
-				}
-				else
-				{
-					logger.info("Archive {}/{} in index {} is out of date, downloading. " +
-						"revision: ours: {} theirs: {}, crc: ours: {} theirs {}, name: ours {} theirs {}",
-						ad.getId(), indexData.getArchives().length, index.getId(),
-						existing.getRevision(), ad.getRevision(),
-						existing.getCrc(), ad.getCrc(),
-						existing.getNameHash(), ad.getNameHash());
-				}
-
-				final Archive archive = existing == null
-					? index.addArchive(ad.getId())
-					: existing;
-
-				archive.setRevision(ad.getRevision());
-				archive.setCrc(ad.getCrc());
-				archive.setNameHash(ad.getNameHash());
-
-				// Add files
-				archive.setFileData(ad.getFiles());
-
-				CompletableFuture<FileResult> future = requestFile(index.getId(), ad.getId(), false);
+				CompletableFuture<FileResult> future = requestFile(archive.getIndex().getId(), archive.getArchiveId(), false);
 				future.handle((fr, ex) ->
 				{
+					if (ex != null)
+					{
+						logger.warn("unable to download archive {}/{}",
+							archive.getIndex().getId(), archive.getArchiveId(), ex);
+						return null;
+					}
+
 					byte[] data = fr.getCompressedData();
 
 					Crc32 crc32 = new Crc32();
@@ -355,10 +283,10 @@ public class CacheClient implements AutoCloseable
 		// flush any pending requests
 		channel.flush();
 
-		while (!requests.isEmpty())
+		synchronized (this)
 		{
 			// wait for pending requests
-			synchronized (this)
+			while (!requests.isEmpty())
 			{
 				try
 				{
@@ -375,7 +303,132 @@ public class CacheClient implements AutoCloseable
 		logger.info("Download completed in {}", stopwatch);
 	}
 
-	private synchronized CompletableFuture<FileResult> requestFile(int index, int fileId, boolean flush)
+	/**
+	 * Download the index data for an index and update the store's index and
+	 * archive metadata from it.
+	 *
+	 * @param indexInfo index to update
+	 * @return the archives which are out of date and need downloading, or
+	 * null if the index data could not be downloaded
+	 * @throws IOException
+	 */
+	List<Archive> updateIndex(IndexInfo indexInfo) throws IOException
+	{
+		int i = indexInfo.getId();
+		int crc = indexInfo.getCrc();
+		int revision = indexInfo.getRevision();
+
+		Index index = store.findIndex(i);
+
+		if (index == null)
+		{
+			logger.info("Index {} does not exist, creating", i);
+		}
+		else if (index.getRevision() != revision)
+		{
+			if (revision < index.getRevision())
+			{
+				logger.warn("Index {} revision is going BACKWARDS! (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
+			}
+			else
+			{
+				logger.info("Index {} has the wrong revision (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
+			}
+		}
+		else if (index.getCrc() != crc)
+		{
+			logger.warn("Index {} CRC has changed! (our crc {}, their crc {})",
+				index.getCrc(), index.getCrc(), crc);
+		}
+		else
+		{
+			// despite the index being up to date, not everything
+			// can be downloaded, eg. for tracks.
+			logger.info("Index {} is up to date", index.getId());
+		}
+
+		logger.info("Downloading index {}", i);
+
+		FileResult indexFileResult = requestFile(255, i, true).join();
+		indexFileResult.decompress(null);
+
+		logger.info("Downloaded index {}", i);
+
+		if (indexFileResult.getCrc() != crc)
+		{
+			logger.warn("Corrupted download for index {}", i);
+			return null;
+		}
+
+		IndexData indexData = new IndexData();
+		indexData.load(indexFileResult.getContents());
+
+		if (index == null)
+		{
+			index = store.addIndex(i);
+		}
+
+		// update index settings
+		index.setProtocol(indexData.getProtocol());
+		index.setNamed(indexData.isNamed());
+		index.setCrc(crc);
+		index.setRevision(revision);
+
+		logger.info("Index {} has {} archives", i, indexData.getArchives().length);
+
+		List<Archive> outdated = new ArrayList<>();
+		for (ArchiveData ad : indexData.getArchives())
+		{
+			Archive existing = index.getArchive(ad.getId());
+
+			if (existing != null && existing.getRevision() == ad.getRevision()
+				&& existing.getCrc() == ad.getCrc()
+				&& existing.getNameHash() == ad.getNameHash())
+			{
+				logger.debug("Archive {}/{} in index {} is up to date",
+					ad.getId(), indexData.getArchives().length, index.getId());
+				continue;
+			}
+
+			if (existing == null)
+			{
+				logger.info("Archive {}/{} in index {} is out of date, downloading",
+					ad.getId(), indexData.getArchives().length, index.getId());
+			}
+			else if (ad.getRevision() < existing.getRevision())
+			{
+				logger.warn("Archive {}/{} in index {} revision is going BACKWARDS! (our revision {}, their revision {})",
+					ad.getId(), indexData.getArchives().length, index.getId(),
+					existing.getRevision(), ad.getRevision());
+			}
+			else
+			{
+				logger.info("Archive {}/{} in index {} is out of date, downloading. " +
+					"revision: ours: {} theirs: {}, crc: ours: {} theirs {}, name: ours {} theirs {}",
+					ad.getId(), indexData.getArchives().length, index.getId(),
+					existing.getRevision(), ad.getRevision(),
+					existing.getCrc(), ad.getCrc(),
+					existing.getNameHash(), ad.getNameHash());
+			}
+
+			Archive archive = existing == null
+				? index.addArchive(ad.getId())
+				: existing;
+
+			archive.setRevision(ad.getRevision());
+			archive.setCrc(ad.getCrc());
+			archive.setNameHash(ad.getNameHash());
+
+			// Add files
+			archive.setFileData(ad.getFiles());
+
+			outdated.add(archive);
+		}
+
+		return outdated;
+	}
+
+	synchronized CompletableFuture<FileResult> requestFile(int index, int fileId, boolean flush)
 	{
 		if (state != ClientState.CONNECTED)
 		{
@@ -384,7 +437,7 @@ public class CacheClient implements AutoCloseable
 
 		if (!flush)
 		{
-			while (requests.size() >= MAX_REQUESTS)
+			while (requests.size() >= MAX_REQUESTS && state == ClientState.CONNECTED)
 			{
 				channel.flush();
 
@@ -397,6 +450,11 @@ public class CacheClient implements AutoCloseable
 					logger.warn("interrupted while waiting for requests", ex);
 				}
 			}
+
+			if (state != ClientState.CONNECTED)
+			{
+				throw new IllegalStateException("Connection closed while waiting for requests");
+			}
 		}
 
 		ArchiveRequestPacket archiveRequest = new ArchiveRequestPacket();
@@ -448,7 +506,7 @@ public class CacheClient implements AutoCloseable
 
 		requests.remove(pr);
 
-		notify();
+		notifyAll();
 
 		FileResult result = new FileResult(index, file, compressedData);
 
@@ -456,4 +514,27 @@ public class CacheClient implements AutoCloseable
 
 		pr.getFuture().complete(result);
 	}
+
+	/**
+	 * Called when the channel goes inactive. Fails any outstanding requests so
+	 * that they can be retried elsewhere.
+	 */
+	synchronized void onDisconnect()
+	{
+		state = ClientState.DISCONNECTED;
+
+		if (handshakeFuture != null && !handshakeFuture.isDone())
+		{
+			handshakeFuture.completeExceptionally(new IOException("Connection closed during handshake"));
+		}
+
+		IOException ex = new IOException("Connection closed");
+		for (PendingFileRequest pr : requests)
+		{
+			pr.getFuture().completeExceptionally(ex);
+		}
+		requests.clear();
+
+		notifyAll();
+	}
 }
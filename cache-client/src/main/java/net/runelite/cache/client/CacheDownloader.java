@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import com.google.common.base.Stopwatch;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.Crc32;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Downloads a cache over several update server connections at once. Each
+ * connection keeps its own window of outstanding requests and pulls archives
+ * from a shared queue, so a slow or dropped connection does not hold up the
+ * others. Requests lost to a dropped connection are requeued and the
+ * connection is reestablished. A request which is not answered in time is
+ * treated the same way, as the server will not answer it on that connection.
+ * <p>
+ * If a {@link DownloadProgress} is given, every saved archive is recorded in
+ * it and archives recorded with a matching crc are skipped, so an interrupted
+ * download resumes where it stopped even if the store was never saved.
+ */
+public class CacheDownloader
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheDownloader.class);
+
+	private static final int MAX_ATTEMPTS = 5; // per archive
+	private static final int MAX_RECONNECTS = 5; // per connection, consecutive
+	private static final long RECONNECT_DELAY_MS = 250L;
+	private static final long HANDSHAKE_TIMEOUT_SECONDS = 30L;
+	private static final long REQUEST_TIMEOUT_MS = 30_000L;
+
+	private final Store store;
+	private final String host;
+	private final int port;
+	private final int clientRevision;
+	private final int connections;
+	private final DownloadProgress progress;
+	private final long requestTimeoutMs;
+
+	private final Object storageLock = new Object();
+	private final List<CacheClient> clients = new ArrayList<>();
+	private ScheduledThreadPoolExecutor timeouts;
+
+	// guarded by this
+	private final Deque<Archive> pending = new ArrayDeque<>();
+	private final Map<Archive, Integer> attempts = new HashMap<>();
+	private int remaining;
+	private int failed;
+
+	/**
+	 * @param store store to download into
+	 * @param host update server host
+	 * @param port update server port
+	 * @param clientRevision client revision to handshake with
+	 * @param connections number of connections to use
+	 * @param progress progress journal, or null to not persist progress
+	 */
+	public CacheDownloader(Store store, String host, int port, int clientRevision, int connections, DownloadProgress progress)
+	{
+		this(store, host, port, clientRevision, connections, progress, REQUEST_TIMEOUT_MS);
+	}
+
+	CacheDownloader(Store store, String host, int port, int clientRevision, int connections, DownloadProgress progress, long requestTimeoutMs)
+	{
+		if (connections < 1)
+		{
+			throw new IllegalArgumentException("connections must be positive");
+		}
+
+		this.store = store;
+		this.host = host;
+		this.port = port;
+		this.clientRevision = clientRevision;
+		this.connections = connections;
+		this.progress = progress;
+		this.requestTimeoutMs = requestTimeoutMs;
+	}
+
+	/**
+	 * Download all out of date archives into the store's storage. The index
+	 * metadata is updated in the store, but the store is not saved.
+	 *
+	 * @throws IOException if archives could not be downloaded
+	 */
+	public void download() throws IOException
+	{
+		Stopwatch stopwatch = Stopwatch.createStarted();
+
+		timeouts = new ScheduledThreadPoolExecutor(1, r ->
+		{
+			Thread thread = new Thread(r, "Cache download timeouts");
+			thread.setDaemon(true);
+			return thread;
+		});
+		timeouts.setRemoveOnCancelPolicy(true);
+
+		try
+		{
+			CacheClient primary = connect();
+
+			int skipped = 0;
+			for (IndexInfo indexInfo : primary.requestIndexes())
+			{
+				List<Archive> archives = primary.updateIndex(indexInfo);
+				if (archives == null)
+				{
+					continue;
+				}
+
+				for (Archive archive : archives)
+				{
+					if (progress != null && progress.isComplete(archive.getIndex().getId(), archive.getArchiveId(), archive.getCrc()))
+					{
+						++skipped;
+						continue;
+					}
+
+					pending.add(archive);
+				}
+			}
+
+			synchronized (this)
+			{
+				remaining = pending.size();
+			}
+
+			logger.info("Downloading {} archives over {} connections, {} already downloaded",
+				remaining, connections, skipped);
+
+			List<Thread> workers = new ArrayList<>(connections);
+			for (int i = 0; i < connections; ++i)
+			{
+				final CacheClient client = i == 0 ? primary : null;
+				Thread thread = new Thread(() -> work(client), "Cache download " + i);
+				thread.setDaemon(true);
+				thread.start();
+				workers.add(thread);
+			}
+
+			for (Thread thread : workers)
+			{
+				thread.join();
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while downloading", ex);
+		}
+		finally
+		{
+			timeouts.shutdownNow();
+
+			synchronized (clients)
+			{
+				clients.forEach(CacheClient::close);
+				clients.clear();
+			}
+		}
+
+		synchronized (this)
+		{
+			if (remaining > 0 || failed > 0)
+			{
+				throw new IOException("Download incomplete: " + failed + " archives failed, " + remaining + " not downloaded");
+			}
+		}
+
+		stopwatch.stop();
+		logger.info("Download completed in {}", stopwatch);
+	}
+
+	private void work(CacheClient client)
+	{
+		int reconnects = 0;
+
+		for (;;)
+		{
+			if (client == null || !client.isConnected())
+			{
+				if (client != null)
+				{
+					logger.info("Lost connection, reconnecting");
+					client.close();
+				}
+
+				if (reconnects++ >= MAX_RECONNECTS)
+				{
+					logger.warn("Unable to reconnect after {} attempts, giving up", MAX_RECONNECTS);
+					return;
+				}
+
+				try
+				{
+					if (reconnects > 1)
+					{
+						Thread.sleep(RECONNECT_DELAY_MS * reconnects);
+					}
+					client = connect();
+				}
+				catch (IOException ex)
+				{
+					logger.warn("Unable to connect", ex);
+					client = null;
+					continue;
+				}
+				catch (InterruptedException ex)
+				{
+					return;
+				}
+			}
+
+			Archive archive;
+			synchronized (this)
+			{
+				if (remaining == 0)
+				{
+					return;
+				}
+
+				archive = pending.poll();
+			}
+
+			if (archive == null)
+			{
+				// push out the requests buffered so far and wait for work to be requeued or finish
+				client.flush();
+
+				synchronized (this)
+				{
+					if (pending.isEmpty() && remaining > 0)
+					{
+						try
+						{
+							wait(100L);
+						}
+						catch (InterruptedException ex)
+						{
+							return;
+						}
+					}
+				}
+				continue;
+			}
+
+			CompletableFuture<FileResult> future;
+			try
+			{
+				future = client.requestFile(archive.getIndex().getId(), archive.getArchiveId(), false);
+			}
+			catch (IllegalStateException ex)
+			{
+				// the connection dropped, try again on a new one
+				requeue(archive, false);
+				continue;
+			}
+
+			reconnects = 0;
+			expire(client, archive, future);
+			future.whenComplete((fr, ex) -> onComplete(archive, fr, ex));
+		}
+	}
+
+	/**
+	 * Fail the request if it is not answered before its deadline, and close
+	 * the connection it was sent on. Closing wakes up the worker and fails the
+	 * connection's other requests, so all of them are requeued and the worker
+	 * reconnects.
+	 */
+	private void expire(CacheClient client, Archive archive, CompletableFuture<FileResult> future)
+	{
+		ScheduledFuture<?> timeout = timeouts.schedule(() ->
+		{
+			if (future.completeExceptionally(new TimeoutException("Request timed out")))
+			{
+				logger.warn("Request for archive {}/{} timed out, reconnecting",
+					archive.getIndex().getId(), archive.getArchiveId());
+				client.close();
+			}
+		}, requestTimeoutMs, TimeUnit.MILLISECONDS);
+		future.whenComplete((fr, ex) -> timeout.cancel(false));
+	}
+
+	private void onComplete(Archive archive, FileResult fr, Throwable ex)
+	{
+		final int indexId = archive.getIndex().getId();
+		final int archiveId = archive.getArchiveId();
+
+		if (ex != null)
+		{
+			logger.debug("Request for archive {}/{} failed", indexId, archiveId, ex);
+			requeue(archive, true);
+			return;
+		}
+
+		byte[] data = fr.getCompressedData();
+
+		Crc32 crc32 = new Crc32();
+		crc32.update(data, 0, data.length);
+		int hash = crc32.getHash();
+
+		if (hash != archive.getCrc())
+		{
+			logger.warn("crc mismatch on downloaded archive {}/{}: {} != {}",
+				indexId, archiveId, hash, archive.getCrc());
+			requeue(archive, true);
+			return;
+		}
+
+		try
+		{
+			synchronized (storageLock)
+			{
+				store.getStorage().saveArchive(archive, data);
+				if (progress != null)
+				{
+					progress.complete(indexId, archiveId, archive.getCrc());
+				}
+			}
+		}
+		catch (IOException ex1)
+		{
+			logger.warn("unable to save archive data", ex1);
+			requeue(archive, true);
+			return;
+		}
+
+		synchronized (this)
+		{
+			--remaining;
+			notifyAll();
+		}
+	}
+
+	private synchronized void requeue(Archive archive, boolean attempted)
+	{
+		if (attempted)
+		{
+			int count = attempts.merge(archive, 1, Integer::sum);
+			if (count >= MAX_ATTEMPTS)
+			{
+				logger.warn("Giving up on archive {}/{} after {} attempts",
+					archive.getIndex().getId(), archive.getArchiveId(), count);
+				++failed;
+				--remaining;
+				notifyAll();
+				return;
+			}
+		}
+
+		pending.addFirst(archive);
+		notifyAll();
+	}
+
+	private CacheClient connect() throws IOException
+	{
+		CacheClient client = new CacheClient(store, host, port, clientRevision);
+		synchronized (clients)
+		{
+			clients.add(client);
+		}
+
+		try
+		{
+			client.connect();
+			HandshakeResponseType response = client.handshake().get(HANDSHAKE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			if (response != HandshakeResponseType.RESPONSE_OK)
+			{
+				throw new IOException("Handshake failed: " + response);
+			}
+			return client;
+		}
+		catch (IOException ex)
+		{
+			client.close();
+			throw ex;
+		}
+		catch (Exception ex)
+		{
+			client.close();
+			throw new IOException("Unable to connect to " + host + ":" + port, ex);
+		}
+	}
+}
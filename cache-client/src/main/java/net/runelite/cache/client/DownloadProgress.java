@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Journal of archives which have been downloaded and saved, used to resume an
+ * interrupted download. Each line records the index, archive and crc of one
+ * saved archive; a record only counts if the crc still matches.
+ */
+public class DownloadProgress implements Closeable
+{
+	private static final Logger logger = LoggerFactory.getLogger(DownloadProgress.class);
+
+	private final File file;
+	private final Map<Long, Integer> completed = new HashMap<>();
+	private Writer writer;
+
+	public DownloadProgress(File file) throws IOException
+	{
+		this.file = file;
+
+		if (file.exists())
+		{
+			List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+			for (String line : lines)
+			{
+				String[] parts = line.split(" ");
+				if (parts.length != 3)
+				{
+					// a torn write from an interrupted run
+					logger.debug("Skipping malformed progress entry: {}", line);
+					continue;
+				}
+
+				try
+				{
+					completed.put(key(Integer.parseInt(parts[0]), Integer.parseInt(parts[1])), Integer.parseInt(parts[2]));
+				}
+				catch (NumberFormatException ex)
+				{
+					logger.debug("Skipping malformed progress entry: {}", line);
+				}
+			}
+
+			logger.info("Loaded {} completed archives from {}", completed.size(), file);
+		}
+
+		writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8));
+	}
+
+	public synchronized boolean isComplete(int index, int archive, int crc)
+	{
+		Integer c = completed.get(key(index, archive));
+		return c != null && c == crc;
+	}
+
+	public synchronized void complete(int index, int archive, int crc) throws IOException
+	{
+		completed.put(key(index, archive), crc);
+		writer.write(index + " " + archive + " " + crc + "\n");
+		writer.flush();
+	}
+
+	public synchronized int size()
+	{
+		return completed.size();
+	}
+
+	/**
+	 * Forget all progress, eg. once the store has been saved.
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void clear() throws IOException
+	{
+		writer.close();
+		completed.clear();
+		writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, false), StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public synchronized void close() throws IOException
+	{
+		writer.close();
+	}
+
+	private static long key(int index, int archive)
+	{
+		return ((long) index << 32) | (archive & 0xFFFFFFFFL);
+	}
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import net.runelite.protocol.api.handshake.HandshakeResponsePacket;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import net.runelite.protocol.api.update.ArchiveResponsePacket;
+import net.runelite.protocol.handshake.HandshakeResponseEncoder;
+import net.runelite.protocol.update.encoders.ArchiveResponseEncoder;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheDownloaderTest
+{
+	private static final int REVISION = 42;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Store source;
+	private EventLoopGroup group;
+	private Channel server;
+
+	private final AtomicInteger archiveRequests = new AtomicInteger();
+	private final AtomicBoolean drop = new AtomicBoolean();
+	private final AtomicBoolean swallow = new AtomicBoolean();
+
+	@Before
+	public void before() throws IOException
+	{
+		File root = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(root)))
+		{
+			for (int i = 0; i < 3; ++i)
+			{
+				Index index = store.addIndex(i);
+				for (int j = 0; j < 200; ++j)
+				{
+					Archive archive = index.addArchive(j);
+					FileData[] fileData = new FileData[1];
+					fileData[0] = new FileData();
+					archive.setFileData(fileData);
+
+					Container container = new Container((i + j) % 3, -1);
+					container.compress(contents(i, j), null);
+					store.getStorage().saveArchive(archive, container.data);
+				}
+			}
+			store.save();
+		}
+
+		source = new Store(new DiskStorage(root));
+		source.load();
+
+		group = new NioEventLoopGroup(2);
+		server = new ServerBootstrap()
+			.group(group)
+			.channel(NioServerSocketChannel.class)
+			.childHandler(new ChannelInitializer<SocketChannel>()
+			{
+				@Override
+				protected void initChannel(SocketChannel ch)
+				{
+					ch.pipeline().addLast(
+						new HandshakeResponseEncoder(),
+						new ArchiveResponseEncoder(),
+						new UpdateServerDecoder()
+					);
+				}
+			})
+			.bind("127.0.0.1", 0)
+			.syncUninterruptibly()
+			.channel();
+	}
+
+	@After
+	public void after() throws IOException
+	{
+		server.close().syncUninterruptibly();
+		group.shutdownGracefully();
+		source.close();
+	}
+
+	@Test
+	public void testDownload() throws IOException
+	{
+		// drop the first connection to serve an archive partway through
+		drop.set(true);
+
+		File root = folder.newFolder();
+		File progressFile = folder.newFile();
+		try (Store store = new Store(new DiskStorage(root));
+			DownloadProgress progress = new DownloadProgress(progressFile))
+		{
+			new CacheDownloader(store, "127.0.0.1", port(), REVISION, 3, progress).download();
+			store.save();
+
+			Assert.assertEquals(600, progress.size());
+		}
+
+		assertContents(root);
+	}
+
+	@Test
+	public void testRequestTimeout() throws IOException
+	{
+		// never answer one request, the connection stays open
+		swallow.set(true);
+
+		File root = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(root)))
+		{
+			new CacheDownloader(store, "127.0.0.1", port(), REVISION, 2, null, 500L).download();
+			store.save();
+		}
+
+		Assert.assertFalse(swallow.get());
+		assertContents(root);
+	}
+
+	@Test
+	public void testResume() throws IOException
+	{
+		File root = folder.newFolder();
+		File progressFile = folder.newFile();
+		try (Store store = new Store(new DiskStorage(root));
+			DownloadProgress progress = new DownloadProgress(progressFile))
+		{
+			// the store is not saved, as if the download was interrupted
+			new CacheDownloader(store, "127.0.0.1", port(), REVISION, 2, progress).download();
+		}
+
+		archiveRequests.set(0);
+
+		try (Store store = new Store(new DiskStorage(root));
+			DownloadProgress progress = new DownloadProgress(progressFile))
+		{
+			store.load();
+			new CacheDownloader(store, "127.0.0.1", port(), REVISION, 2, progress).download();
+			store.save();
+		}
+
+		Assert.assertEquals(0, archiveRequests.get());
+		assertContents(root);
+	}
+
+	private void assertContents(File root) throws IOException
+	{
+		try (Store store = new Store(new DiskStorage(root)))
+		{
+			store.load();
+
+			Assert.assertEquals(3, store.getIndexes().size());
+			for (Index index : store.getIndexes())
+			{
+				Assert.assertEquals(200, index.getArchives().size());
+				for (Archive archive : index.getArchives())
+				{
+					byte[] data = store.getStorage().loadArchive(archive);
+					byte[] contents = archive.getFiles(data).findFile(0).getContents();
+					Assert.assertArrayEquals(contents(index.getId(), archive.getArchiveId()), contents);
+				}
+			}
+		}
+	}
+
+	private int port()
+	{
+		return ((InetSocketAddress) server.localAddress()).getPort();
+	}
+
+	private static byte[] contents(int index, int archive)
+	{
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i <= archive; ++i)
+		{
+			sb.append("index ").append(index).append(" archive ").append(archive).append('\n');
+		}
+		return sb.toString().getBytes();
+	}
+
+	/**
+	 * Minimal update server which serves archives from the source store
+	 */
+	private class UpdateServerDecoder extends ByteToMessageDecoder
+	{
+		private boolean handshaken;
+
+		@Override
+		protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception
+		{
+			if (!handshaken)
+			{
+				if (in.readableBytes() < 5)
+				{
+					return;
+				}
+
+				in.skipBytes(1); // handshake type
+				Assert.assertEquals(REVISION, in.readInt());
+				handshaken = true;
+
+				HandshakeResponsePacket response = new HandshakeResponsePacket();
+				response.setResponse(HandshakeResponseType.RESPONSE_OK);
+				ctx.writeAndFlush(response);
+			}
+
+			while (in.readableBytes() >= 4)
+			{
+				int opcode = in.readUnsignedByte();
+				int index = in.readUnsignedByte();
+				int archive = in.readUnsignedShort();
+
+				if (opcode != 0 && opcode != 1)
+				{
+					// encryption, logged in/out
+					continue;
+				}
+
+				ArchiveResponsePacket response = new ArchiveResponsePacket();
+				response.setIndex(index);
+				response.setArchive(archive);
+				response.setData(read(index, archive));
+
+				if (index != 255 && archiveRequests.incrementAndGet() > 50 && drop.compareAndSet(true, false))
+				{
+					ctx.close();
+					return;
+				}
+
+				if (index != 255 && archiveRequests.get() > 50 && swallow.compareAndSet(true, false))
+				{
+					continue;
+				}
+
+				ctx.write(response);
+			}
+
+			ctx.flush();
+		}
+
+		private byte[] read(int index, int archive) throws IOException
+		{
+			DiskStorage storage = (DiskStorage) source.getStorage();
+			if (index != 255)
+			{
+				return storage.loadArchive(source.findIndex(index).getArchive(archive));
+			}
+
+			if (archive != 255)
+			{
+				return storage.readIndex(archive);
+			}
+
+			ByteBuf buf = Unpooled.buffer();
+			for (Index i : source.getIndexes())
+			{
+				buf.writeInt(i.getCrc());
+				buf.writeInt(i.getRevision());
+			}
+
+			byte[] data = new byte[buf.readableBytes()];
+			buf.readBytes(data);
+
+			Container container = new Container(CompressionType.NONE, -1);
+			container.compress(data, null);
+			return container.data;
+		}
+	}
+}
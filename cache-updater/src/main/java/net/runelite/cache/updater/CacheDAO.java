@@ -25,9 +25,11 @@
 package net.runelite.cache.updater;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import net.runelite.cache.updater.beans.ArchiveEntry;
 import net.runelite.cache.updater.beans.CacheEntry;
+import net.runelite.cache.updater.beans.FileEntry;
 import net.runelite.cache.updater.beans.IndexEntry;
 import org.sql2o.Connection;
 import org.sql2o.Query;
@@ -35,6 +37,8 @@ import org.sql2o.ResultSetIterable;
 
 class CacheDAO
 {
+	private static final int BATCH_SIZE = 1000;
+
 	// cache prepared statements for high volume queries
 	private Query associateArchive;
 	private Query findArchive, insertArchive;
@@ -96,16 +100,35 @@ class CacheDAO
 		return entry;
 	}
 
-	public void associateArchiveToIndex(Connection con, ArchiveEntry archive, IndexEntry index)
+	/**
+	 * Associate archives to an index, batching the inserts
+	 */
+	public void associateArchivesToIndex(Connection con, Collection<ArchiveEntry> archives, IndexEntry index)
 	{
 		if (associateArchive == null)
 		{
-			associateArchive = con.createQuery("insert into index_archive (`index`, archive) values (:index, :archive)");
+			associateArchive = con.createQuery("insert into index_archive (`index`, archive) values (:index, :archive)", false);
+		}
+
+		int batched = 0;
+		for (ArchiveEntry archive : archives)
+		{
+			associateArchive
+				.addParameter("index", index.getId())
+				.addParameter("archive", archive.getId())
+				.addToBatch();
+
+			if (++batched == BATCH_SIZE)
+			{
+				associateArchive.executeBatch();
+				batched = 0;
+			}
+		}
+
+		if (batched > 0)
+		{
+			associateArchive.executeBatch();
 		}
-		associateArchive
-			.addParameter("index", index.getId())
-			.addParameter("archive", archive.getId())
-			.executeUpdate();
 	}
 
 	public ArchiveEntry findArchive(Connection con, IndexEntry index,
@@ -134,8 +157,11 @@ class CacheDAO
 		return entry;
 	}
 
-	public ArchiveEntry createArchive(Connection con, IndexEntry index,
-		int archiveId, int nameHash, int crc, int revision, byte[] hash)
+	/**
+	 * Insert new archives, batching the inserts. The ids of the entries are
+	 * set to their generated keys.
+	 */
+	public void createArchives(Connection con, List<ArchiveEntry> archives)
 	{
 		if (insertArchive == null)
 		{
@@ -143,35 +169,62 @@ class CacheDAO
 				+ "(:archiveId, :nameHash, :crc, :revision, :hash)");
 		}
 
-		int id = insertArchive
-			.addParameter("archiveId", archiveId)
-			.addParameter("nameHash", nameHash)
-			.addParameter("crc", crc)
-			.addParameter("revision", revision)
-			.addParameter("hash", hash)
-			.executeUpdate()
-			.getKey(int.class);
-
-		ArchiveEntry entry = new ArchiveEntry();
-		entry.setId(id);
-		entry.setArchiveId(archiveId);
-		entry.setNameHash(nameHash);
-		entry.setCrc(crc);
-		entry.setRevision(revision);
-		entry.setHash(hash);
-		return entry;
+		for (int i = 0; i < archives.size(); i += BATCH_SIZE)
+		{
+			List<ArchiveEntry> batch = archives.subList(i, Math.min(i + BATCH_SIZE, archives.size()));
+			for (ArchiveEntry archive : batch)
+			{
+				insertArchive
+					.addParameter("archiveId", archive.getArchiveId())
+					.addParameter("nameHash", archive.getNameHash())
+					.addParameter("crc", archive.getCrc())
+					.addParameter("revision", archive.getRevision())
+					.addParameter("hash", archive.getHash())
+					.addToBatch();
+			}
+
+			List<Integer> keys = insertArchive.executeBatch().getKeys(Integer.class);
+			if (keys.size() != batch.size())
+			{
+				throw new IllegalStateException("Expected " + batch.size() + " generated keys, got " + keys.size());
+			}
+
+			for (int j = 0; j < batch.size(); ++j)
+			{
+				batch.get(j).setId(keys.get(j));
+			}
+		}
 	}
 
-	public void associateFileToArchive(Connection con, ArchiveEntry archive, int fileId, int nameHash)
+	/**
+	 * Associate files to their archives, batching the inserts
+	 */
+	public void associateFilesToArchives(Connection con, Collection<FileEntry> files)
 	{
 		if (associateFile == null)
 		{
-			associateFile = con.createQuery("insert into file (archive, fileId, nameHash) values (:archive, :fileId, :nameHash)");
+			associateFile = con.createQuery("insert into file (archive, fileId, nameHash) values (:archive, :fileId, :nameHash)", false);
+		}
+
+		int batched = 0;
+		for (FileEntry file : files)
+		{
+			associateFile
+				.addParameter("archive", file.getArchiveId())
+				.addParameter("fileId", file.getFileId())
+				.addParameter("nameHash", file.getNameHash())
+				.addToBatch();
+
+			if (++batched == BATCH_SIZE)
+			{
+				associateFile.executeBatch();
+				batched = 0;
+			}
+		}
+
+		if (batched > 0)
+		{
+			associateFile.executeBatch();
 		}
-		associateFile
-			.addParameter("archive", archive.getId())
-			.addParameter("fileId", fileId)
-			.addParameter("nameHash", nameHash)
-			.executeUpdate();
 	}
 }
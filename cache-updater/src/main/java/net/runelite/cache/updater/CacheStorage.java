@@ -25,7 +25,11 @@
 package net.runelite.cache.updater;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import lombok.Value;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
@@ -33,15 +37,28 @@ import net.runelite.cache.fs.Store;
 import net.runelite.cache.index.FileData;
 import net.runelite.cache.updater.beans.ArchiveEntry;
 import net.runelite.cache.updater.beans.CacheEntry;
+import net.runelite.cache.updater.beans.FileEntry;
 import net.runelite.cache.updater.beans.IndexEntry;
 import org.sql2o.Connection;
 import org.sql2o.ResultSetIterable;
 
 public class CacheStorage implements Storage
 {
+	@Value
+	private static class ArchiveKey
+	{
+		int indexId;
+		int archiveId;
+		int nameHash;
+		int crc;
+		int revision;
+	}
+
 	private CacheEntry cacheEntry;
 	private final CacheDAO cacheDao;
 	private final Connection con;
+	// archives of loaded caches, which can be linked to a new cache without querying for them
+	private final Map<ArchiveKey, ArchiveEntry> knownArchives = new HashMap<>();
 
 	public CacheStorage(CacheEntry cacheEntry, CacheDAO cacheDao, Connection con)
 	{
@@ -95,6 +112,9 @@ public class CacheStorage implements Storage
 					archive.setRevision(archiveEntry.getRevision());
 					archive.setHash(archiveEntry.getHash());
 
+					knownArchives.put(new ArchiveKey(indexEntry.getIndexId(), archiveEntry.getArchiveId(),
+						archiveEntry.getNameHash(), archiveEntry.getCrc(), archiveEntry.getRevision()), archiveEntry);
+
 					// File data is not necessary for cache updating
 				}
 			}
@@ -108,24 +128,67 @@ public class CacheStorage implements Storage
 		{
 			IndexEntry entry = cacheDao.createIndex(con, cacheEntry, index.getId(), index.getCrc(), index.getRevision());
 
+			List<ArchiveEntry> archiveEntries = new ArrayList<>(index.getArchives().size());
+			List<ArchiveEntry> created = new ArrayList<>();
+			List<Archive> createdArchives = new ArrayList<>();
+
 			for (Archive archive : index.getArchives())
 			{
-				ArchiveEntry archiveEntry = cacheDao.findArchive(con, entry, archive.getArchiveId(),
+				ArchiveKey key = new ArchiveKey(index.getId(), archive.getArchiveId(),
 					archive.getNameHash(), archive.getCrc(), archive.getRevision());
+
+				// unchanged archives are known from loading the previous cache
+				ArchiveEntry archiveEntry = knownArchives.get(key);
 				if (archiveEntry == null)
 				{
-					byte[] hash = archive.getHash();
-					archiveEntry = cacheDao.createArchive(con, entry, archive.getArchiveId(),
-						archive.getNameHash(), archive.getCrc(), archive.getRevision(), hash);
+					// the archive may still be shared with an older cache
+					archiveEntry = cacheDao.findArchive(con, entry, archive.getArchiveId(),
+						archive.getNameHash(), archive.getCrc(), archive.getRevision());
+				}
 
-					for (FileData file : archive.getFileData())
-					{
-						cacheDao.associateFileToArchive(con, archiveEntry, file.getId(), file.getNameHash());
-					}
+				if (archiveEntry == null)
+				{
+					archiveEntry = new ArchiveEntry();
+					archiveEntry.setArchiveId(archive.getArchiveId());
+					archiveEntry.setNameHash(archive.getNameHash());
+					archiveEntry.setCrc(archive.getCrc());
+					archiveEntry.setRevision(archive.getRevision());
+					archiveEntry.setHash(archive.getHash());
+
+					created.add(archiveEntry);
+					createdArchives.add(archive);
+				}
+				else
+				{
+					knownArchives.put(key, archiveEntry);
 				}
 
-				cacheDao.associateArchiveToIndex(con, archiveEntry, entry);
+				archiveEntries.add(archiveEntry);
 			}
+
+			cacheDao.createArchives(con, created);
+
+			List<FileEntry> files = new ArrayList<>();
+			for (int i = 0; i < created.size(); ++i)
+			{
+				ArchiveEntry archiveEntry = created.get(i);
+				Archive archive = createdArchives.get(i);
+
+				for (FileData file : archive.getFileData())
+				{
+					FileEntry fileEntry = new FileEntry();
+					fileEntry.setArchiveId(archiveEntry.getId());
+					fileEntry.setFileId(file.getId());
+					fileEntry.setNameHash(file.getNameHash());
+					files.add(fileEntry);
+				}
+
+				knownArchives.put(new ArchiveKey(index.getId(), archive.getArchiveId(),
+					archive.getNameHash(), archive.getCrc(), archive.getRevision()), archiveEntry);
+			}
+
+			cacheDao.associateFilesToArchives(con, files);
+			cacheDao.associateArchivesToIndex(con, archiveEntries, entry);
 		}
 	}
 
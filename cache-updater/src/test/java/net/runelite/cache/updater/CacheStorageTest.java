@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.updater;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.updater.beans.CacheEntry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sql2o.Connection;
+import org.sql2o.Sql2o;
+import org.sql2o.converters.Converter;
+import org.sql2o.quirks.NoQuirks;
+
+public class CacheStorageTest
+{
+	private static final int ARCHIVES = 2500;
+	private static final int FILES = 3;
+
+	private Sql2o sql2o;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Before
+	public void before() throws IOException
+	{
+		Map<Class, Converter> converters = new HashMap<>();
+		converters.put(Instant.class, new InstantConverter());
+		sql2o = new Sql2o("jdbc:h2:mem:" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", null, null, new NoQuirks(converters));
+
+		// h2 only supports utf8 table charsets
+		String schema = new String(Files.readAllBytes(Paths.get("schema.sql")), StandardCharsets.UTF_8)
+			.replace("CHARSET=latin1", "CHARSET=utf8");
+		File schemaFile = folder.newFile("schema.sql");
+		Files.write(schemaFile.toPath(), schema.getBytes(StandardCharsets.UTF_8));
+
+		try (Connection con = sql2o.open())
+		{
+			con.createQuery("runscript from '" + schemaFile.getAbsolutePath() + "'").executeUpdate();
+		}
+	}
+
+	@Test
+	public void testSave() throws IOException
+	{
+		try (Connection con = sql2o.beginTransaction())
+		{
+			// the dao caches statements, so it is per connection
+			CacheDAO cacheDao = new CacheDAO();
+			CacheEntry cache = cacheDao.createCache(con, 1, Instant.ofEpochSecond(1));
+			try (Store store = new Store(new CacheStorage(cache, cacheDao, con)))
+			{
+				Index index = store.addIndex(0);
+				for (int i = 0; i < ARCHIVES; ++i)
+				{
+					addArchive(index, i, i);
+				}
+				store.save();
+			}
+			con.commit();
+		}
+
+		Assert.assertEquals(ARCHIVES, count("archive"));
+		Assert.assertEquals(ARCHIVES * FILES, count("file"));
+		Assert.assertEquals(ARCHIVES, count("index_archive"));
+
+		// update one archive, link the rest to the new cache
+		try (Connection con = sql2o.beginTransaction())
+		{
+			CacheDAO cacheDao = new CacheDAO();
+			CacheEntry cache = cacheDao.findMostRecent(con);
+			CacheStorage storage = new CacheStorage(cache, cacheDao, con);
+			try (Store store = new Store(storage))
+			{
+				store.load();
+
+				Index index = store.findIndex(0);
+				index.getArchive(42).setCrc(-1);
+				index.getArchive(42).setFileData(fileData());
+
+				storage.setCacheEntry(cacheDao.createCache(con, 2, Instant.ofEpochSecond(2)));
+				store.save();
+			}
+			con.commit();
+		}
+
+		Assert.assertEquals(ARCHIVES + 1, count("archive"));
+		Assert.assertEquals((ARCHIVES + 1) * FILES, count("file"));
+		Assert.assertEquals(ARCHIVES * 2, count("index_archive"));
+
+		try (Connection con = sql2o.open())
+		{
+			CacheDAO cacheDao = new CacheDAO();
+			CacheEntry cache = cacheDao.findMostRecent(con);
+			Assert.assertEquals(2, cache.getRevision());
+
+			try (Store store = new Store(new CacheStorage(cache, cacheDao, con)))
+			{
+				store.load();
+
+				Index index = store.findIndex(0);
+				Assert.assertEquals(ARCHIVES, index.getArchives().size());
+				Assert.assertEquals(-1, index.getArchive(42).getCrc());
+				Assert.assertEquals(41, index.getArchive(41).getCrc());
+			}
+		}
+	}
+
+	private static void addArchive(Index index, int archiveId, int crc)
+	{
+		Archive archive = index.addArchive(archiveId);
+		archive.setNameHash(archiveId * 31);
+		archive.setCrc(crc);
+		archive.setRevision(1);
+		archive.setHash(new byte[32]);
+		archive.setFileData(fileData());
+	}
+
+	private static FileData[] fileData()
+	{
+		FileData[] fileData = new FileData[FILES];
+		for (int i = 0; i < FILES; ++i)
+		{
+			fileData[i] = new FileData();
+			fileData[i].setId(i);
+			fileData[i].setNameHash(i * 7);
+		}
+		return fileData;
+	}
+
+	private int count(String table)
+	{
+		try (Connection con = sql2o.open())
+		{
+			return con.createQuery("select count(*) from `" + table + "`")
+				.executeScalar(Integer.class);
+		}
+	}
+}
@@ -26,7 +26,14 @@ package net.runelite.cache;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.item.ItemIconRenderer;
+import net.runelite.cache.util.ParallelLoader;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -45,6 +52,7 @@ public class Cache
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
+		options.addOption(null, "icons", true, "directory to render item icons to");
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -115,6 +123,19 @@ public class Cache
 			System.out.println("Dumping sprites to " + spritedir);
 			dumpSprites(store, new File(spritedir));
 		}
+		else if (cmd.hasOption("icons"))
+		{
+			String icondir = cmd.getOptionValue("icons");
+
+			if (icondir == null)
+			{
+				System.err.println("Icon directory must be specified");
+				return;
+			}
+
+			System.out.println("Rendering item icons to " + icondir);
+			renderIcons(store, new File(icondir));
+		}
 		else
 		{
 			System.err.println("Nothing to do");
@@ -158,4 +179,32 @@ public class Cache
 		dumper.load();
 		dumper.export(spritedir);
 	}
+
+	private static void renderIcons(Store store, File icondir) throws IOException
+	{
+		ItemManager itemManager = new ItemManager(store);
+		itemManager.load();
+		itemManager.link();
+
+		SpriteManager spriteManager = new SpriteManager(store);
+		spriteManager.load();
+
+		TextureManager textureManager = new TextureManager(store);
+		textureManager.load();
+
+		Index models = store.getIndex(IndexType.MODELS);
+		ModelProvider modelProvider = modelId ->
+		{
+			Archive archive = models.getArchive(modelId);
+			byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+			return new ModelLoader().load(modelId, data);
+		};
+
+		icondir.mkdirs();
+
+		ItemIconRenderer renderer = new ItemIconRenderer(itemManager, modelProvider, spriteManager, textureManager);
+		List<ItemIconRenderer.Icon> icons = ItemIconRenderer.listIcons(itemManager.getItems());
+		int count = renderer.export(icons, icondir, ParallelLoader.defaultParallelism());
+		System.out.println("Rendered " + count + " of " + icons.size() + " item icons");
+	}
 }
@@ -27,8 +27,6 @@ package net.runelite.cache;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.DBRowDefinition;
 import net.runelite.cache.definitions.loaders.DBRowLoader;
 import net.runelite.cache.fs.Archive;
@@ -37,11 +35,12 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.IdRegistry;
 
 public class DBRowManager
 {
 	private final Store store;
-	private final Map<Integer, DBRowDefinition> rows = new HashMap<>();
+	private final IdRegistry<DBRowDefinition> rows = new IdRegistry<>();
 
 	public DBRowManager(Store store)
 	{
@@ -27,8 +27,6 @@ package net.runelite.cache;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.DBTableIndex;
 import net.runelite.cache.definitions.loaders.DBTableIndexLoader;
 import net.runelite.cache.fs.Archive;
@@ -37,11 +35,12 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.IdRegistry;
 
 public class DBTableIndexManager
 {
 	private final Store store;
-	private final Map<Integer, DBTableIndex> indexes = new HashMap<>();
+	private final IdRegistry<DBTableIndex> indexes = new IdRegistry<>();
 
 	public DBTableIndexManager(Store store)
 	{
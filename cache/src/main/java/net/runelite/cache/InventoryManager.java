@@ -36,11 +36,13 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.IdRegistry;
 
 public class InventoryManager
 {
 	private final Store store;
 	private final List<InventoryDefinition> inventories = new ArrayList<>();
+	private final IdRegistry<InventoryDefinition> inventoriesById = new IdRegistry<>();
 
 	public InventoryManager(Store store)
 	{
@@ -62,6 +64,7 @@ public class InventoryManager
 		{
 			InventoryDefinition inv = loader.load(file.getFileId(), file.getContents());
 			inventories.add(inv);
+			inventoriesById.put(inv.id, inv);
 		}
 	}
 
@@ -72,13 +75,6 @@ public class InventoryManager
 
 	public InventoryDefinition findInventory(int id)
 	{
-		for (InventoryDefinition def : inventories)
-		{
-			if (def.id == id)
-			{
-				return def;
-			}
-		}
-		return null;
+		return inventoriesById.get(id);
 	}
 }
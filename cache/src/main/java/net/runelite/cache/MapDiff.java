@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.util.Set;
+import java.util.TreeSet;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+
+/**
+ * Finds the parts of the world map which differ between two caches, by
+ * comparing archive crcs, so only those need to be drawn again.
+ */
+public class MapDiff
+{
+	private static final int MAX_REGION = 32768;
+
+	// definitions the map is drawn from, a change in which can affect any region
+	private static final ConfigType[] MAP_CONFIGS = {
+		ConfigType.UNDERLAY, ConfigType.OVERLAY, ConfigType.OBJECT, ConfigType.AREA
+	};
+
+	/**
+	 * Find the regions whose map or location archives differ between two caches,
+	 * including regions which were added or removed.
+	 *
+	 * @return ids of the changed regions
+	 */
+	public static Set<Integer> findChangedRegions(Store from, Store to)
+	{
+		Index fromMaps = from.findIndex(IndexType.MAPS.getNumber());
+		Index toMaps = to.findIndex(IndexType.MAPS.getNumber());
+
+		Set<Integer> changed = new TreeSet<>();
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			int x = i >> 8;
+			int y = i & 0xFF;
+
+			if (changed(fromMaps, toMaps, "m" + x + "_" + y)
+				|| changed(fromMaps, toMaps, "l" + x + "_" + y))
+			{
+				changed.add(i);
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Check whether any of the definitions shared by all regions differ between
+	 * two caches, in which case every region has to be drawn again.
+	 */
+	public static boolean definitionsChanged(Store from, Store to)
+	{
+		Index fromConfigs = from.findIndex(IndexType.CONFIGS.getNumber());
+		Index toConfigs = to.findIndex(IndexType.CONFIGS.getNumber());
+
+		for (ConfigType type : MAP_CONFIGS)
+		{
+			if (changed(archive(fromConfigs, type.getId()), archive(toConfigs, type.getId())))
+			{
+				return true;
+			}
+		}
+
+		// textures give overlays their colors, and sprites are drawn for map scenes and icons
+		return changed(from, to, IndexType.TEXTURES) || changed(from, to, IndexType.SPRITES);
+	}
+
+	/**
+	 * Get the regions around the given regions, whose drawing is affected by
+	 * them as objects and icons are drawn across region edges.
+	 *
+	 * @param regions region ids
+	 * @return the region ids and those of their neighbors
+	 */
+	public static Set<Integer> withNeighbors(Set<Integer> regions)
+	{
+		Set<Integer> affected = new TreeSet<>();
+		for (int region : regions)
+		{
+			int x = region >> 8;
+			int y = region & 0xFF;
+
+			for (int dx = -1; dx <= 1; ++dx)
+			{
+				for (int dy = -1; dy <= 1; ++dy)
+				{
+					int nx = x + dx;
+					int ny = y + dy;
+					if (nx >= 0 && nx < MAX_REGION >> 8 && ny >= 0 && ny <= 0xFF)
+					{
+						affected.add((nx << 8) | ny);
+					}
+				}
+			}
+		}
+		return affected;
+	}
+
+	private static boolean changed(Store from, Store to, IndexType type)
+	{
+		Index fromIndex = from.findIndex(type.getNumber());
+		Index toIndex = to.findIndex(type.getNumber());
+		return fromIndex == null || toIndex == null || fromIndex.getCrc() != toIndex.getCrc();
+	}
+
+	private static boolean changed(Index from, Index to, String name)
+	{
+		return changed(from != null ? from.findArchiveByName(name) : null,
+			to != null ? to.findArchiveByName(name) : null);
+	}
+
+	private static boolean changed(Archive a, Archive b)
+	{
+		if (a == null || b == null)
+		{
+			return a != b;
+		}
+
+		return a.getCrc() != b.getCrc();
+	}
+
+	private static Archive archive(Index index, int archiveId)
+	{
+		return index != null ? index.getArchive(archiveId) : null;
+	}
+}
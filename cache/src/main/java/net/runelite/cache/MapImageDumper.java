@@ -26,15 +26,18 @@ package net.runelite.cache;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
@@ -61,7 +64,9 @@ import net.runelite.cache.region.Position;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
 import net.runelite.cache.util.BigBufferedImage;
+import net.runelite.cache.util.IdRegistry;
 import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.ParallelLoader;
 import net.runelite.cache.util.XteaKeyManager;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -87,8 +92,8 @@ public class MapImageDumper
 
 	private final Store store;
 
-	private final Map<Integer, UnderlayDefinition> underlays = new HashMap<>();
-	private final Map<Integer, OverlayDefinition> overlays = new HashMap<>();
+	private final IdRegistry<UnderlayDefinition> underlays = new IdRegistry<>();
+	private final IdRegistry<OverlayDefinition> overlays = new IdRegistry<>();
 	private SpriteDefinition[] mapDecorations;
 
 	private final RegionLoader regionLoader;
@@ -145,6 +150,10 @@ public class MapImageDumper
 		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("tiles").build());
+		options.addOption(Option.builder().longOpt("regionspertile").hasArg().build());
+		options.addOption(Option.builder().longOpt("zoomlevels").hasArg().build());
+		options.addOption(Option.builder().longOpt("previouscachedir").hasArg().build());
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -180,6 +189,45 @@ public class MapImageDumper
 			MapImageDumper dumper = new MapImageDumper(store, xteaKeyManager);
 			dumper.load();
 
+			if (cmd.hasOption("tiles"))
+			{
+				int regionsPerTile = Integer.parseInt(cmd.getOptionValue("regionspertile", "1"));
+				int zoomLevels = Integer.parseInt(cmd.getOptionValue("zoomlevels", "1"));
+
+				// with a previous cache, only redraw the tiles which changed since it
+				Store previous = null;
+				if (cmd.hasOption("previouscachedir"))
+				{
+					previous = new Store(new File(cmd.getOptionValue("previouscachedir")));
+					previous.load();
+				}
+
+				try
+				{
+					for (int i = 0; i < Region.Z; ++i)
+					{
+						File tileDir = new File(outDir, "tiles-" + i);
+						if (previous != null)
+						{
+							dumper.updateMapTiles(i, tileDir, previous, regionsPerTile, zoomLevels, ParallelLoader.defaultParallelism());
+						}
+						else
+						{
+							dumper.drawMapTiles(i, tileDir, regionsPerTile, zoomLevels, ParallelLoader.defaultParallelism());
+						}
+						log.info("Wrote tiles to {}", tileDir);
+					}
+				}
+				finally
+				{
+					if (previous != null)
+					{
+						previous.close();
+					}
+				}
+				return;
+			}
+
 			for (int i = 0; i < Region.Z; ++i)
 			{
 				BufferedImage image = dumper.drawMap(i);
@@ -257,6 +305,264 @@ public class MapImageDumper
 		return image;
 	}
 
+	/**
+	 * Draw a square tile of the map covering {@code regionsPerTile} x {@code regionsPerTile}
+	 * regions, starting at region coordinates ({@code tileX * regionsPerTile}, {@code tileY * regionsPerTile}).
+	 * Objects and icons of the surrounding regions are drawn too, so adjacent tiles
+	 * line up the same as in the image from {@link #drawMap(int)}.
+	 */
+	public BufferedImage drawMapTile(int z, int tileX, int tileY, int regionsPerTile)
+	{
+		int regionX = tileX * regionsPerTile;
+		int regionY = tileY * regionsPerTile;
+		int pixels = regionsPerTile * Region.X * MAP_SCALE;
+
+		BufferedImage image = new BufferedImage(pixels, pixels, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+		// west most x and the base y of the top most region row of the tile
+		int baseX = regionX * Region.X;
+		int topBaseY = (regionY + regionsPerTile - 1) * Region.Y;
+
+		List<Region> regions = new ArrayList<>();
+		List<Region> surrounding = new ArrayList<>();
+		for (int rx = regionX - 1; rx <= regionX + regionsPerTile; ++rx)
+		{
+			for (int ry = regionY - 1; ry <= regionY + regionsPerTile; ++ry)
+			{
+				Region region = regionLoader.findRegionForRegionCoordinates(rx, ry);
+				if (region == null)
+				{
+					continue;
+				}
+
+				surrounding.add(region);
+				if (rx >= regionX && rx < regionX + regionsPerTile
+					&& ry >= regionY && ry < regionY + regionsPerTile)
+				{
+					regions.add(region);
+				}
+			}
+		}
+
+		for (Region region : regions)
+		{
+			drawMap(image, region.getBaseX() - baseX, topBaseY - region.getBaseY(), z, region);
+		}
+
+		for (Region region : surrounding)
+		{
+			drawObjects(image, region.getBaseX() - baseX, topBaseY - region.getBaseY(), region, z);
+		}
+
+		for (Region region : surrounding)
+		{
+			drawMapIcons(image, region.getBaseX() - baseX, topBaseY - region.getBaseY(), region, z);
+		}
+
+		return image;
+	}
+
+	/**
+	 * Draw the map of a plane as tiles of {@code regionsPerTile} x {@code regionsPerTile}
+	 * regions, writing each tile to {@code outDir/<zoom>/<x>_<y>.png} as soon as it is drawn,
+	 * so memory use is bounded by the tile size rather than the size of the world.
+	 * Zoom level 0 is full resolution, and each further level halves the resolution by
+	 * combining four tiles of the level below it.
+	 *
+	 * @param z plane
+	 * @param outDir directory to write tiles to
+	 * @param regionsPerTile width and height of a tile in regions
+	 * @param zoomLevels number of zoom levels to write, at least 1
+	 * @param parallelism number of tiles to draw at once
+	 * @return the tiles of zoom level 0
+	 * @throws IOException
+	 */
+	public List<Point> drawMapTiles(int z, File outDir, int regionsPerTile, int zoomLevels, int parallelism) throws IOException
+	{
+		Set<Point> tileSet = new LinkedHashSet<>();
+		for (Region region : regionLoader.getRegions())
+		{
+			tileSet.add(new Point(Math.floorDiv(region.getRegionX(), regionsPerTile), Math.floorDiv(region.getRegionY(), regionsPerTile)));
+		}
+
+		List<Point> tiles = new ArrayList<>(tileSet);
+
+		log.info("Drawing {} tiles of {}x{} regions for plane {}", tiles.size(), regionsPerTile, regionsPerTile, z);
+
+		writeTiles(z, outDir, tiles, regionsPerTile, zoomLevels, parallelism);
+		return tiles;
+	}
+
+	/**
+	 * Redraw the tiles written by {@link #drawMapTiles(int, File, int, int, int)} from a
+	 * previous cache which differ in this one. If any of the definitions shared by all
+	 * regions differ every tile is drawn again, otherwise only the tiles of the changed
+	 * regions and their neighbors are.
+	 *
+	 * @param z plane
+	 * @param outDir directory the tiles were written to
+	 * @param previous the cache the tiles were drawn from
+	 * @param regionsPerTile width and height of a tile in regions
+	 * @param zoomLevels number of zoom levels, at least 1
+	 * @param parallelism number of tiles to draw at once
+	 * @return the tiles of zoom level 0 which were redrawn or deleted
+	 * @throws IOException
+	 */
+	public List<Point> updateMapTiles(int z, File outDir, Store previous, int regionsPerTile, int zoomLevels, int parallelism) throws IOException
+	{
+		if (MapDiff.definitionsChanged(previous, store))
+		{
+			log.info("Map definitions have changed, redrawing all tiles for plane {}", z);
+			return drawMapTiles(z, outDir, regionsPerTile, zoomLevels, parallelism);
+		}
+
+		return updateMapTiles(z, outDir, MapDiff.findChangedRegions(previous, store), regionsPerTile, zoomLevels, parallelism);
+	}
+
+	/**
+	 * Redraw the tiles written by {@link #drawMapTiles(int, File, int, int, int)} which
+	 * are affected by changes to the given regions, and the zoom level tiles above them.
+	 * Tiles which no longer contain any region are deleted. The tile size and number of
+	 * zoom levels must match those the tiles were drawn with.
+	 *
+	 * @param z plane
+	 * @param outDir directory the tiles were written to
+	 * @param changedRegions ids of the changed regions, see {@link MapDiff#findChangedRegions(Store, Store)}
+	 * @param regionsPerTile width and height of a tile in regions
+	 * @param zoomLevels number of zoom levels, at least 1
+	 * @param parallelism number of tiles to draw at once
+	 * @return the tiles of zoom level 0 which were redrawn or deleted
+	 * @throws IOException
+	 */
+	public List<Point> updateMapTiles(int z, File outDir, Set<Integer> changedRegions, int regionsPerTile, int zoomLevels, int parallelism) throws IOException
+	{
+		// objects and icons are drawn across region edges, so the tiles of neighboring regions change too
+		Set<Point> tileSet = new LinkedHashSet<>();
+		for (int regionId : MapDiff.withNeighbors(changedRegions))
+		{
+			tileSet.add(new Point(Math.floorDiv(regionId >> 8, regionsPerTile), Math.floorDiv(regionId & 0xFF, regionsPerTile)));
+		}
+
+		List<Point> tiles = new ArrayList<>(tileSet);
+
+		log.info("Updating {} tiles of {}x{} regions for plane {} for {} changed regions", tiles.size(),
+			regionsPerTile, regionsPerTile, z, changedRegions.size());
+
+		writeTiles(z, outDir, tiles, regionsPerTile, zoomLevels, parallelism);
+		return tiles;
+	}
+
+	private void writeTiles(int z, File outDir, List<Point> tiles, int regionsPerTile, int zoomLevels, int parallelism) throws IOException
+	{
+		File tileDir = new File(outDir, "0");
+		tileDir.mkdirs();
+
+		ParallelLoader.map(tiles, tile ->
+		{
+			File file = tileFile(tileDir, tile);
+			if (!hasRegions(tile, regionsPerTile))
+			{
+				Files.deleteIfExists(file.toPath());
+				return null;
+			}
+
+			BufferedImage image = drawMapTile(z, tile.x, tile.y, regionsPerTile);
+			ImageIO.write(image, "png", file);
+			return null;
+		}, parallelism);
+
+		File levelDir = tileDir;
+		List<Point> level = tiles;
+		for (int zoom = 1; zoom < zoomLevels; ++zoom)
+		{
+			Set<Point> parents = new LinkedHashSet<>();
+			for (Point tile : level)
+			{
+				parents.add(new Point(Math.floorDiv(tile.x, 2), Math.floorDiv(tile.y, 2)));
+			}
+
+			File childDir = levelDir;
+			File parentDir = levelDir = new File(outDir, Integer.toString(zoom));
+			parentDir.mkdirs();
+
+			level = new ArrayList<>(parents);
+			ParallelLoader.map(level, tile ->
+			{
+				File file = tileFile(parentDir, tile);
+				BufferedImage image = zoomOut(childDir, tile);
+				if (image == null)
+				{
+					Files.deleteIfExists(file.toPath());
+					return null;
+				}
+
+				ImageIO.write(image, "png", file);
+				return null;
+			}, parallelism);
+		}
+	}
+
+	private boolean hasRegions(Point tile, int regionsPerTile)
+	{
+		for (int rx = tile.x * regionsPerTile; rx < (tile.x + 1) * regionsPerTile; ++rx)
+		{
+			for (int ry = tile.y * regionsPerTile; ry < (tile.y + 1) * regionsPerTile; ++ry)
+			{
+				if (regionLoader.findRegionForRegionCoordinates(rx, ry) != null)
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Combine four tiles into one of half their resolution
+	 *
+	 * @return the tile, or null if none of the four tiles exist
+	 */
+	private BufferedImage zoomOut(File childDir, Point tile) throws IOException
+	{
+		BufferedImage image = null;
+		Graphics2D graphics = null;
+
+		for (int dx = 0; dx < 2; ++dx)
+		{
+			for (int dy = 0; dy < 2; ++dy)
+			{
+				File childFile = tileFile(childDir, new Point(tile.x * 2 + dx, tile.y * 2 + dy));
+				if (!childFile.exists())
+				{
+					continue;
+				}
+
+				BufferedImage child = ImageIO.read(childFile);
+				if (image == null)
+				{
+					image = new BufferedImage(child.getWidth(), child.getHeight(), transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+					graphics = image.createGraphics();
+					graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				}
+
+				int half = image.getWidth() / 2;
+				// north is up, so the child with the greater y goes on top
+				graphics.drawImage(child, dx * half, (1 - dy) * half, half, half, null);
+			}
+		}
+
+		if (graphics != null)
+		{
+			graphics.dispose();
+		}
+		return image;
+	}
+
+	private static File tileFile(File dir, Point tile)
+	{
+		return new File(dir, tile.x + "_" + tile.y + ".png");
+	}
+
 	private void drawNeighborObjects(BufferedImage image, int rx, int ry, int dx, int dy, int z)
 	{
 		Region neighbor = regionLoader.findRegionForRegionCoordinates(rx + dx, ry + dy);
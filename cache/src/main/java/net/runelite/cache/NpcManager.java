@@ -28,23 +28,20 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.IDClass;
+import net.runelite.cache.util.IdRegistry;
 
 public class NpcManager
 {
 	private final Store store;
-	private final Map<Integer, NpcDefinition> npcs = new HashMap<>();
+	private final IdRegistry<NpcDefinition> npcs = new IdRegistry<>();
 
 	public NpcManager(Store store)
 	{
@@ -52,22 +49,29 @@ public class NpcManager
 	}
 
 	public void load() throws IOException
+	{
+		load(1);
+	}
+
+	/**
+	 * Load the definitions, decoding them using up to {@code parallelism} threads.
+	 *
+	 * @param parallelism maximum number of threads to use
+	 * @throws IOException
+	 */
+	public void load(int parallelism) throws IOException
 	{
 		NpcLoader loader = new NpcLoader();
 
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.NPC.getId());
 
 		loader.setRev210HeadIcons(archive.getRevision() >= NpcLoader.REV_210_NPC_ARCHIVE_REV);
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
-
-		for (FSFile f : files.getFiles())
+		List<NpcDefinition> defs = store.loadFiles(archive, loader::load, parallelism);
+		for (NpcDefinition def : defs)
 		{
-			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
-			npcs.put(f.getFileId(), npc);
+			npcs.put(def.id, def);
 		}
 	}
 
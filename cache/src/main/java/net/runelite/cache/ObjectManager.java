@@ -28,23 +28,20 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.definitions.exporters.ObjectExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.IDClass;
+import net.runelite.cache.util.IdRegistry;
 
 public class ObjectManager
 {
 	private final Store store;
-	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private final IdRegistry<ObjectDefinition> objects = new IdRegistry<>();
 
 	public ObjectManager(Store store)
 	{
@@ -52,20 +49,27 @@ public class ObjectManager
 	}
 
 	public void load() throws IOException
+	{
+		load(1);
+	}
+
+	/**
+	 * Load the definitions, decoding them using up to {@code parallelism} threads.
+	 *
+	 * @param parallelism maximum number of threads to use
+	 * @throws IOException
+	 */
+	public void load(int parallelism) throws IOException
 	{
 		ObjectLoader loader = new ObjectLoader();
 
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.OBJECT.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
-
-		for (FSFile f : files.getFiles())
+		List<ObjectDefinition> defs = store.loadFiles(archive, loader::load, parallelism);
+		for (ObjectDefinition def : defs)
 		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
-			objects.put(f.getFileId(), def);
+			objects.put(def.getId(), def);
 		}
 	}
 
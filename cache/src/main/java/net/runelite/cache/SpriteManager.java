@@ -24,13 +24,13 @@
  */
 package net.runelite.cache;
 
-import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.Multimap;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import net.runelite.cache.definitions.SpriteDefinition;
 import net.runelite.cache.definitions.exporters.SpriteExporter;
 import net.runelite.cache.definitions.loaders.SpriteLoader;
@@ -39,11 +39,15 @@ import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.IdRegistry;
 
 public class SpriteManager implements SpriteProvider
 {
 	private final Store store;
-	private final Multimap<Integer, SpriteDefinition> sprites = LinkedListMultimap.create();
+	// frames of each sprite, indexed by frame id
+	private final IdRegistry<SpriteDefinition[]> sprites = new IdRegistry<>();
+	// every frame of every sprite, built once by load()
+	private Collection<SpriteDefinition> allSprites = Collections.emptyList();
 
 	public SpriteManager(Store store)
 	{
@@ -62,28 +66,30 @@ public class SpriteManager implements SpriteProvider
 			SpriteLoader loader = new SpriteLoader();
 			SpriteDefinition[] defs = loader.load(a.getArchiveId(), contents);
 
-			for (SpriteDefinition sprite : defs)
-			{
-				sprites.put(sprite.getId(), sprite);
-			}
+			sprites.put(a.getArchiveId(), defs);
 		}
+
+		List<SpriteDefinition> all = new ArrayList<>();
+		for (SpriteDefinition[] frames : sprites.values())
+		{
+			Collections.addAll(all, frames);
+		}
+		allSprites = Collections.unmodifiableCollection(all);
 	}
 
 	public Collection<SpriteDefinition> getSprites()
 	{
-		return Collections.unmodifiableCollection(sprites.values());
+		return allSprites;
 	}
 
 	public SpriteDefinition findSprite(int spriteId, int frameId)
 	{
-		for (SpriteDefinition sprite : sprites.get(spriteId))
+		SpriteDefinition[] frames = sprites.get(spriteId);
+		if (frames == null || frameId < 0 || frameId >= frames.length)
 		{
-			if (sprite.getFrame() == frameId)
-			{
-				return sprite;
-			}
+			return null;
 		}
-		return null;
+		return frames[frameId];
 	}
 
 	public BufferedImage getSpriteImage(SpriteDefinition sprite)
@@ -95,7 +101,7 @@ public class SpriteManager implements SpriteProvider
 
 	public void export(File outDir) throws IOException
 	{
-		for (SpriteDefinition sprite : sprites.values())
+		for (SpriteDefinition sprite : getSprites())
 		{
 			// I don't know why this happens
 			if (sprite.getHeight() <= 0 || sprite.getWidth() <= 0)
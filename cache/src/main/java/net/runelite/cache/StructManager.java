@@ -26,7 +26,6 @@ package net.runelite.cache;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import net.runelite.cache.definitions.StructDefinition;
 import net.runelite.cache.definitions.loaders.StructLoader;
@@ -37,11 +36,14 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.IdRegistry;
 
 public class StructManager implements StructProvider
 {
 	private final Store store;
-	private final Map<Integer, StructDefinition> structs = new HashMap<>();
+	private final IdRegistry<StructDefinition> structs = new IdRegistry<>();
+	// view returned by getStructs(), built once by load()
+	private Map<Integer, StructDefinition> structMap = Collections.emptyMap();
 
 	public StructManager(Store store)
 	{
@@ -64,11 +66,13 @@ public class StructManager implements StructProvider
 			StructDefinition def = loader.load(f.getFileId(), f.getContents());
 			structs.put(f.getFileId(), def);
 		}
+
+		structMap = Collections.unmodifiableMap(structs.toMap());
 	}
 
 	public Map<Integer, StructDefinition> getStructs()
 	{
-		return Collections.unmodifiableMap(structs);
+		return structMap;
 	}
 
 	public StructDefinition getStruct(int structId)
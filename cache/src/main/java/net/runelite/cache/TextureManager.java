@@ -36,11 +36,13 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.IdRegistry;
 
 public class TextureManager implements TextureProvider
 {
 	private final Store store;
 	private final List<TextureDefinition> textures = new ArrayList<>();
+	private final IdRegistry<TextureDefinition> texturesById = new IdRegistry<>();
 
 	public TextureManager(Store store)
 	{
@@ -62,6 +64,7 @@ public class TextureManager implements TextureProvider
 		{
 			TextureDefinition texture = loader.load(file.getFileId(), file.getContents());
 			textures.add(texture);
+			texturesById.put(texture.getId(), texture);
 		}
 	}
 
@@ -72,14 +75,7 @@ public class TextureManager implements TextureProvider
 
 	public TextureDefinition findTexture(int id)
 	{
-		for (TextureDefinition td : textures)
-		{
-			if (td.getId() == id)
-			{
-				return td;
-			}
-		}
-		return null;
+		return texturesById.get(id);
 	}
 
 	@Override
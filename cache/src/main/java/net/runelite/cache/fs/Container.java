@@ -27,8 +27,9 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import net.runelite.cache.fs.jagex.CompressionType;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 import net.runelite.cache.util.BZip2;
 import net.runelite.cache.util.Crc32;
@@ -41,6 +42,10 @@ public class Container
 {
 	private static final Logger logger = LoggerFactory.getLogger(Container.class);
 
+	private static final int HEADER_LENGTH = 5; // compression + compressed length
+
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[4096]);
+
 	public byte[] data;
 	public int compression; // compression
 	public int revision;
@@ -92,94 +97,95 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
+		return decompress(ByteBuffer.wrap(b), keys);
+	}
+
+	/**
+	 * Decompress the container held in the remaining bytes of {@code buffer}.
+	 * The buffer is not modified. Encrypted data is decrypted in place in a
+	 * per-thread scratch buffer, and compressed data is inflated straight into
+	 * an array of the decompressed length given in the header.
+	 *
+	 * @param buffer container data
+	 * @param keys xtea keys, or null
+	 * @return the decompressed container
+	 * @throws IOException
+	 */
+	public static Container decompress(ByteBuffer buffer, int[] keys) throws IOException
+	{
+		final int start = buffer.position();
+		final int remaining = buffer.remaining();
+		if (remaining < HEADER_LENGTH)
+		{
+			throw new IOException("Truncated container");
+		}
 
-		int compression = stream.readUnsignedByte();
-		int compressedLength = stream.readInt();
+		int compression = buffer.get(start) & 0xFF;
+		int compressedLength = buffer.getInt(start + 1);
 		if (compressedLength < 0 || compressedLength > 1000000)
 		{
 			throw new RuntimeException("Invalid data");
 		}
 
+		// bzip2 and gzip have the decompressed length prepended
+		int payloadLength = compression == CompressionType.NONE ? compressedLength : compressedLength + 4;
+		if (remaining < HEADER_LENGTH + payloadLength)
+		{
+			throw new IOException("Truncated container");
+		}
+
+		byte[] src;
+		int offset;
 		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
+		if (buffer.hasArray() && keys == null)
+		{
+			src = buffer.array();
+			offset = buffer.arrayOffset() + start + HEADER_LENGTH;
+			crc32.update(src, offset - HEADER_LENGTH, HEADER_LENGTH + payloadLength);
+		}
+		else
+		{
+			src = scratch(HEADER_LENGTH + payloadLength);
+			offset = HEADER_LENGTH;
+			ByteBuffer dup = buffer.duplicate();
+			dup.get(src, 0, HEADER_LENGTH + payloadLength);
+			crc32.update(src, 0, HEADER_LENGTH + payloadLength);
+
+			if (keys != null)
+			{
+				new Xtea(keys).decrypt(src, offset, payloadLength);
+			}
+		}
 
-		byte[] data;
 		int revision = -1;
+		if (remaining - (HEADER_LENGTH + payloadLength) >= 2)
+		{
+			revision = buffer.getShort(start + HEADER_LENGTH + payloadLength) & 0xFFFF;
+		}
+
+		byte[] data;
 		switch (compression)
 		{
 			case CompressionType.NONE:
-			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
-
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				data = decryptedData;
-
+				data = Arrays.copyOfRange(src, offset, offset + compressedLength);
 				break;
-			}
 			case CompressionType.BZ2:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = BZip2.decompress(stream.getRemaining(), compressedLength);
-
-				if (data == null)
-				{
-					return null;
-				}
-
-				assert data.length == decompressedLength;
-
-				break;
-			}
 			case CompressionType.GZ:
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
+				int decompressedLength = Ints.fromBytes(src[offset], src[offset + 1], src[offset + 2], src[offset + 3]);
+				if (decompressedLength < 0)
 				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
+					throw new IOException("Invalid decompressed length " + decompressedLength);
 				}
 
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = GZip.decompress(stream.getRemaining(), compressedLength);
-
-				if (data == null)
+				data = new byte[decompressedLength];
+				int read = compression == CompressionType.BZ2
+					? BZip2.decompress(src, offset + 4, compressedLength, data)
+					: GZip.decompress(src, offset + 4, compressedLength, data);
+				if (read != decompressedLength)
 				{
-					return null;
+					throw new IOException("Decompressed " + read + " bytes, expected " + decompressedLength);
 				}
-
-				assert data.length == decompressedLength;
-
 				break;
 			}
 			default:
@@ -192,15 +198,15 @@ public class Container
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	private static byte[] scratch(int length)
 	{
-		if (keys == null)
+		byte[] buf = SCRATCH.get();
+		if (buf.length < length)
 		{
-			return data;
+			buf = new byte[Math.max(length, buf.length * 2)];
+			SCRATCH.set(buf);
 		}
-
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+		return buf;
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
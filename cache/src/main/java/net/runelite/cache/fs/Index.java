@@ -25,7 +25,9 @@
 package net.runelite.cache.fs;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import net.runelite.cache.index.ArchiveData;
 import net.runelite.cache.index.FileData;
@@ -47,6 +49,12 @@ public class Index
 	private int compression; // compression method of this index's data in 255
 
 	private final List<Archive> archives = new ArrayList<>();
+	private final Map<Integer, Archive> archivesById = new HashMap<>();
+	/**
+	 * Archives keyed by name hash. Name hashes are assigned after archives are
+	 * added, so this is built lazily on lookup and discarded when they change.
+	 */
+	private volatile Map<Integer, Archive> archivesByName;
 
 	public Index(int id)
 	{
@@ -154,32 +162,36 @@ public class Index
 	{
 		Archive archive = new Archive(this, id);
 		this.archives.add(archive);
+		this.archivesById.putIfAbsent(id, archive);
+		this.archivesByName = null;
 		return archive;
 	}
 
 	public Archive getArchive(int id)
 	{
-		for (Archive a : archives)
-		{
-			if (a.getArchiveId() == id)
-			{
-				return a;
-			}
-		}
-		return null;
+		return archivesById.get(id);
 	}
 
 	public Archive findArchiveByName(String name)
 	{
 		int hash = Djb2.hash(name);
-		for (Archive a : archives)
+		Map<Integer, Archive> byName = archivesByName;
+		if (byName == null)
 		{
-			if (a.getNameHash() == hash)
+			byName = new HashMap<>(archives.size() * 2);
+			for (Archive a : archives)
 			{
-				return a;
+				// keep the first archive with a given name, like a linear search would
+				byName.putIfAbsent(a.getNameHash(), a);
 			}
+			archivesByName = byName;
 		}
-		return null;
+		return byName.get(hash);
+	}
+
+	void invalidateNames()
+	{
+		archivesByName = null;
 	}
 
 	public IndexData toIndexData()
@@ -29,10 +29,14 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.util.ParallelLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +46,7 @@ public final class Store implements Closeable
 
 	private final Storage storage;
 	private final List<Index> indexes = new ArrayList<>();
+	private final Map<Integer, Index> indexesById = new HashMap<>();
 
 	public Store(File folder) throws IOException
 	{
@@ -96,16 +101,14 @@ public final class Store implements Closeable
 
 	public final Index addIndex(int id) throws FileNotFoundException
 	{
-		for (Index i : indexes)
+		if (indexesById.containsKey(id))
 		{
-			if (i.getId() == id)
-			{
-				throw new IllegalArgumentException("index " + id + " already exists");
-			}
+			throw new IllegalArgumentException("index " + id + " already exists");
 		}
 
 		Index index = new Index(id);
 		this.indexes.add(index);
+		this.indexesById.put(id, index);
 
 		return index;
 	}
@@ -114,6 +117,7 @@ public final class Store implements Closeable
 	{
 		assert indexes.contains(index);
 		indexes.remove(index);
+		indexesById.remove(index.getId(), index);
 	}
 
 	public void load() throws IOException
@@ -138,13 +142,50 @@ public final class Store implements Closeable
 
 	public Index findIndex(int id)
 	{
-		for (Index i : indexes)
+		return indexesById.get(id);
+	}
+
+	/**
+	 * Read, decompress and process the given archives using up to
+	 * {@code parallelism} threads. The storage must support concurrent reads.
+	 *
+	 * @param archives archives to load
+	 * @param processor processor to run on each archive's files
+	 * @param parallelism maximum number of threads to use
+	 * @return the processed archives, in the iteration order of {@code archives}.
+	 * Archives which are missing from the storage produce a null element.
+	 * @throws IOException
+	 */
+	public <T> List<T> loadArchives(Collection<Archive> archives, ArchiveProcessor<T> processor, int parallelism) throws IOException
+	{
+		return ParallelLoader.map(archives, archive ->
 		{
-			if (i.getId() == id)
+			byte[] data = storage.loadArchive(archive);
+			if (data == null)
 			{
-				return i;
+				logger.debug("Archive {}/{} is missing", archive.getIndex().getId(), archive.getArchiveId());
+				return null;
 			}
-		}
-		return null;
+
+			ArchiveFiles files = archive.getFiles(data);
+			return processor.process(archive, files);
+		}, parallelism);
+	}
+
+	/**
+	 * Read and decompress an archive, then process each of its files using up
+	 * to {@code parallelism} threads.
+	 *
+	 * @param archive archive to load
+	 * @param processor processor to run on each file
+	 * @param parallelism maximum number of threads to use
+	 * @return the processed files, in file order
+	 * @throws IOException
+	 */
+	public <T> List<T> loadFiles(Archive archive, FileProcessor<T> processor, int parallelism) throws IOException
+	{
+		byte[] data = storage.loadArchive(archive);
+		ArchiveFiles files = archive.getFiles(data);
+		return ParallelLoader.map(files.getFiles(), f -> processor.process(f.getFileId(), f.getContents()), parallelism);
 	}
 }
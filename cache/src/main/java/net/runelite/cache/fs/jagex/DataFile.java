@@ -30,6 +30,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,25 +41,74 @@ public class DataFile implements Closeable
 
 	private static final int SECTOR_SIZE = 520;
 
+	/**
+	 * Size of each mapped region. This is a multiple of the sector size so
+	 * that a sector never straddles two regions.
+	 */
+	private static final long MAP_REGION_SIZE = (long) SECTOR_SIZE * (Integer.MAX_VALUE / SECTOR_SIZE);
+
 	private final RandomAccessFile dat;
+	private final FileChannel channel;
+
+	/**
+	 * Read only mappings of the file, or null if the file is not mapped.
+	 * Sectors past the end of the mapped length, eg. ones appended after
+	 * {@link #map()} was called, are read from the channel instead.
+	 */
+	private volatile MappedByteBuffer[] regions;
+	private volatile long mappedLength;
 
 	public DataFile(File file) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.channel = dat.getChannel();
 	}
 
 	@Override
 	public void close() throws IOException
 	{
+		regions = null;
+		mappedLength = 0L;
 		dat.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
+		regions = null;
+		mappedLength = 0L;
 		dat.setLength(0L);
 	}
 
 	/**
+	 * Map the current contents of the data file into memory. Subsequent
+	 * reads of the mapped sectors are served from the mapping without
+	 * any system calls.
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void map() throws IOException
+	{
+		long length = channel.size();
+		int count = (int) ((length + MAP_REGION_SIZE - 1) / MAP_REGION_SIZE);
+		MappedByteBuffer[] mapped = new MappedByteBuffer[count];
+		for (int i = 0; i < count; ++i)
+		{
+			long position = i * MAP_REGION_SIZE;
+			mapped[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_REGION_SIZE, length - position));
+		}
+
+		regions = mapped;
+		mappedLength = length;
+	}
+
+	public boolean isMapped()
+	{
+		return regions != null;
+	}
+
+	/**
+	 * Read an archive from the data file. This does not lock, so any number
+	 * of threads may read concurrently.
 	 *
 	 * @param indexId expected index of archive of contents being read
 	 * @param archiveId expected archive of contents being read
@@ -66,16 +117,19 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
 	{
-		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
+		final long length = channel.size();
+		if (sector <= 0L || length / SECTOR_SIZE < (long) sector)
 		{
-			logger.warn("bad read, dat length {}, requested sector {}", dat.length(), sector);
+			logger.warn("bad read, dat length {}, requested sector {}", length, sector);
 			return null;
 		}
 
-		byte[] readBuffer = new byte[SECTOR_SIZE];
-		ByteBuffer buffer = ByteBuffer.allocate(size);
+		final MappedByteBuffer[] regions = this.regions;
+		final long mappedLength = this.mappedLength;
+		final byte[] buffer = new byte[size];
+		ByteBuffer readBuffer = null;
 
 		for (int part = 0, readBytesCount = 0, nextSector;
 			size > readBytesCount;
@@ -87,61 +141,62 @@ public class DataFile implements Closeable
 				return null;
 			}
 
-			dat.seek(SECTOR_SIZE * sector);
+			final long position = (long) SECTOR_SIZE * sector;
 
 			int dataBlockSize = size - readBytesCount;
-			byte headerSize;
-			int currentIndex;
-			int currentPart;
-			int currentArchive;
-			if (archiveId > 0xFFFF)
+			int headerSize = archiveId > 0xFFFF ? 10 : 8;
+			if (dataBlockSize > SECTOR_SIZE - headerSize)
 			{
-				headerSize = 10;
-				if (dataBlockSize > SECTOR_SIZE - headerSize)
-				{
-					dataBlockSize = SECTOR_SIZE - headerSize;
-				}
-
-				int i = dat.read(readBuffer, 0, headerSize + dataBlockSize);
-				if (i != headerSize + dataBlockSize)
-				{
-					logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
-					return null;
-				}
+				dataBlockSize = SECTOR_SIZE - headerSize;
+			}
 
-				currentArchive = ((readBuffer[0] & 0xFF) << 24)
-					| ((readBuffer[1] & 0xFF) << 16)
-					| ((readBuffer[2] & 0xFF) << 8)
-					| (readBuffer[3] & 0xFF);
-				currentPart = ((readBuffer[4] & 0xFF) << 8) + (readBuffer[5] & 0xFF);
-				nextSector = ((readBuffer[6] & 0xFF) << 16)
-					| ((readBuffer[7] & 0xFF) << 8)
-					| (readBuffer[8] & 0xFF);
-				currentIndex = readBuffer[9] & 0xFF;
+			ByteBuffer sectorBuffer;
+			int offset;
+			if (regions != null && position + headerSize + dataBlockSize <= mappedLength)
+			{
+				// absolute reads against a duplicate, the mapping itself is shared
+				sectorBuffer = regions[(int) (position / MAP_REGION_SIZE)].duplicate();
+				offset = (int) (position % MAP_REGION_SIZE);
 			}
 			else
 			{
-				headerSize = 8;
-				if (dataBlockSize > SECTOR_SIZE - headerSize)
+				if (readBuffer == null)
 				{
-					dataBlockSize = SECTOR_SIZE - headerSize;
+					readBuffer = ByteBuffer.allocate(SECTOR_SIZE);
 				}
 
-				int i = dat.read(readBuffer, 0, headerSize + dataBlockSize);
-				if (i != headerSize + dataBlockSize)
+				readBuffer.clear();
+				readBuffer.limit(headerSize + dataBlockSize);
+				if (!readFully(readBuffer, position))
 				{
-					logger.warn("short read");
+					logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
 					return null;
 				}
 
-				currentArchive = ((readBuffer[0] & 0xFF) << 8)
-					| (readBuffer[1] & 0xFF);
-				currentPart = ((readBuffer[2] & 0xFF) << 8)
-					| (readBuffer[3] & 0xFF);
-				nextSector = ((readBuffer[4] & 0xFF) << 16)
-					| ((readBuffer[5] & 0xFF) << 8)
-					| (readBuffer[6] & 0xFF);
-				currentIndex = readBuffer[7] & 0xFF;
+				sectorBuffer = readBuffer;
+				offset = 0;
+			}
+
+			int currentIndex;
+			int currentPart;
+			int currentArchive;
+			if (headerSize == 10)
+			{
+				currentArchive = sectorBuffer.getInt(offset);
+				currentPart = sectorBuffer.getShort(offset + 4) & 0xFFFF;
+				nextSector = ((sectorBuffer.get(offset + 6) & 0xFF) << 16)
+					| ((sectorBuffer.get(offset + 7) & 0xFF) << 8)
+					| (sectorBuffer.get(offset + 8) & 0xFF);
+				currentIndex = sectorBuffer.get(offset + 9) & 0xFF;
+			}
+			else
+			{
+				currentArchive = sectorBuffer.getShort(offset) & 0xFFFF;
+				currentPart = sectorBuffer.getShort(offset + 2) & 0xFFFF;
+				nextSector = ((sectorBuffer.get(offset + 4) & 0xFF) << 16)
+					| ((sectorBuffer.get(offset + 5) & 0xFF) << 8)
+					| (sectorBuffer.get(offset + 6) & 0xFF);
+				currentIndex = sectorBuffer.get(offset + 7) & 0xFF;
 			}
 
 			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
@@ -153,20 +208,34 @@ public class DataFile implements Closeable
 				return null;
 			}
 
-			if (nextSector < 0 || dat.length() / SECTOR_SIZE < (long) nextSector)
+			if (nextSector < 0 || length / SECTOR_SIZE < (long) nextSector)
 			{
 				logger.warn("Invalid next sector");
 				return null;
 			}
 
-			buffer.put(readBuffer, headerSize, dataBlockSize);
+			sectorBuffer.position(offset + headerSize);
+			sectorBuffer.get(buffer, readBytesCount, dataBlockSize);
 			readBytesCount += dataBlockSize;
 
 			++part;
 		}
 
-		buffer.flip();
-		return buffer.array();
+		return buffer;
+	}
+
+	private boolean readFully(ByteBuffer buffer, long position) throws IOException
+	{
+		while (buffer.hasRemaining())
+		{
+			int i = channel.read(buffer, position);
+			if (i == -1)
+			{
+				return false;
+			}
+			position += i;
+		}
+		return true;
 	}
 
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
@@ -59,6 +59,7 @@ class Graphics3D extends Rasterizer2D
 	int Rasterizer3D_clipMidY2;
 	int[] rasterClipY = new int[1024];
 	public int[] colorPalette;
+	final ModelBuffers modelBuffers = new ModelBuffers();
 
 	public Graphics3D(RSTextureProvider textureProvider)
 	{
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import javax.imageio.ImageIO;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.util.ParallelLoader;
+
+/**
+ * Renders item icons in bulk. Unlike {@link ItemSpriteFactory#createSprite}, each thread reuses one
+ * {@link Graphics3D}, textures are loaded once, and lit models are cached by everything that affects their lighting,
+ * so the note and placeholder models shared by thousands of items are only loaded and lit once.
+ * <p>
+ * The {@link ModelProvider} must return a new definition from each call, as lighting recolors and resizes it.
+ */
+@Slf4j
+public class ItemIconRenderer
+{
+	public static final int DEFAULT_BORDER = 1;
+	public static final int DEFAULT_SHADOW_COLOR = 0x302020;
+
+	private static final int MODEL_CACHE_SIZE = 4096;
+	// the cache can't hold nulls
+	private static final Model MISSING_MODEL = new Model();
+
+	@Value
+	public static class Icon
+	{
+		private final int itemId;
+		private final int quantity;
+
+		String getFileName()
+		{
+			return quantity == 1 ? itemId + ".png" : itemId + "_" + quantity + ".png";
+		}
+	}
+
+	@Value
+	private static class ModelKey
+	{
+		private final int model;
+		private final int resizeX;
+		private final int resizeY;
+		private final int resizeZ;
+		private final short[] colorFind;
+		private final short[] colorReplace;
+		private final short[] textureFind;
+		private final short[] textureReplace;
+		private final int ambient;
+		private final int contrast;
+
+		ModelKey(ItemDefinition item)
+		{
+			model = item.inventoryModel;
+			resizeX = item.resizeX;
+			resizeY = item.resizeY;
+			resizeZ = item.resizeZ;
+			colorFind = item.colorFind;
+			colorReplace = item.colorReplace;
+			textureFind = item.textureFind;
+			textureReplace = item.textureReplace;
+			ambient = item.ambient;
+			contrast = item.contrast;
+		}
+	}
+
+	private final ItemProvider itemProvider;
+	private final ModelProvider modelProvider;
+	private final Cache<ModelKey, Model> models = CacheBuilder.newBuilder()
+		.maximumSize(MODEL_CACHE_SIZE)
+		.build();
+	private final ThreadLocal<Graphics3D> graphics;
+
+	public ItemIconRenderer(ItemProvider itemProvider, ModelProvider modelProvider,
+		SpriteProvider spriteProvider, TextureProvider textureProvider)
+	{
+		this.itemProvider = itemProvider;
+		this.modelProvider = modelProvider;
+
+		// texture pixels are generated on first use and kept on the definition, so one provider is shared by all threads
+		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		graphics = ThreadLocal.withInitial(() -> ItemSpriteFactory.createGraphics(rsTextureProvider));
+	}
+
+	/**
+	 * List the icons for each named item, and for each stack size at which the item changes appearance
+	 */
+	public static List<Icon> listIcons(Collection<ItemDefinition> items)
+	{
+		List<Icon> icons = new ArrayList<>(items.size());
+		for (ItemDefinition item : items)
+		{
+			if (item.name == null || item.name.equalsIgnoreCase("null"))
+			{
+				continue;
+			}
+
+			icons.add(new Icon(item.id, 1));
+
+			if (item.countObj != null)
+			{
+				for (int i = 0; i < item.countCo.length; ++i)
+				{
+					if (item.countCo[i] > 1)
+					{
+						icons.add(new Icon(item.id, item.countCo[i]));
+					}
+				}
+			}
+		}
+		return icons;
+	}
+
+	public BufferedImage render(int itemId, int quantity, int border, int shadowColor, boolean noted) throws IOException
+	{
+		SpritePixels spritePixels = ItemSpriteFactory.createSpritePixels(itemProvider, this::getModel, graphics.get(),
+			itemId, quantity, border, shadowColor, noted);
+		return spritePixels == null ? null : spritePixels.toBufferedImage();
+	}
+
+	/**
+	 * Render icons with the default border and shadow, writing each to a png in {@code outDir}. Items which have
+	 * no model or fail to render are skipped.
+	 *
+	 * @param icons icons to render
+	 * @param outDir directory to write to
+	 * @param parallelism number of icons to render at once
+	 * @return the number of icons written
+	 * @throws IOException if an icon can't be written
+	 */
+	public int export(Collection<Icon> icons, File outDir, int parallelism) throws IOException
+	{
+		List<Boolean> written = ParallelLoader.map(icons, icon ->
+		{
+			BufferedImage image;
+			try
+			{
+				image = render(icon.getItemId(), icon.getQuantity(), DEFAULT_BORDER, DEFAULT_SHADOW_COLOR, false);
+			}
+			catch (RuntimeException ex)
+			{
+				log.warn("error rendering item {}", icon.getItemId(), ex);
+				return false;
+			}
+
+			if (image == null)
+			{
+				return false;
+			}
+
+			ImageIO.write(image, "PNG", new File(outDir, icon.getFileName()));
+			return true;
+		}, parallelism);
+
+		int count = 0;
+		for (boolean w : written)
+		{
+			if (w)
+			{
+				++count;
+			}
+		}
+		return count;
+	}
+
+	private Model getModel(ItemDefinition item) throws IOException
+	{
+		Model model;
+		try
+		{
+			model = models.get(new ModelKey(item), () ->
+			{
+				Model m = ItemSpriteFactory.getModel(modelProvider, item);
+				if (m == null)
+				{
+					return MISSING_MODEL;
+				}
+
+				// bounds are computed lazily on first draw, do it before the model is shared between threads
+				m.calculateBoundsCylinder();
+				return m;
+			});
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
+		catch (UncheckedExecutionException ex)
+		{
+			throw (RuntimeException) ex.getCause();
+		}
+		return model == MISSING_MODEL ? null : model;
+	}
+}
@@ -26,20 +26,6 @@ package net.runelite.cache.item;
 
 class Model extends Renderable
 {
-	boolean[] faceClipped = new boolean[6500];
-	int[] modelViewportYs = new int[6500];
-	int[] modelViewportXs = new int[6500];
-	int[] modelViewportZs = new int[6500];
-	int[] modelLocalX = new int[6500];
-	int[] modelLocalY = new int[6500];
-	int[] modelLocalZ = new int[6500];
-	int[] distanceFaceCount = new int[6000];
-	int[][] facesByDistance = new int[6000][512];
-	int[] numOfPriority = new int[12];
-	int[][] orderedFaces = new int[12][2000];
-	int[] eq10 = new int[2000];
-	int[] eq11 = new int[2000];
-	int[] lt10 = new int[12];
 	static int[] Model_sine;
 	static int[] Model_cosine;
 	int verticesCount;
@@ -125,7 +111,8 @@ class Model extends Renderable
 
 	public final void projectAndDraw(Graphics3D graphics, int yzRotation, int xzRotation, int xyRotation, int orientation, int xOffset, int yOffset, int zOffset)
 	{
-		distanceFaceCount[0] = -1;
+		final ModelBuffers buffers = graphics.modelBuffers;
+		buffers.distanceFaceCount[0] = -1;
 		// (re?)Calculate magnitude as necessary
 		if (this.boundsType != 2 && this.boundsType != 1)
 		{
@@ -194,14 +181,14 @@ class Model extends Renderable
 			z += zOffset;
 			int tmp = y * cosX - z * sinX >> 16;
 			z = y * sinX + z * cosX >> 16;
-			modelViewportZs[i] = z - zRelatedVariable;
-			modelViewportYs[i] = x * graphics.Rasterizer3D_zoom / z + graphics.centerX;
-			modelViewportXs[i] = tmp * graphics.Rasterizer3D_zoom / z + graphics.centerY;
+			buffers.modelViewportZs[i] = z - zRelatedVariable;
+			buffers.modelViewportYs[i] = x * graphics.Rasterizer3D_zoom / z + graphics.centerX;
+			buffers.modelViewportXs[i] = tmp * graphics.Rasterizer3D_zoom / z + graphics.centerY;
 			if (faceTextures != null)
 			{
-				modelLocalX[i] = x;
-				modelLocalY[i] = tmp;
-				modelLocalZ[i] = z;
+				buffers.modelLocalX[i] = x;
+				buffers.modelLocalY[i] = tmp;
+				buffers.modelLocalZ[i] = z;
 			}
 		}
 
@@ -210,11 +197,12 @@ class Model extends Renderable
 
 	private void draw(Graphics3D graphics)
 	{
+		final ModelBuffers buffers = graphics.modelBuffers;
 		if (this.diameter < 6000)
 		{
 			for (int var5 = 0; var5 < this.diameter; ++var5)
 			{
-				distanceFaceCount[var5] = 0;
+				buffers.distanceFaceCount[var5] = 0;
 			}
 
 			int var7;
@@ -236,23 +224,23 @@ class Model extends Renderable
 					var7 = this.indices1[var26];
 					var27 = this.indices2[var26];
 					var9 = this.indices3[var26];
-					var10 = modelViewportYs[var7];
-					var11 = modelViewportYs[var27];
-					var12 = modelViewportYs[var9];
+					var10 = buffers.modelViewportYs[var7];
+					var11 = buffers.modelViewportYs[var27];
+					var12 = buffers.modelViewportYs[var9];
 
-					if ((var10 - var11) * (modelViewportXs[var9] - modelViewportXs[var27]) - (var12 - var11) * (modelViewportXs[var7] - modelViewportXs[var27]) > 0)
+					if ((var10 - var11) * (buffers.modelViewportXs[var9] - buffers.modelViewportXs[var27]) - (var12 - var11) * (buffers.modelViewportXs[var7] - buffers.modelViewportXs[var27]) > 0)
 					{
 						if (var10 >= 0 && var11 >= 0 && var12 >= 0 && var10 <= graphics.rasterClipX && var11 <= graphics.rasterClipX && var12 <= graphics.rasterClipX)
 						{
-							faceClipped[var26] = false;
+							buffers.faceClipped[var26] = false;
 						}
 						else
 						{
-							faceClipped[var26] = true;
+							buffers.faceClipped[var26] = true;
 						}
 
-						var13 = (modelViewportZs[var7] + modelViewportZs[var27] + modelViewportZs[var9]) / 3 + this.radius;
-						facesByDistance[var13][distanceFaceCount[var13]++] = var26;
+						var13 = (buffers.modelViewportZs[var7] + buffers.modelViewportZs[var27] + buffers.modelViewportZs[var9]) / 3 + this.radius;
+						buffers.facesByDistance[var13][buffers.distanceFaceCount[var13]++] = var26;
 					}
 				}
 			}
@@ -262,10 +250,10 @@ class Model extends Renderable
 			{
 				for (var26 = this.diameter - 1; var26 >= 0; --var26)
 				{
-					var7 = distanceFaceCount[var26];
+					var7 = buffers.distanceFaceCount[var26];
 					if (var7 > 0)
 					{
-						var8 = facesByDistance[var26];
+						var8 = buffers.facesByDistance[var26];
 
 						for (var9 = 0; var9 < var7; ++var9)
 						{
@@ -279,67 +267,67 @@ class Model extends Renderable
 			{
 				for (var26 = 0; var26 < 12; ++var26)
 				{
-					numOfPriority[var26] = 0;
-					lt10[var26] = 0;
+					buffers.numOfPriority[var26] = 0;
+					buffers.lt10[var26] = 0;
 				}
 
 				for (var26 = this.diameter - 1; var26 >= 0; --var26)
 				{
-					var7 = distanceFaceCount[var26];
+					var7 = buffers.distanceFaceCount[var26];
 					if (var7 > 0)
 					{
-						var8 = facesByDistance[var26];
+						var8 = buffers.facesByDistance[var26];
 
 						for (var9 = 0; var9 < var7; ++var9)
 						{
 							var10 = var8[var9];
 							byte var31 = this.facePriorities[var10];
-							var12 = numOfPriority[var31]++;
-							orderedFaces[var31][var12] = var10;
+							var12 = buffers.numOfPriority[var31]++;
+							buffers.orderedFaces[var31][var12] = var10;
 							if (var31 < 10)
 							{
-								lt10[var31] += var26;
+								buffers.lt10[var31] += var26;
 							}
 							else if (var31 == 10)
 							{
-								eq10[var12] = var26;
+								buffers.eq10[var12] = var26;
 							}
 							else
 							{
-								eq11[var12] = var26;
+								buffers.eq11[var12] = var26;
 							}
 						}
 					}
 				}
 
 				var26 = 0;
-				if (numOfPriority[1] > 0 || numOfPriority[2] > 0)
+				if (buffers.numOfPriority[1] > 0 || buffers.numOfPriority[2] > 0)
 				{
-					var26 = (lt10[1] + lt10[2]) / (numOfPriority[1] + numOfPriority[2]);
+					var26 = (buffers.lt10[1] + buffers.lt10[2]) / (buffers.numOfPriority[1] + buffers.numOfPriority[2]);
 				}
 
 				var7 = 0;
-				if (numOfPriority[3] > 0 || numOfPriority[4] > 0)
+				if (buffers.numOfPriority[3] > 0 || buffers.numOfPriority[4] > 0)
 				{
-					var7 = (lt10[3] + lt10[4]) / (numOfPriority[3] + numOfPriority[4]);
+					var7 = (buffers.lt10[3] + buffers.lt10[4]) / (buffers.numOfPriority[3] + buffers.numOfPriority[4]);
 				}
 
 				var27 = 0;
-				if (numOfPriority[6] > 0 || numOfPriority[8] > 0)
+				if (buffers.numOfPriority[6] > 0 || buffers.numOfPriority[8] > 0)
 				{
-					var27 = (lt10[8] + lt10[6]) / (numOfPriority[8] + numOfPriority[6]);
+					var27 = (buffers.lt10[8] + buffers.lt10[6]) / (buffers.numOfPriority[8] + buffers.numOfPriority[6]);
 				}
 
 				var10 = 0;
-				var11 = numOfPriority[10];
-				int[] var28 = orderedFaces[10];
-				int[] var29 = eq10;
+				var11 = buffers.numOfPriority[10];
+				int[] var28 = buffers.orderedFaces[10];
+				int[] var29 = buffers.eq10;
 				if (var10 == var11)
 				{
 					var10 = 0;
-					var11 = numOfPriority[11];
-					var28 = orderedFaces[11];
-					var29 = eq11;
+					var11 = buffers.numOfPriority[11];
+					var28 = buffers.orderedFaces[11];
+					var29 = buffers.eq11;
 				}
 
 				if (var10 < var11)
@@ -356,12 +344,12 @@ class Model extends Renderable
 					while (var14 == 0 && var9 > var26)
 					{
 						this.rasterFace(graphics, var28[var10++]);
-						if (var10 == var11 && var28 != orderedFaces[11])
+						if (var10 == var11 && var28 != buffers.orderedFaces[11])
 						{
 							var10 = 0;
-							var11 = numOfPriority[11];
-							var28 = orderedFaces[11];
-							var29 = eq11;
+							var11 = buffers.numOfPriority[11];
+							var28 = buffers.orderedFaces[11];
+							var29 = buffers.eq11;
 						}
 
 						if (var10 < var11)
@@ -377,12 +365,12 @@ class Model extends Renderable
 					while (var14 == 3 && var9 > var7)
 					{
 						this.rasterFace(graphics, var28[var10++]);
-						if (var10 == var11 && var28 != orderedFaces[11])
+						if (var10 == var11 && var28 != buffers.orderedFaces[11])
 						{
 							var10 = 0;
-							var11 = numOfPriority[11];
-							var28 = orderedFaces[11];
-							var29 = eq11;
+							var11 = buffers.numOfPriority[11];
+							var28 = buffers.orderedFaces[11];
+							var29 = buffers.eq11;
 						}
 
 						if (var10 < var11)
@@ -398,12 +386,12 @@ class Model extends Renderable
 					while (var14 == 5 && var9 > var27)
 					{
 						this.rasterFace(graphics, var28[var10++]);
-						if (var10 == var11 && var28 != orderedFaces[11])
+						if (var10 == var11 && var28 != buffers.orderedFaces[11])
 						{
 							var10 = 0;
-							var11 = numOfPriority[11];
-							var28 = orderedFaces[11];
-							var29 = eq11;
+							var11 = buffers.numOfPriority[11];
+							var28 = buffers.orderedFaces[11];
+							var29 = buffers.eq11;
 						}
 
 						if (var10 < var11)
@@ -416,8 +404,8 @@ class Model extends Renderable
 						}
 					}
 
-					var15 = numOfPriority[var14];
-					int[] var30 = orderedFaces[var14];
+					var15 = buffers.numOfPriority[var14];
+					int[] var30 = buffers.orderedFaces[var14];
 
 					for (var17 = 0; var17 < var15; ++var17)
 					{
@@ -428,12 +416,12 @@ class Model extends Renderable
 				while (var9 != -1000)
 				{
 					this.rasterFace(graphics, var28[var10++]);
-					if (var10 == var11 && var28 != orderedFaces[11])
+					if (var10 == var11 && var28 != buffers.orderedFaces[11])
 					{
 						var10 = 0;
-						var28 = orderedFaces[11];
-						var11 = numOfPriority[11];
-						var29 = eq11;
+						var28 = buffers.orderedFaces[11];
+						var11 = buffers.numOfPriority[11];
+						var29 = buffers.eq11;
 					}
 
 					if (var10 < var11)
@@ -452,10 +440,11 @@ class Model extends Renderable
 
 	private void rasterFace(Graphics3D graphics, int face)
 	{
+		final ModelBuffers buffers = graphics.modelBuffers;
 		int var2 = this.indices1[face];
 		int var3 = this.indices2[face];
 		int var4 = this.indices3[face];
-		graphics.rasterClipEnable = faceClipped[face];
+		graphics.rasterClipEnable = buffers.faceClipped[face];
 		if (this.faceTransparencies == null)
 		{
 			graphics.rasterAlpha = 0;
@@ -486,21 +475,21 @@ class Model extends Renderable
 
 			if (this.faceColors3[face] == -1)
 			{
-				graphics.rasterTextureAffine(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], this.faceColors1[face], this.faceColors1[face], this.faceColors1[face], modelLocalX[var5], modelLocalX[var6], modelLocalX[var7], modelLocalY[var5], modelLocalY[var6], modelLocalY[var7], modelLocalZ[var5], modelLocalZ[var6], modelLocalZ[var7], this.faceTextures[face]);
+				graphics.rasterTextureAffine(buffers.modelViewportXs[var2], buffers.modelViewportXs[var3], buffers.modelViewportXs[var4], buffers.modelViewportYs[var2], buffers.modelViewportYs[var3], buffers.modelViewportYs[var4], this.faceColors1[face], this.faceColors1[face], this.faceColors1[face], buffers.modelLocalX[var5], buffers.modelLocalX[var6], buffers.modelLocalX[var7], buffers.modelLocalY[var5], buffers.modelLocalY[var6], buffers.modelLocalY[var7], buffers.modelLocalZ[var5], buffers.modelLocalZ[var6], buffers.modelLocalZ[var7], this.faceTextures[face]);
 			}
 			else
 			{
-				graphics.rasterTextureAffine(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], this.faceColors1[face], this.faceColors2[face], this.faceColors3[face], modelLocalX[var5], modelLocalX[var6], modelLocalX[var7], modelLocalY[var5], modelLocalY[var6], modelLocalY[var7], modelLocalZ[var5], modelLocalZ[var6], modelLocalZ[var7], this.faceTextures[face]);
+				graphics.rasterTextureAffine(buffers.modelViewportXs[var2], buffers.modelViewportXs[var3], buffers.modelViewportXs[var4], buffers.modelViewportYs[var2], buffers.modelViewportYs[var3], buffers.modelViewportYs[var4], this.faceColors1[face], this.faceColors2[face], this.faceColors3[face], buffers.modelLocalX[var5], buffers.modelLocalX[var6], buffers.modelLocalX[var7], buffers.modelLocalY[var5], buffers.modelLocalY[var6], buffers.modelLocalY[var7], buffers.modelLocalZ[var5], buffers.modelLocalZ[var6], buffers.modelLocalZ[var7], this.faceTextures[face]);
 			}
 		}
 		else if (this.faceColors3[face] == -1)
 		{
 			int[] field1889 = graphics.colorPalette;
-			graphics.rasterFlat(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], field1889[this.faceColors1[face]]);
+			graphics.rasterFlat(buffers.modelViewportXs[var2], buffers.modelViewportXs[var3], buffers.modelViewportXs[var4], buffers.modelViewportYs[var2], buffers.modelViewportYs[var3], buffers.modelViewportYs[var4], field1889[this.faceColors1[face]]);
 		}
 		else
 		{
-			graphics.rasterGouraud(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], this.faceColors1[face], this.faceColors2[face], this.faceColors3[face]);
+			graphics.rasterGouraud(buffers.modelViewportXs[var2], buffers.modelViewportXs[var3], buffers.modelViewportXs[var4], buffers.modelViewportYs[var2], buffers.modelViewportYs[var3], buffers.modelViewportYs[var4], this.faceColors1[face], this.faceColors2[face], this.faceColors3[face]);
 		}
 	}
 }
\ No newline at end of file
@@ -25,8 +25,10 @@
 package net.runelite.cache.region;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.IndexType;
@@ -39,6 +41,7 @@ import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.ParallelLoader;
 
 @Slf4j
 public class RegionLoader
@@ -80,7 +83,58 @@ public class RegionLoader
 		}
 	}
 
+	/**
+	 * Load all regions, decoding them using up to {@code parallelism} threads.
+	 *
+	 * @param parallelism maximum number of threads to use
+	 * @throws IOException
+	 */
+	public void loadRegions(int parallelism) throws IOException
+	{
+		if (!this.regions.isEmpty())
+		{
+			return;
+		}
+
+		List<Integer> ids = new ArrayList<>(MAX_REGION);
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			ids.add(i);
+		}
+
+		List<Region> loaded = ParallelLoader.map(ids, i ->
+		{
+			try
+			{
+				return readRegion(i);
+			}
+			catch (IOException ex)
+			{
+				log.debug("Can't decrypt region " + i, ex);
+				return null;
+			}
+		}, parallelism);
+
+		for (Region region : loaded)
+		{
+			if (region != null)
+			{
+				regions.put(region.getRegionID(), region);
+			}
+		}
+	}
+
 	public Region loadRegionFromArchive(int i) throws IOException
+	{
+		Region region = readRegion(i);
+		if (region != null)
+		{
+			regions.put(i, region);
+		}
+		return region;
+	}
+
+	private Region readRegion(int i) throws IOException
 	{
 		int x = i >> 8;
 		int y = i & 0xFF;
@@ -111,8 +165,6 @@ public class RegionLoader
 			region.loadLocations(locDef);
 		}
 
-		regions.put(i, region);
-
 		return region;
 	}
 
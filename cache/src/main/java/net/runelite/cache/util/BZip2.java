@@ -29,6 +29,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.util.Arrays;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
@@ -83,4 +84,24 @@ public class BZip2
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress headerless bzip2 data directly into {@code out}, without
+	 * copying the input to prepend the header.
+	 *
+	 * @param bytes compressed data
+	 * @param offset offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param out output buffer, sized to the decompressed length
+	 * @return number of bytes decompressed
+	 * @throws IOException
+	 */
+	public static int decompress(byte[] bytes, int offset, int len, byte[] out) throws IOException
+	{
+		InputStream in = new SequenceInputStream(new ByteArrayInputStream(BZIP_HEADER), new ByteArrayInputStream(bytes, offset, len));
+		try (InputStream is = new BZip2CompressorInputStream(in))
+		{
+			return IOUtils.readFully(is, out);
+		}
+	}
 }
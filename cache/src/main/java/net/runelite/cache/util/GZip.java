@@ -30,8 +30,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +42,14 @@ public class GZip
 {
 	private static final Logger logger = LoggerFactory.getLogger(GZip.class);
 
+	private static final int GZIP_MAGIC = 0x8b1f;
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
 		InputStream is = new ByteArrayInputStream(bytes);
@@ -64,4 +74,81 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress gzip data directly into {@code out} using a per-thread inflater.
+	 *
+	 * @param bytes compressed data
+	 * @param offset offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param out output buffer, sized to the decompressed length
+	 * @return number of bytes decompressed
+	 * @throws IOException
+	 */
+	public static int decompress(byte[] bytes, int offset, int len, byte[] out) throws IOException
+	{
+		int end = offset + len;
+		int pos = offset;
+		if (len < 10 || ((bytes[pos] & 0xFF) | (bytes[pos + 1] & 0xFF) << 8) != GZIP_MAGIC || bytes[pos + 2] != 8)
+		{
+			throw new IOException("Not in GZIP format");
+		}
+
+		int flags = bytes[pos + 3] & 0xFF;
+		pos += 10;
+
+		if ((flags & FEXTRA) != 0)
+		{
+			pos += 2 + ((bytes[pos] & 0xFF) | (bytes[pos + 1] & 0xFF) << 8);
+		}
+		if ((flags & FNAME) != 0)
+		{
+			pos = skipString(bytes, pos, end);
+		}
+		if ((flags & FCOMMENT) != 0)
+		{
+			pos = skipString(bytes, pos, end);
+		}
+		if ((flags & FHCRC) != 0)
+		{
+			pos += 2;
+		}
+
+		if (pos > end)
+		{
+			throw new IOException("Truncated GZIP header");
+		}
+
+		Inflater inflater = INFLATER.get();
+		inflater.reset();
+		inflater.setInput(bytes, pos, end - pos);
+
+		try
+		{
+			int n = 0;
+			while (n < out.length)
+			{
+				int i = inflater.inflate(out, n, out.length - n);
+				if (i == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()))
+				{
+					break;
+				}
+				n += i;
+			}
+			return n;
+		}
+		catch (DataFormatException ex)
+		{
+			throw new IOException(ex);
+		}
+	}
+
+	private static int skipString(byte[] bytes, int pos, int end)
+	{
+		while (pos < end && bytes[pos] != 0)
+		{
+			++pos;
+		}
+		return pos + 1;
+	}
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Definitions keyed by id. Ids are mostly small and contiguous, so they are stored in an array indexed by id,
+ * with a map for ids which would make the array too sparse, such as negative or packed ids.
+ * <p>
+ * Not thread safe while being written to; concurrent reads of a fully loaded registry are safe.
+ *
+ * @param <T> definition type
+ */
+public class IdRegistry<T>
+{
+	// the array may grow to this many slots per definition, plus some slack for small registries
+	private static final int MAX_SLOTS_PER_ENTRY = 4;
+	private static final int MIN_DENSE_SIZE = 1024;
+	// keep every definition in the map, as the managers did before this class, to compare the two
+	private static final boolean SPARSE_ONLY = Boolean.getBoolean("runelite.cache.sparseIdRegistry");
+
+	private Object[] dense = new Object[0];
+	private final Map<Integer, T> sparse = new HashMap<>();
+	private int size;
+
+	private final Collection<T> values = new AbstractCollection<T>()
+	{
+		@Override
+		public Iterator<T> iterator()
+		{
+			return new ValueIterator();
+		}
+
+		@Override
+		public int size()
+		{
+			return size;
+		}
+	};
+
+	private class ValueIterator implements Iterator<T>
+	{
+		private int index;
+		private Iterator<T> sparseIterator;
+
+		private ValueIterator()
+		{
+			advance();
+		}
+
+		private void advance()
+		{
+			while (index < dense.length && dense[index] == null)
+			{
+				++index;
+			}
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			if (index < dense.length)
+			{
+				return true;
+			}
+
+			if (sparseIterator == null)
+			{
+				sparseIterator = sparse.values().iterator();
+			}
+			return sparseIterator.hasNext();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+
+			if (sparseIterator != null)
+			{
+				return sparseIterator.next();
+			}
+
+			T value = (T) dense[index++];
+			advance();
+			return value;
+		}
+	}
+
+	/**
+	 * Get the definition with the given id
+	 *
+	 * @return the definition, or null if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int id)
+	{
+		if (id >= 0 && id < dense.length)
+		{
+			return (T) dense[id];
+		}
+		return sparse.isEmpty() ? null : sparse.get(id);
+	}
+
+	/**
+	 * Add a definition, replacing any existing definition with the same id
+	 *
+	 * @return the previous definition with the id, or null
+	 */
+	@SuppressWarnings("unchecked")
+	public T put(int id, T value)
+	{
+		if (value == null)
+		{
+			throw new NullPointerException("value");
+		}
+
+		if (!SPARSE_ONLY && id >= dense.length && id >= 0 && id < maxDenseSize())
+		{
+			grow(id);
+		}
+
+		T previous;
+		if (id >= 0 && id < dense.length)
+		{
+			previous = (T) dense[id];
+			dense[id] = value;
+		}
+		else
+		{
+			previous = sparse.put(id, value);
+		}
+
+		if (previous == null)
+		{
+			++size;
+		}
+		return previous;
+	}
+
+	private int maxDenseSize()
+	{
+		return Math.max(MIN_DENSE_SIZE, (size + 1) * MAX_SLOTS_PER_ENTRY);
+	}
+
+	private void grow(int id)
+	{
+		int length = Math.max(id + 1, Math.min(dense.length * 2, maxDenseSize()));
+		dense = Arrays.copyOf(dense, length);
+
+		// ids which now fit in the array must move there, as lookups of them no longer check the map
+		if (!sparse.isEmpty())
+		{
+			Iterator<Map.Entry<Integer, T>> it = sparse.entrySet().iterator();
+			while (it.hasNext())
+			{
+				Map.Entry<Integer, T> entry = it.next();
+				int key = entry.getKey();
+				if (key >= 0 && key < length)
+				{
+					dense[key] = entry.getValue();
+					it.remove();
+				}
+			}
+		}
+	}
+
+	public boolean contains(int id)
+	{
+		return get(id) != null;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * An unmodifiable view of the definitions, in ascending id order for ids held in the array,
+	 * followed by the rest in no particular order
+	 */
+	public Collection<T> values()
+	{
+		return values;
+	}
+
+	/**
+	 * Copy the registry to a map, in {@link #values()} order
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<Integer, T> toMap()
+	{
+		Map<Integer, T> map = new LinkedHashMap<>(size * 2);
+		for (int i = 0; i < dense.length; ++i)
+		{
+			if (dense[i] != null)
+			{
+				map.put(i, (T) dense[i]);
+			}
+		}
+		map.putAll(sparse);
+		return map;
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Runs loading work across a bounded number of threads, collecting the results
+ * in the same order as the inputs.
+ */
+public class ParallelLoader
+{
+	@FunctionalInterface
+	public interface Task<I, O>
+	{
+		O apply(I input) throws IOException;
+	}
+
+	public static int defaultParallelism()
+	{
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Apply {@code task} to each input using at most {@code parallelism} threads.
+	 *
+	 * @param inputs inputs
+	 * @param task task to apply to each input
+	 * @param parallelism maximum number of threads to use
+	 * @return the outputs, in the iteration order of {@code inputs}
+	 * @throws IOException if any task throws
+	 */
+	public static <I, O> List<O> map(Collection<I> inputs, Task<I, O> task, int parallelism) throws IOException
+	{
+		if (parallelism < 1)
+		{
+			throw new IllegalArgumentException("parallelism must be positive");
+		}
+
+		if (parallelism == 1 || inputs.size() <= 1)
+		{
+			List<O> outputs = new ArrayList<>(inputs.size());
+			for (I input : inputs)
+			{
+				outputs.add(task.apply(input));
+			}
+			return outputs;
+		}
+
+		List<I> list = new ArrayList<>(inputs);
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try
+		{
+			// a parallel stream submitted from within a pool runs in that pool,
+			// which bounds the parallelism, and an ordered collect keeps the input order
+			return pool.submit(() -> list.parallelStream()
+				.map(input ->
+				{
+					try
+					{
+						return task.apply(input);
+					}
+					catch (IOException ex)
+					{
+						throw new UncheckedIOException(ex);
+					}
+				})
+				.collect(Collectors.toList()))
+				.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException(ex);
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) cause).getCause();
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error)
+			{
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.Djb2;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MapDiffTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testFindChangedRegions() throws IOException
+	{
+		try (Store from = new Store(folder.newFolder());
+			Store to = new Store(folder.newFolder()))
+		{
+			Index fromMaps = from.addIndex(IndexType.MAPS.getNumber());
+			Index toMaps = to.addIndex(IndexType.MAPS.getNumber());
+
+			// unchanged
+			addRegion(fromMaps, 50, 50, 1, 2);
+			addRegion(toMaps, 50, 50, 1, 2);
+			// locations changed
+			addRegion(fromMaps, 50, 51, 1, 2);
+			addRegion(toMaps, 50, 51, 1, 3);
+			// removed
+			addRegion(fromMaps, 40, 40, 1, 2);
+			// added
+			addRegion(toMaps, 60, 60, 1, 2);
+
+			Assert.assertEquals(ImmutableSet.of(50 << 8 | 51, 40 << 8 | 40, 60 << 8 | 60),
+				MapDiff.findChangedRegions(from, to));
+		}
+	}
+
+	@Test
+	public void testDefinitionsChanged() throws IOException
+	{
+		try (Store from = new Store(folder.newFolder());
+			Store to = new Store(folder.newFolder()))
+		{
+			for (Store store : new Store[]{from, to})
+			{
+				store.addIndex(IndexType.CONFIGS.getNumber());
+				store.addIndex(IndexType.TEXTURES.getNumber()).setCrc(1);
+				store.addIndex(IndexType.SPRITES.getNumber()).setCrc(2);
+			}
+			Assert.assertFalse(MapDiff.definitionsChanged(from, to));
+
+			to.findIndex(IndexType.SPRITES.getNumber()).setCrc(3);
+			Assert.assertTrue(MapDiff.definitionsChanged(from, to));
+		}
+	}
+
+	@Test
+	public void testWithNeighbors()
+	{
+		Assert.assertEquals(ImmutableSet.of(0, 1, 1 << 8, 1 << 8 | 1),
+			MapDiff.withNeighbors(ImmutableSet.of(0)));
+		Assert.assertEquals(9, MapDiff.withNeighbors(ImmutableSet.of(50 << 8 | 50)).size());
+	}
+
+	private static void addRegion(Index index, int x, int y, int mapCrc, int locationsCrc)
+	{
+		int id = index.getArchives().size();
+
+		Archive map = index.addArchive(id);
+		map.setNameHash(Djb2.hash("m" + x + "_" + y));
+		map.setCrc(mapCrc);
+
+		Archive locations = index.addArchive(id + 1);
+		locations.setNameHash(Djb2.hash("l" + x + "_" + y));
+		locations.setCrc(locationsCrc);
+	}
+}
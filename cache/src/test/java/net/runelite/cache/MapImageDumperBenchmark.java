@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.IdRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Times MapImageDumper drawing a plane of the synthetic store from {@link MapImageDumperTest}, with the
+ * definition managers backed by {@link IdRegistry} and, in a separate fork, by the hash map they used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MapImageDumperBenchmark
+{
+	// width and height of the block of regions drawn
+	private static final int REGIONS = 8;
+
+	private File base;
+	private Store store;
+	private MapImageDumper dumper;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		int[][] regions = new int[REGIONS * REGIONS][];
+		for (int i = 0; i < regions.length; ++i)
+		{
+			regions[i] = new int[]{50 + i / REGIONS, 50 + i % REGIONS};
+		}
+
+		base = Files.createTempDirectory("mapimage").toFile();
+		try (Store store = new Store(base))
+		{
+			MapImageDumperTest.createStore(store, regions);
+			store.save();
+		}
+
+		store = new Store(base);
+		store.load();
+
+		dumper = new MapImageDumper(store, region -> MapImageDumperTest.KEYS);
+		dumper.setLowMemory(false);
+		dumper.load();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		store.close();
+		try (Stream<File> files = Files.walk(base.toPath()).map(Path::toFile))
+		{
+			files.sorted(Comparator.reverseOrder()).forEach(File::delete);
+		}
+	}
+
+	@Benchmark
+	@Fork(1)
+	public BufferedImage drawMapRegistry()
+	{
+		return dumper.drawMap(0);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-Drunelite.cache.sparseIdRegistry=true")
+	public BufferedImage drawMapHashMap()
+	{
+		return dumper.drawMap(0);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(MapImageDumperBenchmark.class.getSimpleName())
+			.build())
+			.run();
+	}
+}
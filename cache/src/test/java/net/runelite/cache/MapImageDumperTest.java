@@ -24,14 +24,33 @@
  */
 package net.runelite.cache;
 
+import java.awt.Point;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
 import javax.imageio.ImageIO;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.OutputStream;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.util.Djb2;
+import net.runelite.cache.util.ParallelLoader;
 import net.runelite.cache.util.XteaKeyManager;
+import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -43,6 +62,11 @@ public class MapImageDumperTest
 {
 	private static final Logger logger = LoggerFactory.getLogger(MapImageDumperTest.class);
 
+	// number of object definitions in the synthetic store
+	static final int OBJECT_COUNT = 4096;
+	// xtea key of the locations in the synthetic store. Without it the locations are skipped.
+	static final int[] KEYS = {1, 2, 3, 4};
+
 	@Rule
 	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
 
@@ -104,4 +128,318 @@ public class MapImageDumperTest
 			}
 		}
 	}
+
+	@Test
+	@Ignore
+	public void dumpTiles() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			XteaKeyManager keyManager = new XteaKeyManager();
+			keyManager.loadKeys(null);
+
+			MapImageDumper dumper = new MapImageDumper(store, keyManager);
+			dumper.load();
+
+			for (int i = 0; i < Region.Z; ++i)
+			{
+				File tileDir = new File(outDir, "tiles-" + i);
+				dumper.drawMapTiles(i, tileDir, 2, 4, ParallelLoader.defaultParallelism());
+				logger.info("Wrote tiles to {}", tileDir);
+			}
+		}
+	}
+
+	@Test
+	public void testDrawMapTiles() throws IOException
+	{
+		File base = folder.newFolder(),
+			outDir = folder.newFolder();
+
+		// three regions in tile 25_25 and one alone in tile 26_26
+		int[][] regions = {{50, 50}, {51, 50}, {50, 51}, {52, 52}};
+		try (Store store = new Store(base))
+		{
+			createStore(store, regions);
+			store.save();
+		}
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			MapImageDumper dumper = new MapImageDumper(store, new XteaKeyManager());
+			dumper.setLowMemory(false);
+			dumper.load();
+
+			Assert.assertEquals(new HashSet<>(Arrays.asList(new Point(25, 25), new Point(26, 26))),
+				new HashSet<>(dumper.drawMapTiles(0, outDir, 2, 2, 2)));
+
+			File[] zoom0 = new File(outDir, "0").listFiles();
+			Assert.assertNotNull(zoom0);
+			Assert.assertEquals(2, zoom0.length);
+			File[] zoom1 = new File(outDir, "1").listFiles();
+			Assert.assertNotNull(zoom1);
+			Assert.assertEquals(2, zoom1.length);
+
+			BufferedImage map = dumper.drawMap(0);
+			for (int[] region : regions)
+			{
+				int regionX = region[0], regionY = region[1];
+				Point tile = new Point(regionX / 2, regionY / 2);
+
+				BufferedImage image = ImageIO.read(new File(outDir, "0/" + tile.x + "_" + tile.y + ".png"));
+				Assert.assertEquals(2 * Region.X * 4, image.getWidth());
+				Assert.assertEquals(2 * Region.Y * 4, image.getHeight());
+
+				// north is up in both, and the map's top row is the north most region
+				int tileX = (regionX - tile.x * 2) * Region.X * 4;
+				int tileY = (tile.y * 2 + 1 - regionY) * Region.Y * 4;
+				int mapX = (regionX - 50) * Region.X * 4;
+				int mapY = (52 - regionY) * Region.Y * 4;
+				for (int x = 0; x < Region.X * 4; ++x)
+				{
+					for (int y = 0; y < Region.Y * 4; ++y)
+					{
+						Assert.assertEquals("region " + regionX + "_" + regionY + " at " + x + "," + y,
+							map.getRGB(mapX + x, mapY + y), image.getRGB(tileX + x, tileY + y));
+					}
+				}
+			}
+
+			// the corners of the edge tile without regions are empty
+			BufferedImage edge = ImageIO.read(new File(outDir, "0/26_26.png"));
+			Assert.assertEquals(0, edge.getRGB(0, 0) & 0xFFFFFF);
+			Assert.assertEquals(0, edge.getRGB(edge.getWidth() - 1, edge.getHeight() - 1) & 0xFFFFFF);
+			Assert.assertNotEquals(0, edge.getRGB(0, edge.getHeight() - 1) & 0xFFFFFF);
+
+			BufferedImage zoomed = ImageIO.read(new File(outDir, "1/13_13.png"));
+			Assert.assertEquals(edge.getWidth(), zoomed.getWidth());
+			Assert.assertEquals(edge.getHeight(), zoomed.getHeight());
+		}
+	}
+
+	@Test
+	public void testUpdateMapTiles() throws IOException
+	{
+		File outDir = folder.newFolder();
+
+		int[][] regions = {{50, 50}, {51, 50}, {50, 51}, {52, 52}, {56, 56}};
+		int[][] changedRegions = {{50, 50}, {51, 50}, {50, 51}, {52, 52}, {56, 56, 1}};
+		File base = createStore(regions, 0xFFFFFF);
+		File regionChanged = createStore(changedRegions, 0xFFFFFF);
+		File spriteChanged = createStore(regions, 0xFF00FF);
+
+		try (Store previous = new Store(base))
+		{
+			previous.load();
+
+			MapImageDumper dumper = new MapImageDumper(previous, new XteaKeyManager());
+			dumper.setLowMemory(false);
+			dumper.load();
+			dumper.drawMapTiles(0, outDir, 2, 2, 2);
+
+			// only the tile of the changed region and the tiles around it are drawn
+			try (Store store = new Store(regionChanged))
+			{
+				store.load();
+
+				dumper = new MapImageDumper(store, new XteaKeyManager());
+				dumper.setLowMemory(false);
+				dumper.load();
+
+				File unchanged = new File(outDir, "0/25_25.png");
+				File changed = new File(outDir, "0/28_28.png");
+				Assert.assertTrue(unchanged.delete());
+				Assert.assertTrue(changed.delete());
+
+				Assert.assertEquals(new HashSet<>(Arrays.asList(new Point(27, 27), new Point(27, 28), new Point(28, 27), new Point(28, 28))),
+					new HashSet<>(dumper.updateMapTiles(0, outDir, previous, 2, 2, 2)));
+				Assert.assertFalse(unchanged.exists());
+				Assert.assertTrue(changed.exists());
+				Assert.assertFalse(new File(outDir, "0/27_27.png").exists());
+			}
+
+			// a changed sprite can appear in any region, so every tile is drawn
+			try (Store store = new Store(spriteChanged))
+			{
+				store.load();
+
+				dumper = new MapImageDumper(store, new XteaKeyManager());
+				dumper.setLowMemory(false);
+				dumper.load();
+
+				Assert.assertEquals(new HashSet<>(Arrays.asList(new Point(25, 25), new Point(26, 26), new Point(28, 28))),
+					new HashSet<>(dumper.updateMapTiles(0, outDir, previous, 2, 2, 2)));
+				Assert.assertTrue(new File(outDir, "0/25_25.png").exists());
+			}
+		}
+	}
+
+	private File createStore(int[][] regions, int spriteColor) throws IOException
+	{
+		File base = folder.newFolder();
+		try (Store store = new Store(base))
+		{
+			createStore(store, regions, spriteColor);
+			store.save();
+		}
+		return base;
+	}
+
+	static void createStore(Store store, int[][] regions) throws IOException
+	{
+		createStore(store, regions, 0xFFFFFF);
+	}
+
+	/**
+	 * Create a store with just enough to draw the map of the given regions,
+	 * with their underlays in stripes of three colors. An optional third value
+	 * for a region shifts its stripes. Each region has a location on every other
+	 * tile, which are only loaded with {@link #KEYS}.
+	 */
+	private static void createStore(Store store, int[][] regions, int spriteColor) throws IOException
+	{
+		Index configs = store.addIndex(IndexType.CONFIGS.getNumber());
+		Index maps = store.addIndex(IndexType.MAPS.getNumber());
+		Index sprites = store.addIndex(IndexType.SPRITES.getNumber());
+		Index textures = store.addIndex(IndexType.TEXTURES.getNumber());
+
+		int[] colors = {0xC03020, 0x30A040, 0x2040B0};
+		byte[][] underlays = new byte[colors.length][];
+		for (int i = 0; i < colors.length; ++i)
+		{
+			OutputStream underlay = new OutputStream();
+			underlay.writeByte(1);
+			underlay.write24BitInt(colors[i]);
+			underlay.writeByte(0);
+			underlays[i] = underlay.flip();
+		}
+		addArchive(store, configs, ConfigType.UNDERLAY.getId(), underlays);
+		addArchive(store, configs, ConfigType.OVERLAY.getId(), new byte[]{0});
+		byte[][] objects = new byte[OBJECT_COUNT][];
+		Arrays.fill(objects, new byte[]{0});
+		addArchive(store, configs, ConfigType.OBJECT.getId(), objects);
+		addArchive(store, configs, ConfigType.AREA.getId(), new byte[]{0});
+		// one texture without any sprites
+		addArchive(store, textures, 0, new byte[6]);
+
+		// a 1x1 mapscene sprite
+		OutputStream sprite = new OutputStream();
+		sprite.writeByte(0); // flags
+		sprite.writeByte(1); // pixel
+		sprite.write24BitInt(spriteColor); // palette
+		sprite.writeShort(1); // max width
+		sprite.writeShort(1); // max height
+		sprite.writeByte(1); // palette length - 1
+		sprite.writeShort(0); // offset x
+		sprite.writeShort(0); // offset y
+		sprite.writeShort(1); // width
+		sprite.writeShort(1); // height
+		sprite.writeShort(1); // count
+		Archive mapscene = addArchive(store, sprites, 0, sprite.flip());
+		mapscene.setNameHash(Djb2.hash("mapscene"));
+
+		for (int[] region : regions)
+		{
+			int regionX = region[0], regionY = region[1];
+			int shift = region.length > 2 ? region[2] : 0;
+
+			OutputStream map = new OutputStream();
+			for (int z = 0; z < Region.Z; ++z)
+			{
+				for (int x = 0; x < Region.X; ++x)
+				{
+					for (int y = 0; y < Region.Y; ++y)
+					{
+						if (z == 0)
+						{
+							// underlay id, 1 based
+							map.writeShort(82 + (regionX * Region.X + x + regionY * Region.Y + y + shift) / 8 % 3);
+						}
+						map.writeShort(0);
+					}
+				}
+			}
+
+			Archive archive = addArchive(store, maps, maps.getArchives().size(), map.flip());
+			archive.setNameHash(Djb2.hash("m" + regionX + "_" + regionY));
+			archive = addArchive(store, maps, maps.getArchives().size(), KEYS, locations(regionX, regionY));
+			archive.setNameHash(Djb2.hash("l" + regionX + "_" + regionY));
+		}
+	}
+
+	/**
+	 * Encode locations on every other tile of plane 0, mostly scenery with some walls
+	 */
+	private static byte[] locations(int regionX, int regionY)
+	{
+		Random random = new Random(regionX << 8 | regionY);
+		Map<Integer, List<Integer>> positions = new TreeMap<>();
+		for (int x = 0; x < Region.X; x += 2)
+		{
+			for (int y = 0; y < Region.Y; y += 2)
+			{
+				// scenery is dominated by a small set of common objects
+				int id = random.nextInt(4) == 0 ? random.nextInt(OBJECT_COUNT) : random.nextInt(OBJECT_COUNT / 16);
+				int type = random.nextInt(8) == 0 ? 0 : 10;
+				positions.computeIfAbsent(id, k -> new ArrayList<>()).add((x << 6 | y) << 8 | type << 2);
+			}
+		}
+
+		OutputStream out = new OutputStream();
+		int lastId = -1;
+		for (Map.Entry<Integer, List<Integer>> entry : positions.entrySet())
+		{
+			out.writeShortSmart(entry.getKey() - lastId);
+			lastId = entry.getKey();
+
+			int lastPosition = 0;
+			for (int location : entry.getValue())
+			{
+				int position = location >> 8;
+				out.writeShortSmart(position - lastPosition + 1);
+				out.writeByte(location & 0xFF);
+				lastPosition = position;
+			}
+			out.writeShortSmart(0);
+		}
+		out.writeShortSmart(0);
+		return out.flip();
+	}
+
+	/**
+	 * Add an archive with files numbered from 0
+	 */
+	private static Archive addArchive(Store store, Index index, int id, byte[]... contents) throws IOException
+	{
+		return addArchive(store, index, id, null, contents);
+	}
+
+	private static Archive addArchive(Store store, Index index, int id, int[] keys, byte[]... contents) throws IOException
+	{
+		Archive archive = index.addArchive(id);
+		FileData[] fileData = new FileData[contents.length];
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < contents.length; ++i)
+		{
+			fileData[i] = new FileData();
+			fileData[i].setId(i);
+
+			FSFile file = new FSFile(i);
+			file.setContents(contents[i]);
+			files.addFile(file);
+		}
+		archive.setFileData(fileData);
+
+		Container container = new Container(CompressionType.NONE, -1);
+		container.compress(files.saveContents(), keys);
+		store.getStorage().saveArchive(archive, container.data);
+		return archive;
+	}
 }
@@ -25,9 +25,13 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Random;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class ContainerTest
@@ -52,4 +56,51 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testDecompressBuffer() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[4096];
+		for (int i = 0; i < data.length; ++i)
+		{
+			data[i] = (byte) random.nextInt(8);
+		}
+
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			for (int[] k : new int[][]{null, keys})
+			{
+				Container container = new Container(compression, 7);
+				container.compress(data, k);
+				byte[] compressedData = container.data;
+				byte[] copy = compressedData.clone();
+
+				Container expected = Container.decompress(compressedData, k);
+				assertArrayEquals(data, expected.data);
+				assertEquals(7, expected.revision);
+				// decryption must not clobber the caller's buffer
+				assertArrayEquals(copy, compressedData);
+
+				// heap slice with an array offset
+				byte[] padded = new byte[compressedData.length + 16];
+				System.arraycopy(compressedData, 0, padded, 8, compressedData.length);
+				ByteBuffer slice = ByteBuffer.wrap(padded, 8, compressedData.length).slice();
+				Container fromSlice = Container.decompress(slice, k);
+				assertArrayEquals(data, fromSlice.data);
+				assertEquals(expected.crc, fromSlice.crc);
+				assertEquals(expected.revision, fromSlice.revision);
+
+				// direct buffer
+				ByteBuffer direct = ByteBuffer.allocateDirect(compressedData.length);
+				direct.put(compressedData).flip();
+				Container fromDirect = Container.decompress(direct, k);
+				assertArrayEquals(data, fromDirect.data);
+				assertEquals(expected.crc, fromDirect.crc);
+			}
+		}
+	}
 }
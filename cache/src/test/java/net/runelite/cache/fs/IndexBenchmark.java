@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.util.Djb2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares archive lookups against a linear scan of the archive list, using a
+ * maps-like index and the same access pattern as RegionLoader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class IndexBenchmark
+{
+	private static final int MAX_REGION = 32768;
+
+	private Index index;
+
+	@Setup
+	public void setup()
+	{
+		index = new Index(5);
+
+		int id = 0;
+		for (int x = 16; x < 64; ++x)
+		{
+			for (int y = 40; y < 200; y += 2)
+			{
+				index.addArchive(id++).setNameHash(Djb2.hash("m" + x + "_" + y));
+				index.addArchive(id++).setNameHash(Djb2.hash("l" + x + "_" + y));
+			}
+		}
+	}
+
+	@Benchmark
+	public void regionsIndexed(Blackhole bh)
+	{
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			int x = i >> 8;
+			int y = i & 0xFF;
+			bh.consume(index.findArchiveByName("m" + x + "_" + y));
+			bh.consume(index.findArchiveByName("l" + x + "_" + y));
+		}
+	}
+
+	@Benchmark
+	public void regionsScan(Blackhole bh)
+	{
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			int x = i >> 8;
+			int y = i & 0xFF;
+			bh.consume(scan(Djb2.hash("m" + x + "_" + y)));
+			bh.consume(scan(Djb2.hash("l" + x + "_" + y)));
+		}
+	}
+
+	@Benchmark
+	public void idsIndexed(Blackhole bh)
+	{
+		int count = index.getArchives().size();
+		for (int i = 0; i < count; ++i)
+		{
+			bh.consume(index.getArchive(i));
+		}
+	}
+
+	@Benchmark
+	public void idsScan(Blackhole bh)
+	{
+		int count = index.getArchives().size();
+		for (int i = 0; i < count; ++i)
+		{
+			for (Archive a : index.getArchives())
+			{
+				if (a.getArchiveId() == i)
+				{
+					bh.consume(a);
+					break;
+				}
+			}
+		}
+	}
+
+	private Archive scan(int hash)
+	{
+		for (Archive a : index.getArchives())
+		{
+			if (a.getNameHash() == hash)
+			{
+				return a;
+			}
+		}
+		return null;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(IndexBenchmark.class.getSimpleName())
+			.build())
+			.run();
+	}
+}
@@ -26,8 +26,10 @@ package net.runelite.cache.fs;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Random;
 import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.cache.index.FileData;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -148,4 +150,42 @@ public class StoreTest
 			}
 		}
 	}
+
+	@Test
+	public void testLoadArchivesParallel() throws IOException
+	{
+		File root = folder.newFolder();
+
+		try (Store store = new Store(new DiskStorage(root)))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 64; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				FileData[] fileData = new FileData[1];
+				fileData[0] = new FileData();
+				archive.setFileData(fileData);
+
+				Container container = new Container(i % 3, -1);
+				container.compress(("archive " + i).getBytes(), null);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+			store.save();
+		}
+
+		try (Store store = new Store(new DiskStorage(root, true)))
+		{
+			store.load();
+
+			Index index = store.findIndex(0);
+			List<String> contents = store.loadArchives(index.getArchives(),
+				(archive, files) -> new String(files.getFiles().get(0).getContents()), 4);
+
+			Assert.assertEquals(64, contents.size());
+			for (int i = 0; i < contents.size(); ++i)
+			{
+				Assert.assertEquals("archive " + i, contents.get(i));
+			}
+		}
+	}
 }
@@ -26,6 +26,11 @@ package net.runelite.cache.fs.jagex;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Container;
 import org.junit.Assert;
@@ -167,4 +172,68 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testMapped() throws IOException
+	{
+		byte[] b = new byte[4096];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		DataFile df = new DataFile(folder.newFile());
+
+		DataFileWriteResult res = df.write(42, 0x1FFFF, b);
+		df.map();
+		Assert.assertTrue(df.isMapped());
+
+		// appended after mapping, so read from the channel
+		DataFileWriteResult res2 = df.write(42, 3, b);
+
+		Assert.assertArrayEquals(b, df.read(42, 0x1FFFF, res.sector, res.compressedLength));
+		Assert.assertArrayEquals(b, df.read(42, 3, res2.sector, res2.compressedLength));
+		Assert.assertNull(df.read(41, 3, res2.sector, res2.compressedLength));
+	}
+
+	@Test
+	public void testConcurrentRead() throws Exception
+	{
+		DataFile df = new DataFile(folder.newFile());
+
+		List<byte[]> data = new ArrayList<>();
+		List<DataFileWriteResult> results = new ArrayList<>();
+		for (int i = 0; i < 64; ++i)
+		{
+			byte[] b = new byte[i * 97 + 1];
+			for (int j = 0; j < b.length; ++j)
+			{
+				b[j] = (byte) (i + j);
+			}
+			data.add(b);
+			results.add(df.write(7, i, b));
+		}
+		df.map();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			List<Future<byte[]>> futures = new ArrayList<>();
+			for (int i = 0; i < results.size(); ++i)
+			{
+				final int archiveId = i;
+				final DataFileWriteResult res = results.get(i);
+				futures.add(executor.submit(() -> df.read(7, archiveId, res.sector, res.compressedLength)));
+			}
+
+			for (int i = 0; i < futures.size(); ++i)
+			{
+				Assert.assertArrayEquals(data.get(i), futures.get(i).get());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
 }
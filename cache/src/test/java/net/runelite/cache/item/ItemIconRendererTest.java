@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.imageio.ImageIO;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemIconRendererTest
+{
+	private static final int CUBE = 1;
+	private static final int PYRAMID = 2;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final List<ItemDefinition> items = new ArrayList<>();
+	private final ItemProvider itemProvider = id -> items.get(id);
+	private final ModelProvider modelProvider = this::createModel;
+	private final SpriteProvider spriteProvider = (id, frame) -> null;
+	private final TextureProvider textureProvider = () -> new TextureDefinition[0];
+
+	@Before
+	public void before()
+	{
+		ItemDefinition cube = item(CUBE);
+		cube.name = "Cube";
+		cube.countCo = new int[]{5, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+		cube.countObj = new int[]{1, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+		cube.ambient = 10;
+
+		ItemDefinition cubes = item(CUBE);
+		cubes.name = "Cubes";
+		cubes.resizeX = 160;
+		cubes.colorFind = new short[]{(short) 0x1234};
+		cubes.colorReplace = new short[]{(short) 0x5678};
+
+		ItemDefinition noteTemplate = item(PYRAMID);
+		noteTemplate.name = "Note";
+
+		ItemDefinition note = item(0);
+		note.notedTemplate = noteTemplate.id;
+		note.notedID = cube.id;
+		note.linkNote(noteTemplate, cube);
+
+		ItemDefinition placeholderTemplate = item(PYRAMID);
+		placeholderTemplate.name = "Placeholder";
+
+		ItemDefinition placeholder = item(0);
+		placeholder.placeholderTemplateId = placeholderTemplate.id;
+		placeholder.placeholderId = cube.id;
+		placeholder.linkPlaceholder(placeholderTemplate, cube);
+	}
+
+	private ItemDefinition item(int model)
+	{
+		ItemDefinition item = new ItemDefinition(items.size());
+		item.inventoryModel = model;
+		item.zoom2d = 1200;
+		item.xan2d = 300;
+		item.yan2d = 400;
+		items.add(item);
+		return item;
+	}
+
+	private ModelDefinition createModel(int modelId)
+	{
+		ModelDefinition model = new ModelDefinition();
+		model.id = modelId;
+		if (modelId == CUBE)
+		{
+			model.vertexX = new int[]{-100, 100, 100, -100, -100, 100, 100, -100};
+			model.vertexY = new int[]{-100, -100, 100, 100, -100, -100, 100, 100};
+			model.vertexZ = new int[]{-100, -100, -100, -100, 100, 100, 100, 100};
+			model.faceIndices1 = new int[]{0, 0, 4, 4, 0, 0, 3, 3, 0, 0, 1, 1};
+			model.faceIndices2 = new int[]{2, 3, 5, 6, 5, 1, 6, 7, 7, 4, 6, 2};
+			model.faceIndices3 = new int[]{1, 2, 6, 7, 1, 4, 2, 6, 3, 7, 5, 6};
+		}
+		else
+		{
+			model.vertexX = new int[]{0, -120, 120, 0};
+			model.vertexY = new int[]{-150, 80, 80, 80};
+			model.vertexZ = new int[]{0, -80, -80, 120};
+			model.faceIndices1 = new int[]{0, 0, 0, 1};
+			model.faceIndices2 = new int[]{1, 2, 3, 3};
+			model.faceIndices3 = new int[]{2, 3, 1, 2};
+		}
+		model.vertexCount = model.vertexX.length;
+		model.faceCount = model.faceIndices1.length;
+		model.faceColors = new short[model.faceCount];
+		for (int i = 0; i < model.faceCount; ++i)
+		{
+			model.faceColors[i] = (short) (0x1234 + i * 0x0400);
+		}
+		return model;
+	}
+
+	@Test
+	public void testMatchesSerial() throws IOException
+	{
+		List<ItemIconRenderer.Icon> icons = ItemIconRenderer.listIcons(items);
+		// both cube variants, the stack of cubes, the note, the placeholder and their templates
+		assertEquals(7, icons.size());
+
+		// repeat the icons so threads reuse their graphics and cached models
+		List<ItemIconRenderer.Icon> batch = new ArrayList<>();
+		for (int i = 0; i < 20; ++i)
+		{
+			batch.addAll(icons);
+		}
+		Collections.shuffle(batch);
+
+		File outDir = folder.newFolder();
+		ItemIconRenderer renderer = new ItemIconRenderer(itemProvider, modelProvider, spriteProvider, textureProvider);
+		assertEquals(batch.size(), renderer.export(batch, outDir, 4));
+
+		for (ItemIconRenderer.Icon icon : icons)
+		{
+			BufferedImage serial = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+				icon.getItemId(), icon.getQuantity(), ItemIconRenderer.DEFAULT_BORDER, ItemIconRenderer.DEFAULT_SHADOW_COLOR, false);
+			BufferedImage batched = ImageIO.read(new File(outDir, icon.getFileName()));
+			assertNotNull(batched);
+
+			int[] expected = serial.getRGB(0, 0, serial.getWidth(), serial.getHeight(), null, 0, serial.getWidth());
+			int[] actual = batched.getRGB(0, 0, batched.getWidth(), batched.getHeight(), null, 0, batched.getWidth());
+			assertTrue("icon " + icon + " is blank", Arrays.stream(expected).anyMatch(rgb -> (rgb & 0xffffff) != 0));
+			assertArrayEquals("icon " + icon, expected, actual);
+		}
+	}
+
+	@Test
+	public void testRenderMatchesSerial() throws IOException
+	{
+		ItemIconRenderer renderer = new ItemIconRenderer(itemProvider, modelProvider, spriteProvider, textureProvider);
+		for (ItemDefinition item : items)
+		{
+			for (boolean noted : new boolean[]{false, true})
+			{
+				BufferedImage serial = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+					item.id, 10, 2, 0, noted);
+				BufferedImage rendered = renderer.render(item.id, 10, 2, 0, noted);
+				assertArrayEquals(
+					serial.getRGB(0, 0, serial.getWidth(), serial.getHeight(), null, 0, serial.getWidth()),
+					rendered.getRGB(0, 0, rendered.getWidth(), rendered.getHeight(), null, 0, rendered.getWidth()));
+			}
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class IdRegistryTest
+{
+	@Test
+	public void testDense()
+	{
+		IdRegistry<String> registry = new IdRegistry<>();
+		for (int i = 0; i < 5000; ++i)
+		{
+			registry.put(i, "def" + i);
+		}
+
+		assertEquals(5000, registry.size());
+		assertEquals("def0", registry.get(0));
+		assertEquals("def4999", registry.get(4999));
+		assertNull(registry.get(5000));
+		assertNull(registry.get(-1));
+
+		assertEquals("def42", registry.put(42, "other"));
+		assertEquals("other", registry.get(42));
+		assertEquals(5000, registry.size());
+	}
+
+	@Test
+	public void testSparse()
+	{
+		IdRegistry<String> registry = new IdRegistry<>();
+		registry.put(3, "a");
+		registry.put(1 << 16, "b");
+		registry.put(-7, "c");
+		registry.put(Integer.MAX_VALUE, "d");
+
+		assertEquals(4, registry.size());
+		assertEquals("a", registry.get(3));
+		assertEquals("b", registry.get(1 << 16));
+		assertEquals("c", registry.get(-7));
+		assertEquals("d", registry.get(Integer.MAX_VALUE));
+		assertNull(registry.get(4));
+		assertNull(registry.get((1 << 16) + 1));
+	}
+
+	@Test
+	public void testSparseMovesToDense()
+	{
+		IdRegistry<Integer> registry = new IdRegistry<>();
+		registry.put(3000, 3000);
+		for (int i = 0; i < 3000; ++i)
+		{
+			registry.put(i, i);
+		}
+
+		assertEquals(3001, registry.size());
+		for (int i = 0; i <= 3000; ++i)
+		{
+			assertEquals(Integer.valueOf(i), registry.get(i));
+		}
+	}
+
+	@Test
+	public void testValues()
+	{
+		IdRegistry<Integer> registry = new IdRegistry<>();
+		registry.put(5, 5);
+		registry.put(1, 1);
+		registry.put(1 << 20, 1 << 20);
+		registry.put(3, 3);
+
+		assertEquals(Arrays.asList(1, 3, 5, 1 << 20), new ArrayList<>(registry.values()));
+		assertEquals(4, registry.values().size());
+
+		Map<Integer, Integer> map = registry.toMap();
+		assertEquals(4, map.size());
+		assertEquals(Integer.valueOf(1 << 20), map.get(1 << 20));
+	}
+}
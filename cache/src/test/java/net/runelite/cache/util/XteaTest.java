@@ -26,6 +26,7 @@ package net.runelite.cache.util;
 
 import java.nio.charset.StandardCharsets;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class XteaTest
@@ -53,4 +54,26 @@ public class XteaTest
 
 		assertArrayEquals(data, decData);
 	}
+
+	@Test
+	public void testDecryptInPlace()
+	{
+		int[] key = new int[]
+		{
+			4, 8, 15, 16
+		};
+		byte[] data = new byte[]
+		{
+			0, 121, -18, 48, 64, 120, -42, -113, 77, 116, 101, 115, 116, 49
+		};
+
+		new Xtea(key).decrypt(data, 1, data.length - 1);
+
+		byte[] expected = "testtesttest1".getBytes(StandardCharsets.UTF_8);
+		for (int i = 0; i < expected.length; ++i)
+		{
+			assertEquals(expected[i], data[i + 1]);
+		}
+		assertEquals(0, data[0]);
+	}
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Shape;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Caches clickboxes calculated by {@link Perspective#getClickbox} between frames.
+ * <p>
+ * A clickbox only depends on the model, its position and orientation, and the camera, so a model
+ * which hasn't moved under a still camera can reuse the clickbox from the previous frame. The whole
+ * cache is dropped whenever the camera or viewport changes. Animated models are modified in place,
+ * so entries are also checked against a checksum of the model's geometry before being reused.
+ * <p>
+ * Caches are per thread, and hold their models weakly.
+ */
+class ClickboxCache
+{
+	private static final int MAX_ENTRIES = 512;
+
+	private static final ThreadLocal<ClickboxCache> CACHES = ThreadLocal.withInitial(ClickboxCache::new);
+
+	@AllArgsConstructor
+	static final class Clickbox
+	{
+		private final long checksum;
+		@Getter
+		private final Shape shape;
+	}
+
+	private static final class Key
+	{
+		private Model model; // only set on lookup keys
+		private WeakReference<Model> modelRef;
+		private int orientation;
+		private int x;
+		private int y;
+		private int z;
+		private int hash;
+
+		private void set(Model model, int orientation, int x, int y, int z)
+		{
+			this.model = model;
+			this.orientation = orientation;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+
+			int h = System.identityHashCode(model);
+			h = h * 31 + orientation;
+			h = h * 31 + x;
+			h = h * 31 + y;
+			h = h * 31 + z;
+			hash = h;
+		}
+
+		private Model getModel()
+		{
+			return model != null ? model : modelRef.get();
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (!(obj instanceof Key))
+			{
+				return false;
+			}
+
+			Key other = (Key) obj;
+			return hash == other.hash
+				&& orientation == other.orientation
+				&& x == other.x
+				&& y == other.y
+				&& z == other.z
+				&& getModel() == other.getModel();
+		}
+	}
+
+	private final int[] camera = new int[10];
+	private final Key lookupKey = new Key();
+	private final Map<Key, Clickbox> clickboxes = new LinkedHashMap<Key, Clickbox>(16, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Clickbox> eldest)
+		{
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private int[] x2d = new int[8];
+	private int[] y2d = new int[8];
+
+	static ClickboxCache get()
+	{
+		return CACHES.get();
+	}
+
+	/**
+	 * Drop all cached clickboxes if the camera or viewport has changed since the last call
+	 */
+	void validate(Client client)
+	{
+		int[] camera = this.camera;
+		int
+			cameraX = client.getCameraX(),
+			cameraY = client.getCameraY(),
+			cameraZ = client.getCameraZ(),
+			cameraPitch = client.getCameraPitch(),
+			cameraYaw = client.getCameraYaw(),
+			scale = client.getScale(),
+			viewportWidth = client.getViewportWidth(),
+			viewportHeight = client.getViewportHeight(),
+			viewportXOffset = client.getViewportXOffset(),
+			viewportYOffset = client.getViewportYOffset();
+
+		if (camera[0] == cameraX && camera[1] == cameraY && camera[2] == cameraZ
+			&& camera[3] == cameraPitch && camera[4] == cameraYaw && camera[5] == scale
+			&& camera[6] == viewportWidth && camera[7] == viewportHeight
+			&& camera[8] == viewportXOffset && camera[9] == viewportYOffset)
+		{
+			return;
+		}
+
+		camera[0] = cameraX;
+		camera[1] = cameraY;
+		camera[2] = cameraZ;
+		camera[3] = cameraPitch;
+		camera[4] = cameraYaw;
+		camera[5] = scale;
+		camera[6] = viewportWidth;
+		camera[7] = viewportHeight;
+		camera[8] = viewportXOffset;
+		camera[9] = viewportYOffset;
+		clickboxes.clear();
+	}
+
+	/**
+	 * Get the cached clickbox for a model, or null if it isn't cached. The returned
+	 * {@link Clickbox#getShape()} may itself be null if the model was offscreen.
+	 */
+	Clickbox lookup(Model model, int orientation, int x, int y, int z, long checksum)
+	{
+		Key key = lookupKey;
+		key.set(model, orientation, x, y, z);
+		Clickbox clickbox = clickboxes.get(key);
+		key.model = null;
+		return clickbox != null && clickbox.checksum == checksum ? clickbox : null;
+	}
+
+	void put(Model model, int orientation, int x, int y, int z, long checksum, Shape shape)
+	{
+		Key key = new Key();
+		key.set(model, orientation, x, y, z);
+		key.model = null;
+		key.modelRef = new WeakReference<>(model);
+		clickboxes.put(key, new Clickbox(checksum, shape));
+	}
+
+	/**
+	 * Scratch buffer for projected x coordinates, valid until the next call
+	 */
+	int[] getX2d(int size)
+	{
+		if (x2d.length < size)
+		{
+			x2d = new int[size];
+		}
+		return x2d;
+	}
+
+	/**
+	 * Scratch buffer for projected y coordinates, valid until the next call
+	 */
+	int[] getY2d(int size)
+	{
+		if (y2d.length < size)
+		{
+			y2d = new int[size];
+		}
+		return y2d;
+	}
+
+	/**
+	 * Checksum the parts of a model which affect its clickbox. This is much cheaper than
+	 * projecting the model, and catches animated models which are modified in place.
+	 */
+	static long checksum(Model model)
+	{
+		final int count = model.getVerticesCount();
+		final int faceCount = model.getFaceCount();
+		final int[] verticesX = model.getVerticesX();
+		final int[] verticesY = model.getVerticesY();
+		final int[] verticesZ = model.getVerticesZ();
+		final int[] faceColors3 = model.getFaceColors3();
+
+		long h = count * 31L + faceCount;
+		for (int i = 0; i < count; ++i)
+		{
+			h = h * 31 + verticesX[i];
+			h = h * 31 + verticesY[i];
+			h = h * 31 + verticesZ[i];
+		}
+		// faces with color -2 are hidden and excluded from the clickbox
+		for (int i = 0; i < faceCount; ++i)
+		{
+			h = h * 31 + (faceColors3[i] == -2 ? 1 : 0);
+		}
+		return h;
+	}
+}
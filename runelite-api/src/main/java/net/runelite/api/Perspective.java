@@ -688,7 +688,8 @@ public class Perspective
 	 * @param orientation the orientation of the model (0-2048, where 0 is north)
 	 * @param x           x coord in local space
 	 * @param z           y coord in local space
-	 * @return the clickable area of the model
+	 * @return the clickable area of the model. This is cached between frames while
+	 *         neither the model nor the camera moves, so it must not be modified.
 	 */
 	@Nullable
 	@ApiStatus.Internal
@@ -699,7 +700,24 @@ public class Perspective
 			return null;
 		}
 
-		SimplePolygon bounds = calculateAABB(client, model, orientation, x, y, z);
+		ClickboxCache cache = ClickboxCache.get();
+		cache.validate(client);
+
+		long checksum = ClickboxCache.checksum(model);
+		ClickboxCache.Clickbox cached = cache.lookup(model, orientation, x, y, z, checksum);
+		if (cached != null)
+		{
+			return cached.getShape();
+		}
+
+		Shape clickbox = calculateClickbox(client, cache, model, orientation, x, y, z);
+		cache.put(model, orientation, x, y, z, checksum, clickbox);
+		return clickbox;
+	}
+
+	private static Shape calculateClickbox(Client client, ClickboxCache cache, Model model, int orientation, int x, int y, int z)
+	{
+		SimplePolygon bounds = calculateAABB(client, cache, model, orientation, x, y, z);
 
 		if (bounds == null)
 		{
@@ -711,7 +729,7 @@ public class Perspective
 			return bounds;
 		}
 
-		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, model, orientation, x, y, z);
+		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, cache, model, orientation, x, y, z);
 		if (bounds2d == null)
 		{
 			return null;
@@ -725,7 +743,7 @@ public class Perspective
 		return bounds2d;
 	}
 
-	private static SimplePolygon calculateAABB(Client client, Model m, int jauOrient, int x, int y, int z)
+	private static SimplePolygon calculateAABB(Client client, ClickboxCache cache, Model m, int jauOrient, int x, int y, int z)
 	{
 		AABB aabb = m.getAABB(jauOrient);
 
@@ -758,18 +776,18 @@ public class Perspective
 			z2, z2, z2, z2
 		};
 
-		int[] x2d = new int[8];
-		int[] y2d = new int[8];
+		int[] x2d = cache.getX2d(8);
+		int[] y2d = cache.getY2d(8);
 
 		modelToCanvasCpu(client, 8, x, y, z, 0, xa, ya, za, x2d, y2d);
 
-		return Jarvis.convexHull(x2d, y2d);
+		return Jarvis.convexHull(x2d, y2d, 8);
 	}
 
-	private static Shapes<SimplePolygon> calculate2DBounds(Client client, Model m, int jauOrient, int x, int y, int z)
+	private static Shapes<SimplePolygon> calculate2DBounds(Client client, ClickboxCache cache, Model m, int jauOrient, int x, int y, int z)
 	{
-		int[] x2d = new int[m.getVerticesCount()];
-		int[] y2d = new int[m.getVerticesCount()];
+		int[] x2d = cache.getX2d(m.getVerticesCount());
+		int[] y2d = cache.getY2d(m.getVerticesCount());
 		final int[] faceColors3 = m.getFaceColors3();
 
 		Perspective.modelToCanvasCpu(client,
@@ -78,8 +78,17 @@ public class Jarvis
 	 */
 	public static SimplePolygon convexHull(int[] xs, int[] ys)
 	{
-		int length = xs.length;
+		return convexHull(xs, ys, xs.length);
+	}
 
+	/**
+	 * Computes and returns the convex hull of the first {@code length} points.
+	 * Invalid points are compacted out of {@code xs} and {@code ys} in place.
+	 *
+	 * @see #convexHull(int[], int[])
+	 */
+	public static SimplePolygon convexHull(int[] xs, int[] ys, int length)
+	{
 		// remove any invalid entries
 		{
 			int i = 0, offset = 0;
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Rectangle;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClickboxCacheTest
+{
+	private final Map<String, Integer> camera = new HashMap<>();
+	private final Client client = (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class<?>[]{Client.class},
+		(proxy, method, args) -> camera.getOrDefault(method.getName(), 0));
+
+	private final int[] verticesX = {0, 128, 128, 0};
+	private final int[] verticesY = {0, 0, -128, -128};
+	private final int[] verticesZ = {0, 0, 0, 0};
+	private final int[] faceColors3 = {0, 0};
+	private final Model model = (Model) Proxy.newProxyInstance(Model.class.getClassLoader(), new Class<?>[]{Model.class},
+		(proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "getVerticesCount":
+					return verticesX.length;
+				case "getFaceCount":
+					return faceColors3.length;
+				case "getVerticesX":
+					return verticesX;
+				case "getVerticesY":
+					return verticesY;
+				case "getVerticesZ":
+					return verticesZ;
+				case "getFaceColors3":
+					return faceColors3;
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "equals":
+					return proxy == args[0];
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+
+	private final Rectangle shape = new Rectangle(10, 20, 30, 40);
+	private ClickboxCache cache;
+
+	@Before
+	public void before()
+	{
+		camera.put("getCameraX", 3200);
+		camera.put("getCameraY", 3200);
+		camera.put("getCameraZ", -800);
+		camera.put("getCameraPitch", 256);
+		camera.put("getCameraYaw", 1024);
+		camera.put("getScale", 512);
+		camera.put("getViewportWidth", 512);
+		camera.put("getViewportHeight", 334);
+		camera.put("getViewportXOffset", 4);
+		camera.put("getViewportYOffset", 4);
+
+		cache = new ClickboxCache();
+		cache.validate(client);
+		cache.put(model, 0, 100, 200, 0, ClickboxCache.checksum(model), shape);
+	}
+
+	@Test
+	public void testHit()
+	{
+		cache.validate(client);
+		ClickboxCache.Clickbox clickbox = cache.lookup(model, 0, 100, 200, 0, ClickboxCache.checksum(model));
+		assertNotNull(clickbox);
+		assertSame(shape, clickbox.getShape());
+
+		// different position or orientation
+		assertNull(cache.lookup(model, 512, 100, 200, 0, ClickboxCache.checksum(model)));
+		assertNull(cache.lookup(model, 0, 228, 200, 0, ClickboxCache.checksum(model)));
+	}
+
+	@Test
+	public void testCameraChange()
+	{
+		camera.put("getCameraYaw", 1025);
+		cache.validate(client);
+		assertNull(cache.lookup(model, 0, 100, 200, 0, ClickboxCache.checksum(model)));
+	}
+
+	@Test
+	public void testViewportChange()
+	{
+		camera.put("getViewportWidth", 765);
+		cache.validate(client);
+		assertNull(cache.lookup(model, 0, 100, 200, 0, ClickboxCache.checksum(model)));
+	}
+
+	@Test
+	public void testVertexChange()
+	{
+		long checksum = ClickboxCache.checksum(model);
+		// animations modify the model in place
+		verticesY[2] -= 4;
+		assertNotEquals(checksum, ClickboxCache.checksum(model));
+		assertNull(cache.lookup(model, 0, 100, 200, 0, ClickboxCache.checksum(model)));
+	}
+
+	@Test
+	public void testHiddenFace()
+	{
+		long checksum = ClickboxCache.checksum(model);
+		faceColors3[1] = -2;
+		assertNotEquals(checksum, ClickboxCache.checksum(model));
+		assertNull(cache.lookup(model, 0, 100, 200, 0, ClickboxCache.checksum(model)));
+	}
+}
@@ -27,6 +27,7 @@ package net.runelite.api.model;
 import java.util.Arrays;
 import java.util.List;
 import net.runelite.api.Point;
+import net.runelite.api.geometry.SimplePolygon;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -107,4 +108,41 @@ public class JarvisTest
 		};
 		Jarvis.convexHull(Arrays.asList(points));
 	}
+
+	@Test
+	public void testLength()
+	{
+		// scratch buffers are larger than the points, and the rest holds stale points
+		int[] xs = {0, 1, 2, 4, 0, 1, 3, 3, 100, -100, 50, Integer.MIN_VALUE};
+		int[] ys = {3, 1, 2, 4, 0, 2, 1, 3, 100, 200, -50, 0};
+
+		SimplePolygon hull = Jarvis.convexHull(xs, ys, 8);
+		Assert.assertNotNull(hull);
+		Assert.assertEquals(4, hull.size());
+		Assert.assertEquals(new Point(0, 0), new Point(hull.getX(0), hull.getY(0)));
+		Assert.assertEquals(new Point(0, 3), new Point(hull.getX(1), hull.getY(1)));
+		Assert.assertEquals(new Point(4, 4), new Point(hull.getX(2), hull.getY(2)));
+		Assert.assertEquals(new Point(3, 1), new Point(hull.getX(3), hull.getY(3)));
+	}
+
+	@Test
+	public void testInvalidPoints()
+	{
+		final int invalid = Integer.MIN_VALUE;
+		int[] xs = {invalid, 0, 1, invalid, 2, 4, 0, invalid, 1, 3, 3, invalid, 7};
+		int[] ys = {9, 3, 1, 9, 2, 4, 0, 9, 2, 1, 3, 9, 7};
+
+		SimplePolygon hull = Jarvis.convexHull(xs, ys, 12);
+		Assert.assertNotNull(hull);
+		Assert.assertEquals(4, hull.size());
+		Assert.assertEquals(new Point(0, 0), new Point(hull.getX(0), hull.getY(0)));
+		Assert.assertEquals(new Point(0, 3), new Point(hull.getX(1), hull.getY(1)));
+		Assert.assertEquals(new Point(4, 4), new Point(hull.getX(2), hull.getY(2)));
+		Assert.assertEquals(new Point(3, 1), new Point(hull.getX(3), hull.getY(3)));
+
+		// too few valid points for a hull
+		xs = new int[]{invalid, 0, invalid, 5, invalid};
+		ys = new int[]{0, 0, 0, 5, 0};
+		Assert.assertNull(Jarvis.convexHull(xs, ys, 5));
+	}
 }
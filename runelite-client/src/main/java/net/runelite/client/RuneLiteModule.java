@@ -36,7 +36,6 @@ import java.applet.Applet;
 import java.io.File;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
@@ -56,8 +55,9 @@ import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
 import net.runelite.client.task.Scheduler;
+import net.runelite.client.util.ClientExecutors;
 import net.runelite.client.util.DeferredEventBus;
-import net.runelite.client.util.ExecutorServiceExceptionLogger;
+import net.runelite.client.util.InvocationMetrics;
 import net.runelite.http.api.RuneLiteAPI;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -124,7 +124,6 @@ public class RuneLiteModule extends AbstractModule
 		bind(String.class).annotatedWith(Names.named("profile")).toProvider(Providers.of(profile));
 		bindConstant().annotatedWith(Names.named("insecureWriteCredentials")).to(insecureWriteCredentials);
 		bind(File.class).annotatedWith(Names.named("runeLiteDir")).toInstance(RuneLite.RUNELITE_DIR);
-		bind(ScheduledExecutorService.class).toInstance(new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor()));
 		bind(OkHttpClient.class).toInstance(okHttpClient);
 		bind(MenuManager.class);
 		bind(ChatMessageManager.class);
@@ -137,8 +136,15 @@ public class RuneLiteModule extends AbstractModule
 
 		bind(Callbacks.class).to(Hooks.class);
 
+		final InvocationMetrics invocationMetrics = new InvocationMetrics();
+		bind(InvocationMetrics.class).toInstance(invocationMetrics);
+
+		final ClientExecutors executors = new ClientExecutors(invocationMetrics);
+		bind(ClientExecutors.class).toInstance(executors);
+		bind(ScheduledExecutorService.class).toInstance(executors.getTimer());
+
 		bind(EventBus.class)
-			.toInstance(new EventBus());
+			.toInstance(new EventBus(invocationMetrics));
 
 		bind(EventBus.class)
 			.annotatedWith(Names.named("Deferred EventBus"))
@@ -24,6 +24,12 @@
  */
 package net.runelite.client.config;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -39,40 +45,81 @@ import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.zip.CRC32;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * In memory config backed by a properties file. Patches are either written by rewriting the whole
+ * properties file, or, in journal mode, appended to a journal next to it which is compacted back into the
+ * properties file once it grows larger than it. The journal is replayed on load regardless of mode, and
+ * rewriting the properties file folds the journal in, so clients using either mode can share a profile.
+ */
 @Slf4j
 class ConfigData
 {
+	private static final boolean JOURNAL_DEFAULT = Boolean.getBoolean("runelite.config.journal");
+	private static final String JOURNAL_SUFFIX = ".journal";
+	// compact once the journal is larger than the properties file, but not before it is at least this large
+	private static final long MIN_COMPACT_SIZE = 256 * 1024;
+
+	private static final byte OP_UNSET = 0;
+	private static final byte OP_SET = 1;
+
 	private final File configPath;
+	private final boolean journal;
 
 	private final ConcurrentHashMap<String, String> properties;
+	// sorted index of the keys of properties, for prefix queries. Only modified with the monitor held.
+	private final ConcurrentSkipListSet<String> sortedKeys = new ConcurrentSkipListSet<>();
 	private Map<String, String> patchChanges = new HashMap<>();
 
 	ConfigData(File configPath)
+	{
+		this(configPath, JOURNAL_DEFAULT);
+	}
+
+	ConfigData(File configPath, boolean journal)
 	{
 		this.configPath = configPath;
+		this.journal = journal;
 
 		Properties props = new Properties();
-		try (FileInputStream in = new FileInputStream(configPath);
-			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-		{
-			props.load(reader);
-		}
-		catch (FileNotFoundException ignored)
-		{
-		}
-		catch (Exception ex)
+		final File journalFile = journalFile(configPath);
+		if (configPath.exists() || journalFile.exists())
 		{
-			throw new RuntimeException(ex);
+			// read under the config lock so that a patch or compaction by another client isn't seen half done
+			File lckFile = lockFile(configPath);
+			try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+				FileChannel lckChannel = lockOut.getChannel())
+			{
+				lckChannel.lock();
+
+				loadProperties(configPath, props);
+				if (!replayJournal(journalFile, props))
+				{
+					// a client died mid append. Compact now so that later appends aren't hidden behind the partial record.
+					log.warn("config journal for {} is truncated, compacting", configPath);
+					storeProperties(configPath, props);
+					journalFile.delete();
+				}
+			}
+			catch (IOException ex)
+			{
+				throw new RuntimeException(ex);
+			}
+			lckFile.delete();
 		}
 
 		properties = new ConcurrentHashMap<>(props.size());
 		props.forEach((k, v) -> properties.put((String) k, (String) v));
+		sortedKeys.addAll(properties.keySet());
 	}
 
 	String getProperty(String key)
@@ -83,6 +130,10 @@ class ConfigData
 	synchronized String setProperty(String key, String value)
 	{
 		String old = properties.put(key, value);
+		if (old == null)
+		{
+			sortedKeys.add(key);
+		}
 		if (!Objects.equals(old, value))
 		{
 			patchChanges.put(key, value);
@@ -95,6 +146,7 @@ class ConfigData
 		String old = properties.remove(key);
 		if (old != null)
 		{
+			sortedKeys.remove(key);
 			patchChanges.put(key, null);
 		}
 		return old;
@@ -104,6 +156,7 @@ class ConfigData
 	{
 		patchChanges.putAll(values);
 		properties.putAll(values);
+		sortedKeys.addAll(values.keySet());
 	}
 
 	Set<String> keySet()
@@ -111,6 +164,37 @@ class ConfigData
 		return properties.keySet();
 	}
 
+	/**
+	 * Get the keys starting with the given prefix, in order. The returned set may be a view of the keys,
+	 * so it must be copied before modifying the config.
+	 */
+	NavigableSet<String> keysWithPrefix(String prefix)
+	{
+		if (prefix.isEmpty())
+		{
+			return sortedKeys;
+		}
+
+		// keys with the prefix sort before the prefix with its last character incremented
+		final int last = prefix.length() - 1;
+		final char c = prefix.charAt(last);
+		if (c == Character.MAX_VALUE)
+		{
+			NavigableSet<String> keys = new TreeSet<>();
+			for (String key : sortedKeys.tailSet(prefix))
+			{
+				if (!key.startsWith(prefix))
+				{
+					break;
+				}
+				keys.add(key);
+			}
+			return keys;
+		}
+
+		return sortedKeys.subSet(prefix, true, prefix.substring(0, last) + (char) (c + 1), false);
+	}
+
 	Map<String, String> get()
 	{
 		return Collections.unmodifiableMap(properties);
@@ -130,74 +214,301 @@ class ConfigData
 
 	void patch(Map<String, String> patch)
 	{
-		// load + patch + store instead of just flushing the in-memory properties to disk so that
+		// patches are applied to what is on disk instead of just flushing the in-memory properties so that
 		// multiple clients editing one config data (such as rs profile config) get their data merged
 		// correctly
 
-		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
+		File lckFile = lockFile(configPath);
+		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+			FileChannel lckChannel = lockOut.getChannel())
+		{
+			lckChannel.lock();
+
+			if (journal && configPath.exists())
+			{
+				long journalSize = appendJournal(journalFile(configPath), patch);
+				if (journalSize > Math.max(MIN_COMPACT_SIZE, configPath.length()))
+				{
+					log.debug("compacting config journal for {} ({} bytes)", configPath, journalSize);
+					writeProperties(patch, null);
+				}
+			}
+			else
+			{
+				writeProperties(patch, properties);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to save configuration file", ex);
+		}
+		lckFile.delete();
+	}
+
+	/**
+	 * Load + patch + store the properties file, folding in and removing the journal. Must be called with the
+	 * config lock held.
+	 *
+	 * @param patch the patch to apply
+	 * @param initial properties to write if there are none on disk
+	 */
+	private void writeProperties(Map<String, String> patch, Map<String, String> initial) throws IOException
+	{
+		final File journalFile = journalFile(configPath);
+
+		Properties tempProps = new Properties();
+		loadProperties(configPath, tempProps);
+		replayJournal(journalFile, tempProps);
+
+		if (tempProps.isEmpty() && initial != null)
+		{
+			// this probably doesn't happen outside of the very first save (when no file exists)
+			// but to be safe in the event the prop is deleted off disk, flush the entire properties
+			// from memory
+			tempProps.putAll(initial);
+		}
+		else
+		{
+			// apply patches
+			applyPatch(tempProps, patch);
+		}
+
+		storeProperties(configPath, tempProps);
+		journalFile.delete();
+	}
+
+	/**
+	 * Fold the journal of the given config file, if any, into the properties file. Anything which copies
+	 * or moves config files directly should call this first.
+	 */
+	static void compact(File configPath)
+	{
+		final File journalFile = journalFile(configPath);
+		if (!journalFile.exists())
+		{
+			return;
+		}
+
+		File lckFile = lockFile(configPath);
 		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
 			FileChannel lckChannel = lockOut.getChannel())
 		{
 			lckChannel.lock();
 
 			Properties tempProps = new Properties();
-			try (FileInputStream in = new FileInputStream(configPath);
-				InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+			loadProperties(configPath, tempProps);
+			replayJournal(journalFile, tempProps);
+
+			storeProperties(configPath, tempProps);
+			journalFile.delete();
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to compact configuration file", ex);
+		}
+		lckFile.delete();
+	}
+
+	/**
+	 * Delete the given config file and its journal
+	 */
+	static void delete(File configPath)
+	{
+		configPath.delete();
+		journalFile(configPath).delete();
+	}
+
+	static File journalFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + JOURNAL_SUFFIX);
+	}
+
+	private static File lockFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".lck");
+	}
+
+	private static void loadProperties(File configPath, Properties props) throws IOException
+	{
+		try (FileInputStream in = new FileInputStream(configPath);
+			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+		catch (FileNotFoundException e)
+		{
+			log.debug("config file {} does not exist", configPath);
+		}
+	}
+
+	private static void storeProperties(File configPath, Properties props) throws IOException
+	{
+		File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+		try (FileOutputStream out = new FileOutputStream(tempFile);
+			FileChannel channel = out.getChannel();
+			OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+		{
+			channel.lock();
+			props.store(writer, "RuneLite configuration");
+			channel.force(true);
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static void applyPatch(Map<Object, Object> props, Map<String, String> patch)
+	{
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			if (entry.getValue() == null)
 			{
-				tempProps.load(reader);
+				props.remove(entry.getKey());
 			}
-			catch (FileNotFoundException e)
+			else
 			{
-				log.debug("config file {} does not exist", configPath);
+				props.put(entry.getKey(), entry.getValue());
 			}
+		}
+	}
+
+	/*
+	 * The journal is a sequence of records, one per patch:
+	 *   int length, byte[length] payload, int crc32(payload)
+	 * where the payload is an int entry count followed by each entry:
+	 *   byte op, int keyLength, key, and for OP_SET also int valueLength, value
+	 * with strings encoded as UTF-8.
+	 */
 
-			if (tempProps.isEmpty())
+	/**
+	 * Append a patch to the journal and sync it to disk. Must be called with the config lock held.
+	 *
+	 * @return the size of the journal
+	 */
+	private static long appendJournal(File journalFile, Map<String, String> patch) throws IOException
+	{
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		DataOutputStream payloadOut = new DataOutputStream(payload);
+		payloadOut.writeInt(patch.size());
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			if (entry.getValue() == null)
 			{
-				// this probably doesn't happen outside of the very first save (when no file exists)
-				// but to be safe in the event the prop is deleted off disk, flush the entire properties
-				// from memory
-				tempProps.putAll(properties);
+				payloadOut.writeByte(OP_UNSET);
+				writeString(payloadOut, entry.getKey());
 			}
 			else
 			{
-				// apply patches
-				for (Map.Entry<String, String> entry : patch.entrySet())
+				payloadOut.writeByte(OP_SET);
+				writeString(payloadOut, entry.getKey());
+				writeString(payloadOut, entry.getValue());
+			}
+		}
+
+		byte[] bytes = payload.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(bytes, 0, bytes.length);
+
+		ByteArrayOutputStream record = new ByteArrayOutputStream(bytes.length + 8);
+		DataOutputStream recordOut = new DataOutputStream(record);
+		recordOut.writeInt(bytes.length);
+		recordOut.write(bytes);
+		recordOut.writeInt((int) crc.getValue());
+
+		try (FileOutputStream out = new FileOutputStream(journalFile, true);
+			FileChannel channel = out.getChannel())
+		{
+			record.writeTo(out);
+			channel.force(false);
+			return channel.size();
+		}
+	}
+
+	/**
+	 * Apply the records in the journal, if it exists, to the given properties.
+	 *
+	 * @return false if the journal ends with a partial or corrupt record
+	 */
+	private static boolean replayJournal(File journalFile, Properties props) throws IOException
+	{
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile))))
+		{
+			CRC32 crc = new CRC32();
+			for (;;)
+			{
+				int length;
+				try
+				{
+					length = in.readInt();
+				}
+				catch (EOFException ex)
+				{
+					return true;
+				}
+
+				byte[] bytes;
+				try
 				{
-					if (entry.getValue() == null)
+					if (length < 0 || length > journalFile.length())
 					{
-						tempProps.remove(entry.getKey());
+						return false;
 					}
-					else
+
+					bytes = new byte[length];
+					in.readFully(bytes);
+
+					crc.reset();
+					crc.update(bytes, 0, bytes.length);
+					if (in.readInt() != (int) crc.getValue())
 					{
-						tempProps.put(entry.getKey(), entry.getValue());
+						return false;
 					}
 				}
-			}
-
-			File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
-			try (FileOutputStream out = new FileOutputStream(tempFile);
-				FileChannel channel = out.getChannel();
-				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
-			{
-				channel.lock();
-				tempProps.store(writer, "RuneLite configuration");
-				channel.force(true);
-			}
+				catch (EOFException ex)
+				{
+					return false;
+				}
 
-			try
-			{
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
-			}
-			catch (AtomicMoveNotSupportedException ex)
-			{
-				log.debug("atomic move not supported", ex);
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				DataInputStream payload = new DataInputStream(new ByteArrayInputStream(bytes));
+				for (int i = payload.readInt(); i > 0; --i)
+				{
+					byte op = payload.readByte();
+					String key = readString(payload);
+					if (op == OP_SET)
+					{
+						props.put(key, readString(payload));
+					}
+					else
+					{
+						props.remove(key);
+					}
+				}
 			}
 		}
-		catch (IOException ex)
+		catch (FileNotFoundException ex)
 		{
-			log.error("unable to save configuration file", ex);
+			return true;
 		}
-		lckFile.delete();
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	private static String readString(DataInputStream in) throws IOException
+	{
+		byte[] b = new byte[in.readInt()];
+		in.readFully(b);
+		return new String(b, StandardCharsets.UTF_8);
 	}
 }
@@ -24,11 +24,13 @@
  */
 package net.runelite.client.config;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
@@ -39,9 +41,18 @@ class ConfigInvocationHandler implements InvocationHandler
 	private static final Object NULL = new Object();
 
 	private final ConfigManager manager;
-	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
-		.maximumSize(256)
-		.build();
+	/**
+	 * Cached getter values. This is bounded by the number of config getters, so it is not size limited.
+	 */
+	private final Map<Method, Object> cache = new ConcurrentHashMap<>();
+	/**
+	 * Getters with a cached value, by whole config key, so that a write only evicts getters for that key
+	 */
+	private final Map<String, Set<Method>> keyMethods = new ConcurrentHashMap<>();
+	/**
+	 * Incremented on each invalidation, to avoid caching a value read before a concurrent write
+	 */
+	private final AtomicLong generation = new AtomicLong();
 
 	ConfigInvocationHandler(ConfigManager manager)
 	{
@@ -54,7 +65,7 @@ class ConfigInvocationHandler implements InvocationHandler
 		// Use cached configuration value if available
 		if (args == null)
 		{
-			Object cachedValue = cache.getIfPresent(method);
+			Object cachedValue = cache.get(method);
 			if (cachedValue != null)
 			{
 				return cachedValue == NULL ? null : cachedValue;
@@ -97,6 +108,8 @@ class ConfigInvocationHandler implements InvocationHandler
 		{
 			log.trace("cache miss (size: {}, group: {}, key: {})", cache.size(), group.value(), item.keyName());
 
+			final long gen = generation.get();
+
 			// Getting configuration item
 			String value = manager.getConfiguration(group.value(), item.keyName());
 
@@ -105,11 +118,11 @@ class ConfigInvocationHandler implements InvocationHandler
 				if (method.isDefault())
 				{
 					Object defaultValue = callDefaultMethod(proxy, method, null);
-					cache.put(method, defaultValue == null ? NULL : defaultValue);
+					cache(group.value(), item.keyName(), method, defaultValue, gen);
 					return defaultValue;
 				}
 
-				cache.put(method, NULL);
+				cache(group.value(), item.keyName(), method, null, gen);
 				return null;
 			}
 
@@ -117,7 +130,7 @@ class ConfigInvocationHandler implements InvocationHandler
 			try
 			{
 				Object objectValue = manager.stringToObject(value, method.getGenericReturnType());
-				cache.put(method, objectValue == null ? NULL : objectValue);
+				cache(group.value(), item.keyName(), method, objectValue, gen);
 				return objectValue;
 			}
 			catch (Exception e)
@@ -184,9 +197,45 @@ class ConfigInvocationHandler implements InvocationHandler
 			.invokeWithArguments(args);
 	}
 
+	private void cache(String group, String key, Method method, Object value, long gen)
+	{
+		keyMethods.computeIfAbsent(ConfigManager.getWholeKey(group, null, key), k -> ConcurrentHashMap.newKeySet())
+			.add(method);
+
+		if (generation.get() != gen)
+		{
+			// the config changed while the value was being read
+			return;
+		}
+
+		cache.put(method, value == null ? NULL : value);
+
+		if (generation.get() != gen)
+		{
+			// raced with an invalidation which may have run before the put
+			cache.remove(method);
+		}
+	}
+
 	void invalidate()
 	{
 		log.trace("cache invalidate");
-		cache.invalidateAll();
+		generation.incrementAndGet();
+		cache.clear();
+	}
+
+	void invalidate(String group, String key)
+	{
+		generation.incrementAndGet();
+
+		final Set<Method> methods = keyMethods.get(ConfigManager.getWholeKey(group, null, key));
+		if (methods != null)
+		{
+			log.trace("cache invalidate (group: {}, key: {})", group, key);
+			for (Method method : methods)
+			{
+				cache.remove(method);
+			}
+		}
 	}
 }
@@ -659,7 +659,7 @@ public class ConfigManager
 
 				File configFile = ProfileManager.profileConfigFile(profile);
 				// remote configuration replaces local
-				configFile.delete();
+				ConfigData.delete(configFile);
 
 				ConfigData configData = new ConfigData(configFile);
 				configData.putAll(remoteConfiguration.getConfig());
@@ -693,9 +693,7 @@ public class ConfigManager
 
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return configProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.collect(Collectors.toList());
+		return new ArrayList<>(configProfile.keysWithPrefix(prefix));
 	}
 
 	public List<String> getRSProfileConfigurationKeys(String group, String profile, String keyPrefix)
@@ -708,8 +706,7 @@ public class ConfigManager
 		assert profile.startsWith(RSPROFILE_GROUP);
 
 		String prefix = group + "." + profile + "." + keyPrefix;
-		return rsProfileConfigProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
+		return rsProfileConfigProfile.keysWithPrefix(prefix).stream()
 			.map(k -> splitKey(k)[KEY_SPLITTER_KEY])
 			.collect(Collectors.toList());
 	}
@@ -812,7 +809,11 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
-		handler.invalidate();
+		if (profile == null)
+		{
+			// config proxies only read the global profile
+			handler.invalidate(groupName, key);
+		}
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -903,7 +904,11 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}", wholeKey);
-		handler.invalidate();
+		if (profile == null)
+		{
+			// config proxies only read the global profile
+			handler.invalidate(groupName, key);
+		}
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -941,6 +946,23 @@ public class ConfigManager
 
 		unsetConfiguration(rsProfileConfigProfile, groupName, rsProfileKey, key);
 	}
+
+	/**
+	 * Unset every key in a group starting with the given prefix
+	 *
+	 * @param groupName group name
+	 * @param profile rs profile, or null for the global profile
+	 * @param keyPrefix key prefix, or the empty string for the whole group
+	 */
+	public void unsetConfigurationKeys(String groupName, String profile, String keyPrefix)
+	{
+		ConfigData configData = profile != null ? rsProfileConfigProfile : configProfile;
+		String prefix = getWholeKey(groupName, profile, keyPrefix);
+		for (String wholeKey : new ArrayList<>(configData.keysWithPrefix(prefix)))
+		{
+			unsetConfiguration(configData, groupName, profile, wholeKey.substring(prefix.length() - keyPrefix.length()));
+		}
+	}
 	// endregion
 
 	public ConfigDescriptor getConfigDescriptor(Config configurationProxy)
@@ -1341,13 +1363,8 @@ public class ConfigManager
 	{
 		String prefix = RSPROFILE_GROUP + "." + RSPROFILE_GROUP + ".";
 		Set<String> profileKeys = new HashSet<>();
-		for (String key : rsProfileConfigProfile.keySet())
+		for (String key : rsProfileConfigProfile.keysWithPrefix(prefix))
 		{
-			if (!key.startsWith(prefix))
-			{
-				continue;
-			}
-
 			String[] split = splitKey(key);
 			if (split == null)
 			{
@@ -199,6 +199,8 @@ public class ProfileManager
 				return;
 			}
 
+			ConfigData.compact(oldFile);
+
 			try
 			{
 				Files.move(
@@ -228,4 +230,12 @@ public class ProfileManager
 	{
 		return new File(PROFILES_DIR, profile.getName() + "-" + profile.getId() + ".properties");
 	}
+
+	/**
+	 * Fold any journaled config changes into the profile's config file, so that it can be copied
+	 */
+	public static void compactProfileConfig(ConfigProfile profile)
+	{
+		ConfigData.compact(profileConfigFile(profile));
+	}
 }
@@ -26,8 +26,6 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,24 +33,34 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.InvocationMetrics;
 import net.runelite.client.util.ReflectUtil;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 
 @Slf4j
-@RequiredArgsConstructor
 @ThreadSafe
 public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
 
 	@Value
 	public static class Subscriber
@@ -77,16 +85,40 @@ public class EventBus
 	}
 
 	private final Consumer<Throwable> exceptionHandler;
+	private final InvocationMetrics metrics;
 
-	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	/**
+	 * Subscribers of each event class, ordered by {@link #SUBSCRIBER_ORDER}. The arrays are copy on write
+	 * and never modified once published, so posting needs no locking.
+	 */
+	private final Map<Class<?>, Subscriber[]> subscribers = new ConcurrentHashMap<>();
 
 	/**
 	 * Instantiates EventBus with default exception handler
 	 */
 	public EventBus()
 	{
-		this((e) -> log.warn(DEDUPLICATE, "Uncaught exception in event subscriber", e));
+		this((InvocationMetrics) null);
+	}
+
+	/**
+	 * Instantiates EventBus with default exception handler, recording subscriber timings
+	 * to the given metrics while they are enabled
+	 */
+	public EventBus(InvocationMetrics metrics)
+	{
+		this((e) -> log.warn(DEDUPLICATE, "Uncaught exception in event subscriber", e), metrics);
+	}
+
+	public EventBus(Consumer<Throwable> exceptionHandler)
+	{
+		this(exceptionHandler, null);
+	}
+
+	public EventBus(Consumer<Throwable> exceptionHandler, InvocationMetrics metrics)
+	{
+		this.exceptionHandler = exceptionHandler;
+		this.metrics = metrics;
 	}
 
 	/**
@@ -98,10 +130,8 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		// collect all subscribers before adding any, so a bad subscriber method registers nothing
+		final Map<Class<?>, List<Subscriber>> added = new LinkedHashMap<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -159,26 +189,18 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				added.computeIfAbsent(parameterClazz, k -> new ArrayList<>()).add(subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		added.forEach(this::add);
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
 		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
-
-		subscribers = builder.build();
-
+		add(clazz, Collections.singletonList(sub));
 		return sub;
 	}
 
@@ -189,10 +211,7 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		remove(s -> s.getObject() == object);
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,10 +221,45 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		remove(s -> s == sub);
+	}
+
+	private void add(Class<?> clazz, List<Subscriber> added)
+	{
+		final Subscriber[] existing = subscribers.getOrDefault(clazz, EMPTY);
+		final Subscriber[] updated = Arrays.copyOf(existing, existing.length + added.size());
+		for (int i = 0; i < added.size(); ++i)
+		{
+			updated[existing.length + i] = added.get(i);
+		}
+		// stable, so equal subscribers stay in registration order
+		Arrays.sort(updated, SUBSCRIBER_ORDER);
+		subscribers.put(clazz, updated);
+	}
+
+	private void remove(Predicate<Subscriber> filter)
+	{
+		for (Map.Entry<Class<?>, Subscriber[]> entry : subscribers.entrySet())
+		{
+			final Subscriber[] existing = entry.getValue();
+			final Subscriber[] updated = Arrays.stream(existing)
+				.filter(filter.negate())
+				.toArray(Subscriber[]::new);
+
+			if (updated.length == existing.length)
+			{
+				continue;
+			}
+
+			if (updated.length == 0)
+			{
+				subscribers.remove(entry.getKey());
+			}
+			else
+			{
+				entry.setValue(updated);
+			}
+		}
 	}
 
 	/**
@@ -216,7 +270,20 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] subs = subscribers.get(event.getClass());
+		if (subs == null)
+		{
+			return;
+		}
+
+		final InvocationMetrics metrics = this.metrics;
+		if (metrics != null && metrics.isEnabled())
+		{
+			postTimed(event, subs, metrics);
+			return;
+		}
+
+		for (final Subscriber subscriber : subs)
 		{
 			try
 			{
@@ -228,4 +295,29 @@ public class EventBus
 			}
 		}
 	}
+
+	private void postTimed(final Object event, final Subscriber[] subs, final InvocationMetrics metrics)
+	{
+		for (final Subscriber subscriber : subs)
+		{
+			final long allocated = metrics.allocatedBytes();
+			final long start = System.nanoTime();
+			try
+			{
+				subscriber.invoke(event);
+			}
+			catch (Exception e)
+			{
+				exceptionHandler.accept(e);
+			}
+			metrics.record(InvocationMetrics.Category.SUBSCRIBER, subscriber, EventBus::describe, start, allocated);
+		}
+	}
+
+	private static String describe(Object o)
+	{
+		final Subscriber subscriber = (Subscriber) o;
+		final String className = subscriber.getObject().getClass().getSimpleName();
+		return subscriber.getMethod() != null ? className + "." + subscriber.getMethod().getName() : className;
+	}
 }
@@ -38,6 +38,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
@@ -58,6 +59,7 @@ import net.runelite.api.widgets.ItemQuantityMode;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.util.AsyncBufferedImage;
+import net.runelite.client.util.ClientExecutors;
 import net.runelite.http.api.item.ItemPrice;
 import net.runelite.http.api.item.ItemStats;
 
@@ -96,6 +98,8 @@ public class ItemManager
 
 	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
 	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
+	private ItemNameIndex priceNameIndex = ItemNameIndex.EMPTY;
+	private ItemNameIndex itemNameIndex = ItemNameIndex.EMPTY;
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
 
@@ -181,16 +185,18 @@ public class ItemManager
 		build();
 
 	@Inject
-	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
-		ItemClient itemClient, RuneLiteConfig runeLiteConfig)
+	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientExecutors executors,
+		ClientThread clientThread, ItemClient itemClient, RuneLiteConfig runeLiteConfig)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
 		this.itemClient = itemClient;
 		this.runeLiteConfig = runeLiteConfig;
 
-		scheduledExecutorService.scheduleWithFixedDelay(this::loadPrices, 0, 30, TimeUnit.MINUTES);
-		scheduledExecutorService.submit(this::loadStats);
+		// the timer only triggers the loads, so a slow http request doesn't hold up other timer tasks
+		final ExecutorService io = executors.getIo();
+		scheduledExecutorService.scheduleWithFixedDelay(() -> io.execute(this::loadPrices), 0, 30, TimeUnit.MINUTES);
+		io.execute(this::loadStats);
 
 		itemImages = CacheBuilder.newBuilder()
 			.maximumSize(128L)
@@ -225,11 +231,21 @@ public class ItemManager
 			if (prices != null)
 			{
 				ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(prices.length);
+				int maxId = -1;
 				for (ItemPrice price : prices)
 				{
 					map.put(price.getId(), price);
+					maxId = Math.max(maxId, price.getId());
 				}
+
+				final String[] names = new String[maxId + 1];
+				for (ItemPrice price : prices)
+				{
+					names[price.getId()] = price.getName();
+				}
+
 				itemPrices = map.build();
+				priceNameIndex = ItemNameIndex.build(names.length, id -> names[id]);
 			}
 
 			log.debug("Loaded {} prices", itemPrices.size());
@@ -366,17 +382,18 @@ public class ItemManager
 	 * Search for tradeable items based on item name
 	 *
 	 * @param itemName item name
-	 * @return
+	 * @return matching items, best match first
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
+		final Map<Integer, ItemPrice> prices = itemPrices;
+		final int[] ids = priceNameIndex.search(itemName, Integer.MAX_VALUE);
 
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
+		List<ItemPrice> result = new ArrayList<>(ids.length);
+		for (int id : ids)
 		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
+			final ItemPrice itemPrice = prices.get(id);
+			if (itemPrice != null)
 			{
 				result.add(itemPrice);
 			}
@@ -384,6 +401,27 @@ public class ItemManager
 		return result;
 	}
 
+	/**
+	 * Get a name index over all item definitions in the cache. The index is built on first use and
+	 * rebuilt when the number of items in the cache changes.
+	 * This method must be run on the client thread.
+	 *
+	 * @return the item name index
+	 */
+	public ItemNameIndex getItemNameIndex()
+	{
+		assert client.isClientThread();
+
+		final int itemCount = client.getItemCount();
+		if (itemNameIndex.size() != itemCount)
+		{
+			long start = System.nanoTime();
+			itemNameIndex = ItemNameIndex.build(itemCount, id -> getItemComposition(id).getName());
+			log.debug("Built item name index of {} items in {}ms", itemCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+		return itemNameIndex;
+	}
+
 	/**
 	 * Look up an item's composition
 	 *
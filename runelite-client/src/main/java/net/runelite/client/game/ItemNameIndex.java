@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+/**
+ * A substring index over item names.
+ * <p>
+ * Every bigram and trigram of every name maps to a sorted posting list of the ids whose name
+ * contains it. A query intersects the posting lists of its own trigrams, starting from the
+ * shortest, and then checks the few remaining candidates with {@link String#indexOf(String)}.
+ * Two character queries use the bigram list directly, and single characters fall back to
+ * scanning the lowercased names.
+ * <p>
+ * Indexes are immutable and safe to share between threads.
+ */
+public final class ItemNameIndex
+{
+	public static final ItemNameIndex EMPTY = new ItemNameIndex(new String[0], new HashMap<>());
+
+	private static final int MIN_GRAM = 2;
+	private static final int MAX_GRAM = 3;
+	private static final int[] NO_POSTINGS = new int[0];
+
+	// lowercased names, indexed by id, or null if the id has no name
+	private final String[] names;
+	private final Map<Long, int[]> postings;
+
+	private ItemNameIndex(String[] names, Map<Long, int[]> postings)
+	{
+		this.names = names;
+		this.postings = postings;
+	}
+
+	/**
+	 * Build an index over the ids {@code [0, size)}
+	 *
+	 * @param size  number of ids
+	 * @param names function from id to name. Ids with a null or "null" name are not indexed.
+	 * @return the index
+	 */
+	public static ItemNameIndex build(int size, IntFunction<String> names)
+	{
+		final String[] lowerNames = new String[size];
+		final GramTable table = new GramTable();
+
+		for (int id = 0; id < size; ++id)
+		{
+			final String name = names.apply(id);
+			if (name == null || name.equals("null"))
+			{
+				continue;
+			}
+
+			final String lower = name.toLowerCase();
+			lowerNames[id] = lower;
+
+			for (int len = MIN_GRAM; len <= MAX_GRAM; ++len)
+			{
+				for (int i = 0; i + len <= lower.length(); ++i)
+				{
+					table.get(gram(lower, i, len)).add(id);
+				}
+			}
+		}
+
+		final Map<Long, int[]> postings = new HashMap<>(table.size * 4 / 3 + 1);
+		for (int i = 0; i < table.keys.length; ++i)
+		{
+			final PostingList list = table.lists[i];
+			if (list != null)
+			{
+				postings.put(table.keys[i], Arrays.copyOf(list.ids, list.size));
+			}
+		}
+
+		return new ItemNameIndex(lowerNames, postings);
+	}
+
+	private static long gram(String s, int offset, int len)
+	{
+		long gram = len;
+		for (int i = 0; i < len; ++i)
+		{
+			gram = (gram << 16) | s.charAt(offset + i);
+		}
+		return gram;
+	}
+
+	/**
+	 * Get the number of ids this index covers
+	 *
+	 * @return the size given to {@link #build(int, IntFunction)}
+	 */
+	public int size()
+	{
+		return names.length;
+	}
+
+	/**
+	 * Search for ids whose name contains the query, ignoring case
+	 *
+	 * @param query search text
+	 * @param limit maximum number of results
+	 * @return matching ids, best match first
+	 * @see #search(String, IntPredicate, int)
+	 */
+	public int[] search(String query, int limit)
+	{
+		return search(query, null, limit);
+	}
+
+	/**
+	 * Search for ids whose name contains the query, ignoring case. Names starting with the query
+	 * rank first, then names with a word starting with the query, then everything else. Within a
+	 * rank, shorter names come first, and then lower ids.
+	 *
+	 * @param query  search text
+	 * @param filter optional predicate on the id, tested before ranking
+	 * @param limit  maximum number of results
+	 * @return matching ids, best match first
+	 */
+	public int[] search(String query, IntPredicate filter, int limit)
+	{
+		final String q = query.toLowerCase();
+		if (q.isEmpty() || limit <= 0)
+		{
+			return NO_POSTINGS;
+		}
+
+		final List<Match> matches = new ArrayList<>();
+		if (q.length() < MIN_GRAM)
+		{
+			for (int id = 0; id < names.length; ++id)
+			{
+				match(id, q, filter, matches);
+			}
+		}
+		else
+		{
+			for (int id : candidates(q))
+			{
+				match(id, q, filter, matches);
+			}
+		}
+
+		matches.sort(null);
+
+		final int count = Math.min(limit, matches.size());
+		final int[] ids = new int[count];
+		for (int i = 0; i < count; ++i)
+		{
+			ids[i] = matches.get(i).id;
+		}
+		return ids;
+	}
+
+	private int[] candidates(String q)
+	{
+		final int len = Math.min(q.length(), MAX_GRAM);
+		final int grams = q.length() - len + 1;
+		final int[][] lists = new int[grams][];
+		for (int i = 0; i < grams; ++i)
+		{
+			final int[] list = postings.get(gram(q, i, len));
+			if (list == null)
+			{
+				return NO_POSTINGS;
+			}
+			lists[i] = list;
+		}
+
+		Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+		int[] result = lists[0];
+		for (int i = 1; i < lists.length && result.length > 0; ++i)
+		{
+			result = intersect(result, lists[i]);
+		}
+		return result;
+	}
+
+	private static int[] intersect(int[] a, int[] b)
+	{
+		final int[] out = new int[Math.min(a.length, b.length)];
+		int n = 0;
+		int i = 0;
+		int j = 0;
+		while (i < a.length && j < b.length)
+		{
+			if (a[i] < b[j])
+			{
+				++i;
+			}
+			else if (a[i] > b[j])
+			{
+				++j;
+			}
+			else
+			{
+				out[n++] = a[i];
+				++i;
+				++j;
+			}
+		}
+		return n == out.length ? out : Arrays.copyOf(out, n);
+	}
+
+	private void match(int id, String q, IntPredicate filter, List<Match> matches)
+	{
+		final String name = names[id];
+		if (name == null)
+		{
+			return;
+		}
+
+		final int idx = name.indexOf(q);
+		if (idx == -1 || (filter != null && !filter.test(id)))
+		{
+			return;
+		}
+
+		final int rank;
+		if (idx == 0)
+		{
+			rank = 0;
+		}
+		else if (!Character.isLetterOrDigit(name.charAt(idx - 1)) || name.contains(" " + q))
+		{
+			rank = 1;
+		}
+		else
+		{
+			rank = 2;
+		}
+
+		matches.add(new Match(id, rank, name.length()));
+	}
+
+	/**
+	 * Open addressing map from gram to posting list, to avoid boxing every gram during the build
+	 */
+	private static final class GramTable
+	{
+		private long[] keys = new long[1 << 14];
+		private PostingList[] lists = new PostingList[1 << 14];
+		private int size;
+
+		PostingList get(long key)
+		{
+			int mask = keys.length - 1;
+			int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+			while (lists[slot] != null)
+			{
+				if (keys[slot] == key)
+				{
+					return lists[slot];
+				}
+				slot = (slot + 1) & mask;
+			}
+
+			if ((size + 1) * 2 > keys.length)
+			{
+				grow();
+				return get(key);
+			}
+
+			final PostingList list = new PostingList();
+			keys[slot] = key;
+			lists[slot] = list;
+			++size;
+			return list;
+		}
+
+		private void grow()
+		{
+			final long[] oldKeys = keys;
+			final PostingList[] oldLists = lists;
+			keys = new long[oldKeys.length * 2];
+			lists = new PostingList[oldLists.length * 2];
+
+			final int mask = keys.length - 1;
+			for (int i = 0; i < oldKeys.length; ++i)
+			{
+				if (oldLists[i] != null)
+				{
+					int slot = Long.hashCode(oldKeys[i] * 0x9E3779B97F4A7C15L) & mask;
+					while (lists[slot] != null)
+					{
+						slot = (slot + 1) & mask;
+					}
+					keys[slot] = oldKeys[i];
+					lists[slot] = oldLists[i];
+				}
+			}
+		}
+	}
+
+	private static final class PostingList
+	{
+		private int[] ids = new int[4];
+		private int size;
+
+		void add(int id)
+		{
+			// ids are added in order, so a gram repeated within one name only needs checking against the tail
+			if (size > 0 && ids[size - 1] == id)
+			{
+				return;
+			}
+
+			if (size == ids.length)
+			{
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			ids[size++] = id;
+		}
+	}
+
+	private static final class Match implements Comparable<Match>
+	{
+		private final int id;
+		private final int rank;
+		private final int length;
+
+		private Match(int id, int rank, int length)
+		{
+			this.id = id;
+			this.rank = rank;
+			this.length = length;
+		}
+
+		@Override
+		public int compareTo(Match other)
+		{
+			if (rank != other.rank)
+			{
+				return Integer.compare(rank, other.rank);
+			}
+			if (length != other.length)
+			{
+				return Integer.compare(length, other.length);
+			}
+			return Integer.compare(id, other.id);
+		}
+	}
+}
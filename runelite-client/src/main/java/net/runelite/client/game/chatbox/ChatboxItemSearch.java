@@ -36,7 +36,6 @@ import java.util.function.Consumer;
 import javax.inject.Singleton;
 import lombok.Getter;
 import lombok.Value;
-import net.runelite.api.Client;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.widgets.ItemQuantityMode;
 import net.runelite.api.widgets.JavaScriptCallback;
@@ -61,7 +60,6 @@ public class ChatboxItemSearch extends ChatboxTextInput
 
 	private final ChatboxPanelManager chatboxPanelManager;
 	private final ItemManager itemManager;
-	private final Client client;
 
 	private final Map<Integer, ItemComposition> results = new LinkedHashMap<>();
 	private String tooltipText;
@@ -80,12 +78,11 @@ public class ChatboxItemSearch extends ChatboxTextInput
 
 	@Inject
 	private ChatboxItemSearch(ChatboxPanelManager chatboxPanelManager, ClientThread clientThread,
-		ItemManager itemManager, Client client)
+		ItemManager itemManager)
 	{
 		super(chatboxPanelManager, clientThread);
 		this.chatboxPanelManager = chatboxPanelManager;
 		this.itemManager = itemManager;
-		this.client = client;
 
 		lines(1);
 		prompt("Item Search");
@@ -305,14 +302,17 @@ public class ChatboxItemSearch extends ChatboxTextInput
 		}
 
 		Set<ItemIcon> itemIcons = new HashSet<>();
-		for (int i = 0; i < client.getItemCount() && results.size() < MAX_RESULTS; i++)
+		for (int id : itemManager.getItemNameIndex().search(search, Integer.MAX_VALUE))
 		{
-			ItemComposition itemComposition = itemManager.getItemComposition(itemManager.canonicalize(i));
-			String name = itemComposition.getName().toLowerCase();
+			if (results.size() >= MAX_RESULTS)
+			{
+				break;
+			}
+
+			ItemComposition itemComposition = itemManager.getItemComposition(itemManager.canonicalize(id));
 
-			// The client assigns "null" to item names of items it doesn't know about
-			// and the item might already be in the results from canonicalize
-			if (!name.equals("null") && name.contains(search) && !results.containsKey(itemComposition.getId()))
+			// The item might already be in the results from canonicalize
+			if (!results.containsKey(itemComposition.getId()))
 			{
 				// Check if the results already contain the same item image
 				ItemIcon itemIcon = new ItemIcon(itemComposition.getInventoryModel(),
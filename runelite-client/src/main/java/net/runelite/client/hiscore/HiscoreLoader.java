@@ -26,23 +26,23 @@ package net.runelite.client.hiscore;
 
 import com.google.common.cache.CacheLoader;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.ListeningExecutorService;
-import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ListenableFutureTask;
 import java.io.IOException;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import lombok.extern.slf4j.Slf4j;
 import static net.runelite.client.hiscore.HiscoreManager.EMPTY;
 import static net.runelite.client.hiscore.HiscoreManager.NONE;
+import net.runelite.client.util.TaskMonitor;
 
 @Slf4j
 class HiscoreLoader extends CacheLoader<HiscoreManager.HiscoreKey, HiscoreResult>
 {
-	private final ListeningExecutorService executorService;
+	private final ExecutorService executorService;
 	private final HiscoreClient hiscoreClient;
 
-	HiscoreLoader(ScheduledExecutorService executor, HiscoreClient client)
+	HiscoreLoader(ExecutorService executor, HiscoreClient client)
 	{
-		this.executorService = MoreExecutors.listeningDecorator(executor);
+		this.executorService = executor;
 		this.hiscoreClient = client;
 	}
 
@@ -57,7 +57,9 @@ class HiscoreLoader extends CacheLoader<HiscoreManager.HiscoreKey, HiscoreResult
 	{
 		log.debug("Submitting hiscore lookup for {} type {}", hiscoreKey.getUsername(), hiscoreKey.getType());
 
-		return executorService.submit(() -> fetch(hiscoreKey));
+		final ListenableFutureTask<HiscoreResult> task = ListenableFutureTask.create(() -> fetch(hiscoreKey));
+		executorService.execute(TaskMonitor.attribute(task, HiscoreLoader.class));
+		return task;
 	}
 
 	private HiscoreResult fetch(HiscoreManager.HiscoreKey hiscoreKey)
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.party.messages.WebsocketMessage;
+
+/**
+ * Frame format for the binary party messages sent in one client tick.
+ * <pre>
+ * byte    version
+ * varint  type count, followed by each type name
+ * records until the end of the frame:
+ *   varint  index into the type table
+ *   varint  payload length
+ *   bytes   payload, as written by the type's {@link PartyMessageCodec}
+ * </pre>
+ * Records of types the receiver has no codec for are skipped.
+ */
+@Slf4j
+final class PartyBatch
+{
+	static final String TYPE = "Batch";
+
+	static final int VERSION = 1;
+
+	private PartyBatch()
+	{
+	}
+
+	@SuppressWarnings("unchecked")
+	static byte[] encode(List<WebsocketMessage> messages, Map<Class<?>, PartyMessageCodec<?>> codecs) throws IOException
+	{
+		final Map<String, Integer> types = new LinkedHashMap<>();
+		final ByteArrayOutputStream records = new ByteArrayOutputStream();
+		final DataOutputStream recordsOut = new DataOutputStream(records);
+		final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		final DataOutputStream payloadOut = new DataOutputStream(payload);
+
+		for (WebsocketMessage message : messages)
+		{
+			final PartyMessageCodec<WebsocketMessage> codec = (PartyMessageCodec<WebsocketMessage>) codecs.get(message.getClass());
+			if (codec == null)
+			{
+				continue;
+			}
+
+			payload.reset();
+			codec.encode(message, payloadOut);
+			payloadOut.flush();
+
+			final Integer index = types.computeIfAbsent(message.getClass().getSimpleName(), k -> types.size());
+			writeVarInt(recordsOut, index);
+			writeVarInt(recordsOut, payload.size());
+			payload.writeTo(recordsOut);
+		}
+
+		final ByteArrayOutputStream frame = new ByteArrayOutputStream(records.size() + 16 * types.size() + 2);
+		final DataOutputStream out = new DataOutputStream(frame);
+		out.writeByte(VERSION);
+		writeVarInt(out, types.size());
+		for (String type : types.keySet())
+		{
+			out.writeUTF(type);
+		}
+		recordsOut.flush();
+		records.writeTo(out);
+		out.flush();
+		return frame.toByteArray();
+	}
+
+	static List<WebsocketMessage> decode(byte[] frame, Map<String, PartyMessageCodec<?>> codecs) throws IOException
+	{
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame));
+		final int version = in.readUnsignedByte();
+		if (version != VERSION)
+		{
+			throw new IOException("unsupported batch version " + version);
+		}
+
+		final int typeCount = readVarInt(in);
+		// each type name takes at least two bytes, so this also bounds the allocation
+		if (typeCount < 0 || typeCount > in.available())
+		{
+			throw new IOException("corrupt batch type count " + typeCount);
+		}
+
+		final PartyMessageCodec<?>[] types = new PartyMessageCodec<?>[typeCount];
+		for (int i = 0; i < typeCount; ++i)
+		{
+			types[i] = codecs.get(in.readUTF());
+		}
+
+		final List<WebsocketMessage> messages = new ArrayList<>();
+		int offset = frame.length - in.available();
+		while (offset < frame.length)
+		{
+			final int index = readVarInt(in);
+			final int length = readVarInt(in);
+			offset = frame.length - in.available();
+			if (index < 0 || index >= typeCount || length < 0 || length > frame.length - offset)
+			{
+				throw new IOException("corrupt batch record");
+			}
+
+			final PartyMessageCodec<?> codec = types[index];
+			if (codec != null)
+			{
+				try
+				{
+					messages.add(codec.decode(new DataInputStream(new ByteArrayInputStream(frame, offset, length))));
+				}
+				catch (IOException | RuntimeException e)
+				{
+					log.debug("Failed to decode batched message", e);
+				}
+			}
+
+			in.skipBytes(length);
+			offset += length;
+		}
+		return messages;
+	}
+
+	private static void writeVarInt(DataOutput out, int value) throws IOException
+	{
+		while ((value & ~0x7f) != 0)
+		{
+			out.writeByte((value & 0x7f) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	private static int readVarInt(DataInput in) throws IOException
+	{
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7)
+		{
+			final int b = in.readUnsignedByte();
+			value |= (b & 0x7f) << shift;
+			if ((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+		throw new IOException("varint too long");
+	}
+}
@@ -44,6 +44,7 @@ import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.ItemComposition;
+import net.runelite.api.events.PostClientTick;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.eventbus.EventBus;
@@ -194,6 +195,13 @@ public class PartyService
 		wsClient.send(message);
 	}
 
+	@Subscribe
+	public void onPostClientTick(PostClientTick event)
+	{
+		// everything sent during this tick goes out in one frame
+		wsClient.flush();
+	}
+
 	@Subscribe(priority = 1) // run prior to plugins so that the member is joined by the time the plugins see it.
 	public void onUserJoin(final UserJoin message)
 	{
@@ -27,10 +27,16 @@ package net.runelite.client.party;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -41,6 +47,7 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.party.events.UserJoin;
 import net.runelite.client.party.events.UserPart;
 import net.runelite.client.party.messages.PartyMemberMessage;
+import net.runelite.client.party.messages.UserSync;
 import net.runelite.client.party.messages.WebsocketMessage;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -58,6 +65,15 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 	private final OkHttpClient okHttpClient;
 	private final HttpUrl runeliteWs;
 	private final Collection<Class<? extends WebsocketMessage>> messages = new HashSet<>();
+	private final Map<Class<?>, PartyMessageCodec<?>> codecs = new ConcurrentHashMap<>();
+	private final Map<String, PartyMessageCodec<?>> codecsByName = new ConcurrentHashMap<>();
+	// binary messages waiting for the end of the client tick
+	private final List<WebsocketMessage> pending = new ArrayList<>();
+	// members of the current party, and which of them are known to decode batch frames. guarded by pending
+	private final Set<Long> partyMembers = new HashSet<>();
+	private final Set<Long> batchMembers = new HashSet<>();
+	private long partyId;
+	private long localMemberId;
 
 	private volatile Gson gson;
 	@Getter
@@ -129,16 +145,48 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		}
 	}
 
+	/**
+	 * Register a message type with a binary codec. Messages of this type are batched per client
+	 * tick and sent in the codec's encoding. JSON messages of this type are still accepted.
+	 *
+	 * @param message message type
+	 * @param codec   codec for the message type
+	 */
+	public <T extends WebsocketMessage> void registerMessage(final Class<T> message, final PartyMessageCodec<T> codec)
+	{
+		registerMessage(message);
+		registerCodec(message, codec);
+	}
+
+	private void registerCodec(final Class<? extends WebsocketMessage> message, final PartyMessageCodec<?> codec)
+	{
+		codecs.put(message, codec);
+		codecsByName.put(message.getSimpleName(), codec);
+	}
+
 	public void unregisterMessage(final Class<? extends WebsocketMessage> message)
 	{
 		if (messages.remove(message))
 		{
 			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
 		}
+
+		if (codecs.remove(message) != null)
+		{
+			codecsByName.remove(message.getSimpleName());
+		}
 	}
 
 	void join(long partyId, long memberId)
 	{
+		synchronized (pending)
+		{
+			this.partyId = partyId;
+			localMemberId = memberId;
+			partyMembers.clear();
+			batchMembers.clear();
+		}
+
 		final Party.Join join = Party.Join.newBuilder()
 			.setPartyId(partyId)
 			.setMemberId(memberId)
@@ -151,6 +199,13 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 
 	void part()
 	{
+		synchronized (pending)
+		{
+			pending.clear();
+			partyMembers.clear();
+			batchMembers.clear();
+		}
+
 		final Party.Part part = Party.Part.newBuilder()
 			.build();
 		final Party.C2S c2s = Party.C2S.newBuilder()
@@ -160,6 +215,29 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 	}
 
 	void send(WebsocketMessage message)
+	{
+		if (message instanceof UserSync)
+		{
+			((UserSync) message).setBatchVersion(PartyBatch.VERSION);
+		}
+
+		if (codecs.containsKey(message.getClass()))
+		{
+			synchronized (pending)
+			{
+				if (canBatch())
+				{
+					log.debug("Queueing: {}", message);
+					pending.add(message);
+					return;
+				}
+			}
+		}
+
+		sendJson(message);
+	}
+
+	private void sendJson(WebsocketMessage message)
 	{
 		log.debug("Sending: {}", message);
 		final String json = gson.toJson(message, WebsocketMessage.class);
@@ -173,6 +251,70 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		send(c2s);
 	}
 
+	/**
+	 * Send all queued binary messages in a single frame
+	 */
+	void flush()
+	{
+		final List<WebsocketMessage> batch;
+		final boolean batching;
+		synchronized (pending)
+		{
+			if (pending.isEmpty())
+			{
+				return;
+			}
+
+			batch = new ArrayList<>(pending);
+			pending.clear();
+			batching = canBatch();
+		}
+
+		if (!batching)
+		{
+			// a member which can't decode batches joined since these were queued
+			batch.forEach(this::sendJson);
+			return;
+		}
+
+		final byte[] frame;
+		try
+		{
+			frame = PartyBatch.encode(batch, codecs);
+		}
+		catch (IOException e)
+		{
+			log.warn("Failed to encode party messages", e);
+			return;
+		}
+
+		log.debug("Sending batch of {} messages, {} bytes", batch.size(), frame.length);
+		final Party.Data data = Party.Data.newBuilder()
+			.setType(PartyBatch.TYPE)
+			.setData(com.google.protobuf.ByteString.copyFrom(frame))
+			.build();
+		final Party.C2S c2s = Party.C2S.newBuilder()
+			.setData(data)
+			.build();
+		send(c2s);
+	}
+
+	/**
+	 * Batch frames are only sent once every other member has said it can decode them,
+	 * so members on older clients keep receiving JSON. Must hold the pending lock.
+	 */
+	private boolean canBatch()
+	{
+		for (long memberId : partyMembers)
+		{
+			if (memberId != localMemberId && !batchMembers.contains(memberId))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private void send(Party.C2S message)
 	{
 		if (webSocket == null)
@@ -217,18 +359,36 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		{
 			case JOIN:
 				Party.UserJoin join = s2c.getJoin();
+				synchronized (pending)
+				{
+					if (join.getPartyId() == partyId)
+					{
+						partyMembers.add(join.getMemberId());
+					}
+				}
 				UserJoin userJoin = new UserJoin(join.getPartyId(), join.getMemberId());
 				log.debug("Got: {}", userJoin);
 				eventBus.post(userJoin);
 				break;
 			case PART:
 				Party.UserPart part = s2c.getPart();
+				synchronized (pending)
+				{
+					partyMembers.remove(part.getMemberId());
+					batchMembers.remove(part.getMemberId());
+				}
 				UserPart userPart = new UserPart(part.getMemberId());
 				log.debug("Got: {}", userPart);
 				eventBus.post(userPart);
 				break;
 			case DATA:
 				Party.PartyData data = s2c.getData();
+				if (PartyBatch.TYPE.equals(data.getType()))
+				{
+					onBatch(data);
+					return;
+				}
+
 				final WebsocketMessage message;
 
 				try
@@ -246,11 +406,52 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 					((PartyMemberMessage) message).setMemberId(data.getMemberId());
 				}
 
+				if (message instanceof UserSync && ((UserSync) message).getBatchVersion() == PartyBatch.VERSION)
+				{
+					supportsBatches(data.getMemberId());
+				}
+
 				log.debug("Got: {}", message);
 				eventBus.post(message);
 		}
 	}
 
+	private void supportsBatches(long memberId)
+	{
+		synchronized (pending)
+		{
+			batchMembers.add(memberId);
+		}
+	}
+
+	private void onBatch(Party.PartyData data)
+	{
+		// a member sending batches can also decode them
+		supportsBatches(data.getMemberId());
+
+		final List<WebsocketMessage> batch;
+		try
+		{
+			batch = PartyBatch.decode(data.getData().toByteArray(), codecsByName);
+		}
+		catch (IOException | RuntimeException e)
+		{
+			log.debug("Failed to deserialize batch", e);
+			return;
+		}
+
+		for (WebsocketMessage message : batch)
+		{
+			if (message instanceof PartyMemberMessage)
+			{
+				((PartyMemberMessage) message).setMemberId(data.getMemberId());
+			}
+
+			log.debug("Got: {}", message);
+			eventBus.post(message);
+		}
+	}
+
 	@Override
 	public void onClosed(WebSocket webSocket, int code, String reason)
 	{
@@ -24,6 +24,16 @@
  */
 package net.runelite.client.party.messages;
 
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
 public class UserSync extends PartyMemberMessage
 {
+	/**
+	 * Version of the batch frame format the sender can decode, or 0 for clients
+	 * which predate batching. UserSync is always sent as JSON so that every client can read it.
+	 */
+	private int batchVersion;
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import com.google.common.base.Splitter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+/**
+ * The plugin index written at build time by {@code PluginIndexProcessor}. It lists every class with a
+ * {@link PluginDescriptor}, along with the descriptor flags needed to filter plugins before their
+ * classes are loaded.
+ */
+@Value
+class PluginIndex
+{
+	static final String RESOURCE = "META-INF/runelite/plugins.idx";
+
+	private static final Splitter TAB = Splitter.on('\t');
+	private static final Splitter COMMA = Splitter.on(',').omitEmptyStrings();
+
+	@Value
+	static class Entry
+	{
+		private final String className;
+		private final Set<String> flags;
+
+		boolean isDeveloperPlugin()
+		{
+			return flags.contains("developerPlugin");
+		}
+
+		boolean isLoadWhenOutdated()
+		{
+			return flags.contains("loadWhenOutdated");
+		}
+	}
+
+	private final List<Entry> entries;
+
+	/**
+	 * Read the index from every copy of {@link #RESOURCE} visible to the class loader
+	 *
+	 * @return the index, or null if there is none
+	 */
+	@Nullable
+	static PluginIndex load(ClassLoader classLoader) throws IOException
+	{
+		final Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+		if (!resources.hasMoreElements())
+		{
+			return null;
+		}
+
+		final List<Entry> entries = new ArrayList<>();
+		while (resources.hasMoreElements())
+		{
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8)))
+			{
+				String line;
+				while ((line = reader.readLine()) != null)
+				{
+					if (line.isEmpty() || line.startsWith("#"))
+					{
+						continue;
+					}
+
+					final List<String> columns = TAB.splitToList(line);
+					if (columns.size() != 2)
+					{
+						throw new IOException("malformed plugin index line: " + line);
+					}
+
+					entries.add(new Entry(columns.get(0), new HashSet<>(COMMA.splitToList(columns.get(1)))));
+				}
+			}
+		}
+		return new PluginIndex(Collections.unmodifiableList(entries));
+	}
+}
@@ -49,12 +49,20 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
@@ -88,6 +96,8 @@ public class PluginManager
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
+	// how long plugin startup may hold the EDT before yielding so the splash screen can repaint
+	private static final long EDT_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
 
 	private final boolean developerMode;
 	private final boolean safeMode;
@@ -101,6 +111,13 @@ public class PluginManager
 	@Setter
 	boolean isOutdated;
 
+	/**
+	 * Instantiate plugins in parallel, one dependency level at a time, and start them in batches
+	 * on the EDT, skipping disabled plugins without an EDT round trip
+	 */
+	@Setter
+	boolean parallelStartup = Boolean.getBoolean("runelite.plugins.parallel");
+
 	@Inject
 	@VisibleForTesting
 	PluginManager(
@@ -228,23 +245,57 @@ public class PluginManager
 
 	public void startPlugins()
 	{
+		if (parallelStartup)
+		{
+			startPluginsBatched();
+			return;
+		}
+
 		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
 		int loaded = 0;
 		for (Plugin plugin : scannedPlugins)
+		{
+			try
+			{
+				SwingUtilities.invokeAndWait(() -> startPluginOrRemove(plugin));
+			}
+			catch (InterruptedException | InvocationTargetException e)
+			{
+				throw new RuntimeException(e);
+			}
+
+			loaded++;
+			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
+		}
+
+		for (Plugin plugin : plugins)
+		{
+			ReflectUtil.queueInjectorAnnotationCacheInvalidation(plugin.injector);
+		}
+	}
+
+	private void startPluginsBatched()
+	{
+		// Most plugins are disabled, and startPlugin() would return immediately for them. Filter them
+		// out here instead of paying an EDT round trip each. startPlugin() checks again, in case a
+		// conflicting plugin disables one of these first.
+		final List<Plugin> enabledPlugins = plugins.stream()
+			.filter(this::isPluginEnabled)
+			.collect(Collectors.toList());
+
+		final AtomicInteger next = new AtomicInteger();
+		while (next.get() < enabledPlugins.size())
 		{
 			try
 			{
 				SwingUtilities.invokeAndWait(() ->
 				{
-					try
+					final long start = System.nanoTime();
+					do
 					{
-						startPlugin(plugin);
-					}
-					catch (PluginInstantiationException ex)
-					{
-						log.warn("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
-						plugins.remove(plugin);
+						startPluginOrRemove(enabledPlugins.get(next.getAndIncrement()));
 					}
+					while (next.get() < enabledPlugins.size() && System.nanoTime() - start < EDT_BATCH_NANOS);
 				});
 			}
 			catch (InterruptedException | InvocationTargetException e)
@@ -252,8 +303,7 @@ public class PluginManager
 				throw new RuntimeException(e);
 			}
 
-			loaded++;
-			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
+			SplashScreen.stage(.80, 1, null, "Starting plugins", next.get(), enabledPlugins.size(), false);
 		}
 
 		for (Plugin plugin : plugins)
@@ -262,19 +312,75 @@ public class PluginManager
 		}
 	}
 
+	private void startPluginOrRemove(Plugin plugin)
+	{
+		try
+		{
+			startPlugin(plugin);
+		}
+		catch (PluginInstantiationException ex)
+		{
+			log.warn("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+			plugins.remove(plugin);
+		}
+	}
+
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		// Developer builds may come from an IDE which doesn't run the index processor, or only runs it on
+		// the changed sources, so they always scan
+		final PluginIndex index = developerMode ? null : PluginIndex.load(getClass().getClassLoader());
+		List<Class<?>> plugins;
+		if (index != null)
+		{
+			plugins = loadIndexedClasses(index);
+		}
+		else
+		{
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+
+			plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
 	}
 
+	/**
+	 * Load the plugin classes listed in the index, without loading plugins which would be filtered out
+	 * by {@link #loadPlugins(List, BiConsumer)} anyway
+	 */
+	private List<Class<?>> loadIndexedClasses(PluginIndex index)
+	{
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<Class<?>> plugins = new ArrayList<>(index.getEntries().size());
+		for (PluginIndex.Entry entry : index.getEntries())
+		{
+			if (!entry.getClassName().startsWith(PLUGIN_PACKAGE + ".")
+				|| (entry.isDeveloperPlugin() && !developerMode)
+				|| (!entry.isLoadWhenOutdated() && isOutdated))
+			{
+				continue;
+			}
+
+			try
+			{
+				plugins.add(Class.forName(entry.getClassName(), false, classLoader));
+			}
+			catch (ClassNotFoundException ex)
+			{
+				log.warn("Indexed plugin {} is missing", entry.getClassName(), ex);
+			}
+		}
+
+		log.debug("Loaded {} of {} indexed plugins", plugins.size(), index.getEntries().size());
+		return plugins;
+	}
+
 	public void loadSideLoadPlugins()
 	{
 		if (!developerMode)
@@ -382,6 +488,11 @@ public class PluginManager
 
 		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
 
+		if (parallelStartup)
+		{
+			return instantiateParallel(graph, sortedPlugins, onPluginLoaded);
+		}
+
 		int loaded = 0;
 		List<Plugin> newPlugins = new ArrayList<>();
 		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
@@ -408,6 +519,80 @@ public class PluginManager
 		return newPlugins;
 	}
 
+	/**
+	 * Instantiate plugins one dependency level at a time. All plugins in a level only depend on plugins
+	 * in earlier levels, so each level is instantiated in parallel. Plugins are added to the plugin list
+	 * in topological order, same as the serial path.
+	 */
+	private List<Plugin> instantiateParallel(Graph<Class<? extends Plugin>> graph, List<Class<? extends Plugin>> sortedPlugins,
+		BiConsumer<Integer, Integer> onPluginLoaded)
+	{
+		final Map<Class<? extends Plugin>, Integer> depths = new HashMap<>();
+		final List<List<Class<? extends Plugin>>> levels = new ArrayList<>();
+		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
+		{
+			int depth = 0;
+			for (Class<? extends Plugin> dependency : graph.predecessors(pluginClazz))
+			{
+				depth = Math.max(depth, depths.get(dependency) + 1);
+			}
+			depths.put(pluginClazz, depth);
+
+			if (depth == levels.size())
+			{
+				levels.add(new ArrayList<>());
+			}
+			levels.get(depth).add(pluginClazz);
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors()));
+		try
+		{
+			int loaded = 0;
+			final List<Plugin> newPlugins = new ArrayList<>();
+			for (List<Class<? extends Plugin>> level : levels)
+			{
+				final List<Future<Plugin>> futures = new ArrayList<>(level.size());
+				for (Class<? extends Plugin> pluginClazz : level)
+				{
+					futures.add(executor.submit(() -> instantiate(this.plugins, (Class<Plugin>) pluginClazz)));
+				}
+
+				for (Future<Plugin> future : futures)
+				{
+					try
+					{
+						final Plugin plugin = future.get();
+						newPlugins.add(plugin);
+						this.plugins.add(plugin);
+					}
+					catch (ExecutionException ex)
+					{
+						log.warn("Error instantiating plugin!", ex.getCause());
+					}
+					catch (InterruptedException ex)
+					{
+						Thread.currentThread().interrupt();
+						throw new RuntimeException(ex);
+					}
+
+					loaded++;
+					if (onPluginLoaded != null)
+					{
+						onPluginLoaded.accept(loaded, sortedPlugins.size());
+					}
+				}
+			}
+
+			log.debug("Instantiated {} plugins in {} levels", newPlugins.size(), levels.size());
+			return newPlugins;
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
 	public boolean startPlugin(Plugin plugin) throws PluginInstantiationException
 	{
 		// plugins always start in the EDT
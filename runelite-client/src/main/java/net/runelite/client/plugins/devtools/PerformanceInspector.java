@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.inject.Inject;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableRowSorter;
+import net.runelite.client.util.ClientExecutors;
+import net.runelite.client.util.InvocationMetrics;
+import net.runelite.client.util.TaskMonitor;
+
+class PerformanceInspector extends DevToolsFrame
+{
+	private static final int REFRESH_INTERVAL_MS = 1000;
+
+	private static final int COL_TYPE = 0;
+	private static final int COL_NAME = 1;
+	private static final int COL_INVOCATIONS = 2;
+	private static final int COL_TOTAL = 3;
+	private static final int COL_AVERAGE = 4;
+	private static final int COL_MAX = 5;
+	private static final int COL_ALLOCATED = 6;
+
+	private static final String[] COLUMNS = {
+		"Type", "Name", "Calls", "Total (ms)", "Avg (us)", "Max (us)", "Allocated (KiB)"
+	};
+
+	private static final int COL_EXECUTOR = 0;
+	private static final int COL_QUEUED = 1;
+	private static final int COL_ACTIVE = 2;
+	private static final int COL_COMPLETED = 3;
+	private static final int COL_AVERAGE_WAIT = 4;
+	private static final int COL_MAX_WAIT = 5;
+
+	private static final String[] EXECUTOR_COLUMNS = {
+		"Executor", "Queued", "Active", "Completed", "Avg wait (ms)", "Max wait (ms)"
+	};
+
+	private final InvocationMetrics invocationMetrics;
+	private final ClientExecutors clientExecutors;
+	private final MetricsTableModel model = new MetricsTableModel();
+	private final ExecutorTableModel executorModel = new ExecutorTableModel();
+	private final Timer refreshTimer;
+
+	private static class MetricsTableModel extends AbstractTableModel
+	{
+		private List<InvocationMetrics.Sample> samples = Collections.emptyList();
+
+		void setSamples(List<InvocationMetrics.Sample> samples)
+		{
+			this.samples = samples;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return samples.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			switch (col)
+			{
+				case COL_TYPE:
+				case COL_NAME:
+					return String.class;
+				case COL_INVOCATIONS:
+				case COL_ALLOCATED:
+					return Long.class;
+				default:
+					return Double.class;
+			}
+		}
+
+		@Override
+		public Object getValueAt(int row, int col)
+		{
+			final InvocationMetrics.Sample sample = samples.get(row);
+			switch (col)
+			{
+				case COL_TYPE:
+					return sample.getCategory().name();
+				case COL_NAME:
+					return sample.getName();
+				case COL_INVOCATIONS:
+					return sample.getInvocations();
+				case COL_TOTAL:
+					return sample.getTotalNanos() / 1_000_000d;
+				case COL_AVERAGE:
+					return sample.getInvocations() == 0 ? 0d : sample.getTotalNanos() / 1_000d / sample.getInvocations();
+				case COL_MAX:
+					return sample.getMaxNanos() / 1_000d;
+				case COL_ALLOCATED:
+					return sample.getAllocatedBytes() < 0 ? -1L : sample.getAllocatedBytes() / 1024;
+				default:
+					return null;
+			}
+		}
+	}
+
+	private static class ExecutorTableModel extends AbstractTableModel
+	{
+		private List<TaskMonitor.Snapshot> snapshots = Collections.emptyList();
+
+		void setSnapshots(List<TaskMonitor.Snapshot> snapshots)
+		{
+			this.snapshots = snapshots;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return snapshots.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return EXECUTOR_COLUMNS.length;
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return EXECUTOR_COLUMNS[col];
+		}
+
+		@Override
+		public Object getValueAt(int row, int col)
+		{
+			final TaskMonitor.Snapshot snapshot = snapshots.get(row);
+			switch (col)
+			{
+				case COL_EXECUTOR:
+					return snapshot.getName();
+				case COL_QUEUED:
+					return snapshot.getQueued();
+				case COL_ACTIVE:
+					return snapshot.getActive();
+				case COL_COMPLETED:
+					return snapshot.getCompleted();
+				case COL_AVERAGE_WAIT:
+					return snapshot.getCompleted() == 0 ? 0d : snapshot.getTotalWaitNanos() / 1_000_000d / snapshot.getCompleted();
+				case COL_MAX_WAIT:
+					return snapshot.getMaxWaitNanos() / 1_000_000d;
+				default:
+					return null;
+			}
+		}
+	}
+
+	@Inject
+	PerformanceInspector(InvocationMetrics invocationMetrics, ClientExecutors clientExecutors)
+	{
+		this.invocationMetrics = invocationMetrics;
+		this.clientExecutors = clientExecutors;
+
+		setTitle("RuneLite Performance Inspector");
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(model);
+		final TableRowSorter<MetricsTableModel> sorter = new TableRowSorter<>(model);
+		final List<RowSorter.SortKey> sortKeys = new ArrayList<>();
+		sortKeys.add(new RowSorter.SortKey(COL_TOTAL, SortOrder.DESCENDING));
+		sorter.setSortKeys(sortKeys);
+		table.setRowSorter(sorter);
+		table.getColumnModel().getColumn(COL_NAME).setPreferredWidth(300);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(800, 500));
+		add(scrollPane, BorderLayout.CENTER);
+
+		final JScrollPane executorPane = new JScrollPane(new JTable(executorModel));
+		executorPane.setPreferredSize(new Dimension(800, 80));
+		add(executorPane, BorderLayout.NORTH);
+
+		final JPanel bottomRow = new JPanel();
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.addActionListener(e ->
+		{
+			invocationMetrics.reset();
+			refresh();
+		});
+		bottomRow.add(resetBtn);
+
+		if (!invocationMetrics.isAllocationTrackingSupported())
+		{
+			bottomRow.add(new JLabel("Allocation tracking is not supported by this JVM"));
+		}
+		add(bottomRow, BorderLayout.SOUTH);
+
+		refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+		pack();
+	}
+
+	private void refresh()
+	{
+		model.setSamples(invocationMetrics.getSamples());
+		executorModel.setSnapshots(clientExecutors.getSnapshots());
+	}
+
+	@Override
+	public void open()
+	{
+		invocationMetrics.setEnabled(true);
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		refreshTimer.stop();
+		invocationMetrics.setEnabled(false);
+		model.setSamples(Collections.emptyList());
+		executorModel.setSnapshots(Collections.emptyList());
+		super.close();
+	}
+}
@@ -45,6 +45,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
@@ -52,6 +53,7 @@ import java.util.Enumeration;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.IntPredicate;
 import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -715,11 +717,14 @@ public class GrandExchangePlugin extends Plugin
 		int resultCount = 0;
 		if (searchMode == GrandExchangeSearchMode.FUZZY_FALLBACK)
 		{
-			List<Integer> ids = IntStream.range(0, client.getItemCount())
+			final IntPredicate tradeable = id ->
+			{
+				final ItemComposition item = itemManager.getItemComposition(id);
+				return item.isTradeable() && item.getNote() == -1;
+			};
+			final int[] matches = itemManager.getItemNameIndex().search(input, tradeable, MAX_RESULT_COUNT + 1);
+			List<Integer> ids = Arrays.stream(matches)
 					.mapToObj(itemManager::getItemComposition)
-					.filter(item -> item.isTradeable() && item.getNote() == -1
-						&& item.getName().toLowerCase().contains(input))
-					.limit(MAX_RESULT_COUNT + 1)
 					.sorted(Comparator.comparing(ItemComposition::getName))
 					.map(ItemComposition::getId)
 					.collect(Collectors.toList());
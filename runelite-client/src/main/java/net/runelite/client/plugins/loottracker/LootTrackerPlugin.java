@@ -38,6 +38,8 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -46,10 +48,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -86,6 +92,7 @@ import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.MenuOptionClicked;
 import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.widgets.WidgetID;
+import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
 import net.runelite.client.account.SessionManager;
 import net.runelite.client.callback.ClientThread;
@@ -131,6 +138,9 @@ public class LootTrackerPlugin extends Plugin
 {
 	private static final int MAX_DROPS = 1024;
 	private static final Duration MAX_AGE = Duration.ofDays(365L);
+	private static final File LOOT_DIR = new File(RuneLite.RUNELITE_DIR, "loots");
+	// changed each time loot is flushed to the config, so the other machines of the profile know to merge it
+	private static final String SYNC_MARKER_KEY = "syncMarker";
 
 	// Activity/Event loot handling
 	private static final Pattern CLUE_SCROLL_PATTERN = Pattern.compile("You have completed [0-9]+ ([a-z]+) Treasure Trails?\\.");
@@ -352,6 +362,10 @@ public class LootTrackerPlugin extends Plugin
 
 	private final List<LootRecord> queuedLoots = new ArrayList<>();
 	private String profileKey;
+	private volatile LootTrackerStore lootStore;
+	// aggregates changed in the store since they were last flushed to the config. This also guards
+	// switching profileKey and lootStore, so that loot is never flushed to another profile.
+	private final Set<ConfigLoot> dirtyLoot = new HashSet<>();
 
 	private static Collection<ItemStack> stack(Collection<ItemStack> items)
 	{
@@ -415,6 +429,7 @@ public class LootTrackerPlugin extends Plugin
 	public void onConfigSync(ConfigSync configSync)
 	{
 		submitLoot();
+		flushLoot();
 	}
 
 	@Subscribe
@@ -441,41 +456,45 @@ public class LootTrackerPlugin extends Plugin
 			// Current queued loot is for the previous profile, so save it first with the current profile key
 			submitLoot();
 
-			this.profileKey = profileKey;
+			List<ConfigLoot> aggregates;
+			synchronized (dirtyLoot)
+			{
+				flushLoot();
 
-			log.debug("Switched to profile {}", profileKey);
+				this.profileKey = profileKey;
+				LootTrackerStore store = openStore(profileKey);
 
-			if (!config.syncPanel())
-			{
-				return;
-			}
+				log.debug("Switched to profile {}", profileKey);
 
-			int drops = 0;
-			List<ConfigLoot> loots = new ArrayList<>();
-			Instant old = Instant.now().minus(MAX_AGE);
-			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
-			{
-				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-				ConfigLoot configLoot;
+				if (store == null)
+				{
+					return;
+				}
 
 				try
 				{
-					configLoot = gson.fromJson(json, ConfigLoot.class);
+					if (!store.isReadOnly())
+					{
+						dirtyLoot.addAll(store.evict(Instant.now().minus(MAX_AGE)));
+					}
+					aggregates = mergeConfigLoot(store, profileKey);
 				}
-				catch (JsonSyntaxException ex)
+				catch (IOException ex)
 				{
-					log.warn("Removing loot with malformed json: {}", json, ex);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
+					log.warn("unable to load loot for profile {}", profileKey, ex);
+					return;
 				}
+			}
 
-				if (configLoot.last.isBefore(old))
-				{
-					log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
+			if (!config.syncPanel())
+			{
+				return;
+			}
 
+			int drops = 0;
+			List<ConfigLoot> loots = new ArrayList<>();
+			for (ConfigLoot configLoot : aggregates)
+			{
 				if (drops >= MAX_DROPS && !loots.isEmpty() && loots.get(0).last.isAfter(configLoot.last))
 				{
 					// fast drop
@@ -518,6 +537,124 @@ public class LootTrackerPlugin extends Plugin
 		});
 	}
 
+	@Nullable
+	private LootTrackerStore openStore(String profileKey)
+	{
+		closeStore();
+
+		try
+		{
+			LootTrackerStore store = new LootTrackerStore(new File(LOOT_DIR, profileKey));
+			lootStore = store;
+			return store;
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to open loot store for profile {}", profileKey, ex);
+			return null;
+		}
+	}
+
+	private void closeStore()
+	{
+		LootTrackerStore store = lootStore;
+		lootStore = null;
+		if (store != null)
+		{
+			try
+			{
+				store.close();
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to close loot store", ex);
+			}
+		}
+	}
+
+	/**
+	 * Merge the store's aggregates with the loot saved to the config. The config is synced between
+	 * machines and has loot from all of them, so config aggregates newer than the store's replace them.
+	 * The config is only read if the store is empty, or if its sync marker shows that another machine
+	 * has flushed loot to it since the store was last merged.
+	 */
+	private List<ConfigLoot> mergeConfigLoot(LootTrackerStore store, String profileKey) throws IOException
+	{
+		String marker = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, SYNC_MARKER_KEY);
+		if (!store.isEmpty() && Objects.equals(marker, store.getSyncMarker()))
+		{
+			return store.getAggregates();
+		}
+
+		Map<ConfigLoot, ConfigLoot> loots = new HashMap<>();
+		for (ConfigLoot loot : store.getAggregates())
+		{
+			loots.put(loot, loot);
+		}
+
+		Instant old = Instant.now().minus(MAX_AGE);
+		List<ConfigLoot> newer = new ArrayList<>();
+		for (ConfigLoot configLoot : loadConfigLoot(profileKey))
+		{
+			if (configLoot.last == null)
+			{
+				continue;
+			}
+
+			if (configLoot.last.isBefore(old))
+			{
+				log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
+				configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, "drops_" + configLoot.type + "_" + configLoot.name);
+				continue;
+			}
+
+			ConfigLoot local = loots.get(configLoot);
+			if (local == null || configLoot.last.isAfter(local.last))
+			{
+				newer.add(configLoot);
+				loots.put(configLoot, configLoot);
+			}
+		}
+
+		if (!store.isReadOnly())
+		{
+			if (!newer.isEmpty())
+			{
+				log.debug("Updating {} loot records from config for profile {}", newer.size(), profileKey);
+				store.importAggregates(newer);
+			}
+			if (marker != null)
+			{
+				store.setSyncMarker(marker);
+			}
+		}
+
+		return new ArrayList<>(loots.values());
+	}
+
+	/**
+	 * Read the loot saved to the config
+	 */
+	private List<ConfigLoot> loadConfigLoot(String profileKey)
+	{
+		List<ConfigLoot> loots = new ArrayList<>();
+		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+		{
+			String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+			try
+			{
+				loots.add(gson.fromJson(json, ConfigLoot.class));
+			}
+			catch (JsonSyntaxException ex)
+			{
+				log.warn("Skipping loot with malformed json: {}", json, ex);
+			}
+		}
+
+		log.debug("Read {} loot records from config for profile {}", loots.size(), profileKey);
+		return loots;
+	}
+
 	private static <T> void sortedInsert(List<T> list, T value, Comparator<? super T> c)
 	{
 		int idx = Collections.binarySearch(list, value, c);
@@ -575,6 +712,11 @@ public class LootTrackerPlugin extends Plugin
 	protected void shutDown()
 	{
 		submitLoot();
+		synchronized (dirtyLoot)
+		{
+			flushLoot();
+			closeStore();
+		}
 		clientToolbar.removeNavigation(navButton);
 		lootTrackerClient.setUuid(null);
 		chestLooted = false;
@@ -597,6 +739,10 @@ public class LootTrackerPlugin extends Plugin
 		{
 			chestLooted = false;
 		}
+		else if (event.getGameState() == GameState.LOGIN_SCREEN)
+		{
+			executor.execute(this::flushLoot);
+		}
 	}
 
 	void addLoot(@NonNull String name, int combatLevel, LootRecordType type, Object metadata, Collection<ItemStack> items)
@@ -1119,8 +1265,32 @@ public class LootTrackerPlugin extends Plugin
 	private void saveLoot(List<LootRecord> records)
 	{
 		Instant now = Instant.now();
-		Collection<ConfigLoot> combinedRecords = combine(records);
-		for (ConfigLoot record : combinedRecords)
+		List<ConfigLoot> unsaved = new ArrayList<>(combine(records));
+
+		synchronized (dirtyLoot)
+		{
+			LootTrackerStore store = lootStore;
+			if (store != null && !store.isReadOnly())
+			{
+				try
+				{
+					for (Iterator<ConfigLoot> it = unsaved.iterator(); it.hasNext(); )
+					{
+						ConfigLoot record = it.next();
+						store.add(record.type, record.name, record.kills, record.drops, now);
+						dirtyLoot.add(record);
+						it.remove();
+					}
+				}
+				catch (IOException ex)
+				{
+					log.warn("unable to save loot", ex);
+				}
+			}
+		}
+
+		// without a writable store the config is the only copy of the loot, so it is written straight away
+		for (ConfigLoot record : unsaved)
 		{
 			ConfigLoot lootConfig = getLootConfig(record.type, record.name);
 			if (lootConfig == null)
@@ -1140,6 +1310,50 @@ public class LootTrackerPlugin extends Plugin
 		}
 	}
 
+	/**
+	 * Write the aggregates which have changed since the last flush from the store to the config, which
+	 * carries them to the profile's other machines
+	 */
+	private void flushLoot()
+	{
+		synchronized (dirtyLoot)
+		{
+			LootTrackerStore store = lootStore;
+			String profile = profileKey;
+			if (dirtyLoot.isEmpty() || store == null || Strings.isNullOrEmpty(profile))
+			{
+				return;
+			}
+
+			for (ConfigLoot key : dirtyLoot)
+			{
+				ConfigLoot loot = store.getAggregate(key.type, key.name);
+				if (loot == null)
+				{
+					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + key.type + "_" + key.name);
+				}
+				else
+				{
+					setLootConfig(loot.type, loot.name, loot);
+				}
+			}
+
+			log.debug("Flushed {} loot records to config for profile {}", dirtyLoot.size(), profile);
+			dirtyLoot.clear();
+
+			String marker = UUID.randomUUID().toString();
+			configManager.setConfiguration(LootTrackerConfig.GROUP, profile, SYNC_MARKER_KEY, marker);
+			try
+			{
+				store.setSyncMarker(marker);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to save loot sync marker", ex);
+			}
+		}
+	}
+
 	private void resetEvent()
 	{
 		inventoryId = null;
@@ -1411,6 +1625,19 @@ public class LootTrackerPlugin extends Plugin
 			return;
 		}
 
+		LootTrackerStore store = lootStore;
+		if (store != null)
+		{
+			try
+			{
+				store.remove(type, name, Instant.now());
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to remove loot", ex);
+			}
+		}
+
 		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
 	}
 
@@ -1423,9 +1650,24 @@ public class LootTrackerPlugin extends Plugin
 			return;
 		}
 
-		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_"))
+		synchronized (dirtyLoot)
 		{
-			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
+			dirtyLoot.clear();
 		}
+
+		LootTrackerStore store = lootStore;
+		if (store != null)
+		{
+			try
+			{
+				store.clear();
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to clear loot", ex);
+			}
+		}
+
+		configManager.unsetConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_");
 	}
 }
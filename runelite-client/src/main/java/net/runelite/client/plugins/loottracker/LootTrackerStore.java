@@ -0,0 +1,897 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * Local loot history for one RuneScape profile. Every kill is appended to a log, and the per (type, name)
+ * aggregates the panel shows are kept in memory and periodically written to a snapshot along with the log
+ * position they cover. Loading reads the snapshot and replays only the log written after it, so load time
+ * and memory don't grow with the length of the history. Time window queries stream the log from a sparse
+ * time index, assuming log timestamps are non-decreasing.
+ * <p>
+ * Only one process may write to a store. The first to open it holds a lock on loot.lock for as long as
+ * the store is open, and any other client opening the same profile gets a read only view of it.
+ */
+@Slf4j
+class LootTrackerStore implements Closeable
+{
+	private static final int SNAPSHOT_MAGIC = 0x4c54534e;
+	private static final int SNAPSHOT_VERSION = 1;
+
+	private static final byte OP_LOOT = 1;
+	private static final byte OP_REMOVE = 2;
+
+	// bytes of log between sparse time index entries
+	private static final long INDEX_INTERVAL = 64 * 1024;
+	// bytes of log appended before the snapshot is rewritten
+	private static final long SNAPSHOT_INTERVAL = 1024 * 1024;
+
+	/*
+	 * On disk codes of the record types. LootRecordType comes from the http api and may be reordered or
+	 * extended, so the codes are fixed here: entries are only ever appended, and types without a code are
+	 * written as TYPE_NAME followed by the type's name.
+	 */
+	private static final LootRecordType[] TYPE_CODES = {
+		LootRecordType.NPC,
+		LootRecordType.PLAYER,
+		LootRecordType.EVENT,
+		LootRecordType.PICKPOCKET,
+		LootRecordType.UNKNOWN,
+	};
+	private static final int TYPE_NAME = 255;
+	private static final Map<LootRecordType, Integer> TYPE_CODE_MAP = new EnumMap<>(LootRecordType.class);
+
+	static
+	{
+		for (int i = 0; i < TYPE_CODES.length; ++i)
+		{
+			TYPE_CODE_MAP.put(TYPE_CODES[i], i);
+		}
+	}
+
+	@Value
+	private static class Key
+	{
+		LootRecordType type;
+		String name;
+	}
+
+	@Value
+	private static class IndexEntry
+	{
+		long time;
+		long position;
+	}
+
+	/**
+	 * A log record. kills and drops are only used for OP_LOOT, and size is only set for records read
+	 * from the log. Records read from the log which this client can't use have no key.
+	 */
+	@Value
+	private static class Record
+	{
+		byte op;
+		long time;
+		Key key;
+		int kills;
+		int[] drops;
+		int size;
+	}
+
+	private final File logFile;
+	private final File snapshotFile;
+	private final File syncFile;
+
+	private final FileChannel lockChannel;
+	private final FileLock lock;
+	/**
+	 * True if another client holds the lock on this store. A read only store reflects the store as it was
+	 * when opened, and can't be modified.
+	 */
+	@Getter
+	private final boolean readOnly;
+
+	private final Map<Key, ConfigLoot> aggregates = new HashMap<>();
+	// latest removal time of each removed key, to exclude earlier log records from queries
+	private final Map<Key, Long> removed = new HashMap<>();
+	private final List<IndexEntry> timeIndex = new ArrayList<>();
+
+	private String syncMarker;
+
+	private RandomAccessFile lootLog;
+	// length of the valid log
+	private long logPosition;
+	private long snapshotPosition;
+
+	LootTrackerStore(File directory) throws IOException
+	{
+		directory.mkdirs();
+		logFile = new File(directory, "loot.log");
+		snapshotFile = new File(directory, "loot.snapshot");
+		syncFile = new File(directory, "loot.sync");
+
+		lockChannel = FileChannel.open(new File(directory, "loot.lock").toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		FileLock lock;
+		try
+		{
+			lock = lockChannel.tryLock();
+		}
+		catch (OverlappingFileLockException ex)
+		{
+			// held by another store in this process
+			lock = null;
+		}
+		catch (IOException ex)
+		{
+			lockChannel.close();
+			throw ex;
+		}
+		this.lock = lock;
+		readOnly = lock == null;
+		if (readOnly)
+		{
+			log.info("loot store {} is in use by another client, opening it read only", directory);
+		}
+
+		try
+		{
+			readSnapshot();
+			readSyncMarker();
+
+			lootLog = new RandomAccessFile(logFile, readOnly ? "r" : "rw");
+			if (lootLog.length() < logPosition)
+			{
+				log.warn("loot log {} is shorter than its snapshot, discarding the time index", logFile);
+				logPosition = lootLog.length();
+				timeIndex.clear();
+			}
+			snapshotPosition = logPosition;
+
+			replay();
+		}
+		catch (FileNotFoundException ex)
+		{
+			if (!readOnly)
+			{
+				releaseLock();
+				throw ex;
+			}
+
+			// the writer hasn't created the log yet
+			lootLog = null;
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			if (lootLog != null)
+			{
+				lootLog.close();
+			}
+			releaseLock();
+			throw ex;
+		}
+	}
+
+	/**
+	 * @return true if nothing has been stored yet
+	 */
+	synchronized boolean isEmpty()
+	{
+		return logPosition == 0 && aggregates.isEmpty() && !snapshotFile.exists();
+	}
+
+	synchronized void add(LootRecordType type, String name, int kills, int[] drops, Instant time) throws IOException
+	{
+		append(new Record(OP_LOOT, time.toEpochMilli(), new Key(type, name), kills, drops, 0));
+	}
+
+	synchronized void remove(LootRecordType type, String name, Instant time) throws IOException
+	{
+		append(new Record(OP_REMOVE, time.toEpochMilli(), new Key(type, name), 0, null, 0));
+	}
+
+	/**
+	 * Remove the aggregates which have not been added to since the given time
+	 *
+	 * @return the removed aggregates
+	 */
+	synchronized List<ConfigLoot> evict(Instant before) throws IOException
+	{
+		final long now = Instant.now().toEpochMilli();
+		List<ConfigLoot> evicted = new ArrayList<>();
+		for (ConfigLoot loot : new ArrayList<>(aggregates.values()))
+		{
+			if (loot.last.isBefore(before))
+			{
+				log.debug("Removing old loot for {} {}", loot.type, loot.name);
+				append(new Record(OP_REMOVE, now, new Key(loot.type, loot.name), 0, null, 0));
+				evicted.add(loot);
+			}
+		}
+		return evicted;
+	}
+
+	/**
+	 * Remove all loot, including the history
+	 */
+	synchronized void clear() throws IOException
+	{
+		checkWritable();
+		aggregates.clear();
+		removed.clear();
+		timeIndex.clear();
+		lootLog.setLength(0);
+		logPosition = 0;
+		writeSnapshot();
+	}
+
+	/**
+	 * Store aggregates which have no history, such as loot imported from the config
+	 */
+	synchronized void importAggregates(Collection<ConfigLoot> loots) throws IOException
+	{
+		checkWritable();
+		for (ConfigLoot loot : loots)
+		{
+			ConfigLoot copy = copy(loot);
+			if (copy.last == null)
+			{
+				copy.last = copy.first;
+			}
+			aggregates.put(new Key(loot.type, loot.name), copy);
+		}
+		writeSnapshot();
+	}
+
+	/**
+	 * @return the config sync marker the aggregates were last merged with, or null
+	 */
+	@Nullable
+	synchronized String getSyncMarker()
+	{
+		return syncMarker;
+	}
+
+	synchronized void setSyncMarker(String marker) throws IOException
+	{
+		checkWritable();
+		Files.write(syncFile.toPath(), marker.getBytes(StandardCharsets.UTF_8));
+		syncMarker = marker;
+	}
+
+	synchronized ConfigLoot getAggregate(LootRecordType type, String name)
+	{
+		ConfigLoot loot = aggregates.get(new Key(type, name));
+		return loot == null ? null : copy(loot);
+	}
+
+	synchronized List<ConfigLoot> getAggregates()
+	{
+		List<ConfigLoot> loots = new ArrayList<>(aggregates.size());
+		for (ConfigLoot loot : aggregates.values())
+		{
+			loots.add(copy(loot));
+		}
+		return loots;
+	}
+
+	/**
+	 * Aggregate the loot received in a time window from the log. Aggregates imported without history
+	 * are not included.
+	 *
+	 * @param from start of the window, inclusive
+	 * @param to end of the window, exclusive
+	 */
+	List<ConfigLoot> query(Instant from, Instant to) throws IOException
+	{
+		final long fromMs = from.toEpochMilli(), toMs = to.toEpochMilli();
+		final long start, end;
+		final Map<Key, Long> removed;
+		synchronized (this)
+		{
+			start = findPosition(fromMs);
+			end = logPosition;
+			removed = new HashMap<>(this.removed);
+		}
+
+		final Map<Key, ConfigLoot> window = new HashMap<>();
+		if (start >= end)
+		{
+			return new ArrayList<>();
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(logFile))))
+		{
+			skipFully(in, start);
+
+			long position = start;
+			while (position < end)
+			{
+				Record record = readRecord(in, end - position);
+				if (record == null)
+				{
+					break;
+				}
+				position += record.size;
+
+				if (record.key == null)
+				{
+					continue;
+				}
+
+				if (record.time >= toMs)
+				{
+					break;
+				}
+
+				if (record.op != OP_LOOT || record.time < fromMs)
+				{
+					continue;
+				}
+
+				Long removedAt = removed.get(record.key);
+				if (removedAt != null && record.time < removedAt)
+				{
+					continue;
+				}
+
+				aggregate(window, record);
+			}
+		}
+		return new ArrayList<>(window.values());
+	}
+
+	/**
+	 * Write the aggregates to the snapshot, so that the log before the current position does not need
+	 * to be replayed on load
+	 */
+	synchronized void snapshot() throws IOException
+	{
+		if (!readOnly && snapshotPosition != logPosition)
+		{
+			writeSnapshot();
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException
+	{
+		if (!lockChannel.isOpen())
+		{
+			return;
+		}
+
+		try
+		{
+			if (lootLog != null)
+			{
+				try
+				{
+					snapshot();
+				}
+				finally
+				{
+					lootLog.close();
+					lootLog = null;
+				}
+			}
+		}
+		finally
+		{
+			releaseLock();
+		}
+	}
+
+	private void releaseLock() throws IOException
+	{
+		try
+		{
+			if (lock != null)
+			{
+				lock.release();
+			}
+		}
+		finally
+		{
+			lockChannel.close();
+		}
+	}
+
+	private void checkWritable() throws IOException
+	{
+		if (readOnly)
+		{
+			throw new IOException("loot store is in use by another client");
+		}
+		if (lootLog == null)
+		{
+			throw new IOException("loot store is closed");
+		}
+	}
+
+	private void append(Record record) throws IOException
+	{
+		checkWritable();
+
+		byte[] bytes = encode(record);
+		lootLog.seek(logPosition);
+		lootLog.write(bytes);
+
+		apply(record, logPosition);
+		logPosition += bytes.length;
+
+		if (logPosition - snapshotPosition >= SNAPSHOT_INTERVAL)
+		{
+			writeSnapshot();
+		}
+	}
+
+	private void apply(Record record, long position)
+	{
+		if (record.key == null)
+		{
+			// skipped record
+			return;
+		}
+
+		if (timeIndex.isEmpty() || position - timeIndex.get(timeIndex.size() - 1).position >= INDEX_INTERVAL)
+		{
+			timeIndex.add(new IndexEntry(record.time, position));
+		}
+
+		if (record.op == OP_LOOT)
+		{
+			aggregate(aggregates, record);
+		}
+		else if (record.op == OP_REMOVE)
+		{
+			aggregates.remove(record.key);
+			removed.put(record.key, record.time);
+		}
+	}
+
+	private static void aggregate(Map<Key, ConfigLoot> aggregates, Record record)
+	{
+		final Instant time = Instant.ofEpochMilli(record.time);
+		ConfigLoot loot = aggregates.get(record.key);
+		if (loot == null)
+		{
+			loot = new ConfigLoot(record.key.type, record.key.name);
+			loot.first = time;
+			aggregates.put(record.key, loot);
+		}
+
+		loot.kills += record.kills;
+		for (int i = 0; i < record.drops.length; i += 2)
+		{
+			loot.add(record.drops[i], record.drops[i + 1]);
+		}
+		if (loot.last == null || loot.last.isBefore(time))
+		{
+			loot.last = time;
+		}
+	}
+
+	private long findPosition(long time)
+	{
+		// find the last index entry at or before the time
+		int lo = 0, hi = timeIndex.size() - 1;
+		long position = 0;
+		while (lo <= hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			IndexEntry entry = timeIndex.get(mid);
+			if (entry.time <= time)
+			{
+				position = entry.position;
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid - 1;
+			}
+		}
+		return position;
+	}
+
+	private void replay() throws IOException
+	{
+		final long length = lootLog.length();
+		if (logPosition >= length)
+		{
+			return;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(logFile))))
+		{
+			skipFully(in, logPosition);
+
+			while (logPosition < length)
+			{
+				Record record = readRecord(in, length - logPosition);
+				if (record == null)
+				{
+					if (!readOnly)
+					{
+						log.warn("discarding {} bytes of partial loot record from {}", length - logPosition, logFile);
+						lootLog.setLength(logPosition);
+					}
+					// otherwise the writer may be partway through appending it
+					break;
+				}
+
+				apply(record, logPosition);
+				logPosition += record.size;
+			}
+		}
+	}
+
+	/*
+	 * Log records are int length, byte[length] payload, int crc32(payload). The payload is
+	 * byte op, long time, type, UTF name and for OP_LOOT int kills, int drop count, and the
+	 * drops as (int id, int quantity) pairs.
+	 */
+
+	private static byte[] encode(Record record) throws IOException
+	{
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(payload);
+		out.writeByte(record.op);
+		out.writeLong(record.time);
+		writeType(out, record.key.type);
+		out.writeUTF(record.key.name);
+		if (record.op == OP_LOOT)
+		{
+			out.writeInt(record.kills);
+			out.writeInt(record.drops.length / 2);
+			for (int drop : record.drops)
+			{
+				out.writeInt(drop);
+			}
+		}
+
+		byte[] bytes = payload.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(bytes, 0, bytes.length);
+
+		ByteArrayOutputStream buf = new ByteArrayOutputStream(bytes.length + 8);
+		DataOutputStream recordOut = new DataOutputStream(buf);
+		recordOut.writeInt(bytes.length);
+		recordOut.write(bytes);
+		recordOut.writeInt((int) crc.getValue());
+		return buf.toByteArray();
+	}
+
+	/**
+	 * Read a record
+	 *
+	 * @param remaining the number of bytes left in the log
+	 * @return the record, or null if the rest of the log is a partial or corrupt record. A complete record
+	 * which can't be parsed is returned without a key so that it can be skipped.
+	 */
+	private static Record readRecord(DataInputStream in, long remaining) throws IOException
+	{
+		if (remaining < 8)
+		{
+			return null;
+		}
+
+		final byte[] bytes;
+		try
+		{
+			int length = in.readInt();
+			if (length < 0 || length > remaining - 8)
+			{
+				return null;
+			}
+
+			bytes = new byte[length];
+			in.readFully(bytes);
+
+			CRC32 crc = new CRC32();
+			crc.update(bytes, 0, bytes.length);
+			if (in.readInt() != (int) crc.getValue())
+			{
+				return null;
+			}
+		}
+		catch (EOFException ex)
+		{
+			return null;
+		}
+
+		final int size = bytes.length + 8;
+		try
+		{
+			DataInputStream payload = new DataInputStream(new ByteArrayInputStream(bytes));
+			byte op = payload.readByte();
+			long time = payload.readLong();
+			LootRecordType type = readType(payload);
+			String name = payload.readUTF();
+
+			int kills = 0;
+			int[] drops = null;
+			if (op == OP_LOOT)
+			{
+				kills = payload.readInt();
+				int count = payload.readInt();
+				if (count < 0 || count > bytes.length / 8)
+				{
+					throw new IOException("loot record has " + count + " drops in " + bytes.length + " bytes");
+				}
+
+				drops = new int[count * 2];
+				for (int i = 0; i < drops.length; ++i)
+				{
+					drops[i] = payload.readInt();
+				}
+			}
+
+			if (type == null)
+			{
+				// written by a client which knows of more record types
+				log.debug("skipping loot record for {} with an unknown type", name);
+				return new Record(op, time, null, kills, drops, size);
+			}
+			return new Record(op, time, new Key(type, name), kills, drops, size);
+		}
+		catch (IOException ex)
+		{
+			// the checksum matched, so the record is complete and the log continues after it
+			log.warn("skipping malformed loot record", ex);
+			return new Record((byte) 0, 0L, null, 0, null, size);
+		}
+	}
+
+	private void readSnapshot() throws IOException
+	{
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile))))
+		{
+			if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION)
+			{
+				log.warn("loot snapshot {} has an unknown format, replaying the whole log", snapshotFile);
+				return;
+			}
+
+			logPosition = in.readLong();
+
+			for (int i = in.readInt(); i > 0; --i)
+			{
+				timeIndex.add(new IndexEntry(in.readLong(), in.readLong()));
+			}
+
+			for (int i = in.readInt(); i > 0; --i)
+			{
+				LootRecordType type = readType(in);
+				String name = in.readUTF();
+				long time = in.readLong();
+				if (type != null)
+				{
+					removed.put(new Key(type, name), time);
+				}
+			}
+
+			for (int i = in.readInt(); i > 0; --i)
+			{
+				ConfigLoot loot = new ConfigLoot(readType(in), in.readUTF());
+				loot.kills = in.readInt();
+				loot.first = Instant.ofEpochMilli(in.readLong());
+				loot.last = Instant.ofEpochMilli(in.readLong());
+				loot.drops = new int[in.readInt() * 2];
+				for (int j = 0; j < loot.drops.length; ++j)
+				{
+					loot.drops[j] = in.readInt();
+				}
+				if (loot.type != null)
+				{
+					aggregates.put(new Key(loot.type, loot.name), loot);
+				}
+			}
+		}
+		catch (FileNotFoundException ex)
+		{
+			log.debug("no loot snapshot {}", snapshotFile);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			// the snapshot is written atomically so this shouldn't happen, but the log can rebuild it
+			log.warn("unable to read loot snapshot {}, replaying the whole log", snapshotFile, ex);
+			logPosition = 0;
+			timeIndex.clear();
+			removed.clear();
+			aggregates.clear();
+		}
+	}
+
+	private void readSyncMarker() throws IOException
+	{
+		try
+		{
+			syncMarker = new String(Files.readAllBytes(syncFile.toPath()), StandardCharsets.UTF_8);
+		}
+		catch (NoSuchFileException ex)
+		{
+			syncMarker = null;
+		}
+	}
+
+	private void writeSnapshot() throws IOException
+	{
+		File tempFile = File.createTempFile("loot", ".snapshot", snapshotFile.getParentFile());
+		try (FileOutputStream fout = new FileOutputStream(tempFile);
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fout)))
+		{
+			out.writeInt(SNAPSHOT_MAGIC);
+			out.writeInt(SNAPSHOT_VERSION);
+			out.writeLong(logPosition);
+
+			out.writeInt(timeIndex.size());
+			for (IndexEntry entry : timeIndex)
+			{
+				out.writeLong(entry.time);
+				out.writeLong(entry.position);
+			}
+
+			out.writeInt(removed.size());
+			for (Map.Entry<Key, Long> entry : removed.entrySet())
+			{
+				writeType(out, entry.getKey().type);
+				out.writeUTF(entry.getKey().name);
+				out.writeLong(entry.getValue());
+			}
+
+			out.writeInt(aggregates.size());
+			for (ConfigLoot loot : aggregates.values())
+			{
+				writeType(out, loot.type);
+				out.writeUTF(loot.name);
+				out.writeInt(loot.kills);
+				out.writeLong(loot.first.toEpochMilli());
+				out.writeLong(loot.last.toEpochMilli());
+				out.writeInt(loot.drops.length / 2);
+				for (int drop : loot.drops)
+				{
+					out.writeInt(drop);
+				}
+			}
+
+			out.flush();
+			// the log must be on disk before the snapshot which covers it
+			lootLog.getFD().sync();
+			fout.getFD().sync();
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		snapshotPosition = logPosition;
+	}
+
+	private static void writeType(DataOutputStream out, LootRecordType type) throws IOException
+	{
+		Integer code = TYPE_CODE_MAP.get(type);
+		if (code != null)
+		{
+			out.writeByte(code);
+		}
+		else
+		{
+			out.writeByte(TYPE_NAME);
+			out.writeUTF(type.name());
+		}
+	}
+
+	/**
+	 * Read a record type
+	 *
+	 * @return the type, or null if it is not known to this client
+	 */
+	@Nullable
+	private static LootRecordType readType(DataInputStream in) throws IOException
+	{
+		int code = in.readUnsignedByte();
+		if (code != TYPE_NAME)
+		{
+			return code < TYPE_CODES.length ? TYPE_CODES[code] : null;
+		}
+
+		String name = in.readUTF();
+		try
+		{
+			return LootRecordType.valueOf(name);
+		}
+		catch (IllegalArgumentException ex)
+		{
+			return null;
+		}
+	}
+
+	private static ConfigLoot copy(ConfigLoot loot)
+	{
+		ConfigLoot copy = new ConfigLoot(loot.type, loot.name);
+		copy.kills = loot.kills;
+		copy.first = loot.first;
+		copy.last = loot.last;
+		copy.drops = Arrays.copyOf(loot.drops, loot.drops.length);
+		return copy;
+	}
+
+	private static void skipFully(DataInputStream in, long n) throws IOException
+	{
+		while (n > 0)
+		{
+			long skipped = in.skip(n);
+			if (skipped <= 0)
+			{
+				throw new EOFException();
+			}
+			n -= skipped;
+		}
+	}
+}
@@ -153,9 +153,9 @@ public class NpcIndicatorsPlugin extends Plugin
 	private final Map<Integer, MemorizedNpc> memorizedNpcs = new HashMap<>();
 
 	/**
-	 * Highlight strings from the configuration
+	 * Highlight strings from the configuration, compiled into a matcher
 	 */
-	private List<String> highlights = new ArrayList<>();
+	private WildcardMatcher highlightMatcher = WildcardMatcher.compile(Collections.emptyList());
 
 	/**
 	 * NPC ids marked with the Tag option
@@ -274,11 +274,10 @@ public class NpcIndicatorsPlugin extends Plugin
 			}
 
 			final String npcName = npc.getName();
+			final List<String> highlights = highlightMatcher.getPatterns();
 			final boolean nameMatch = highlights.stream().anyMatch(npcName::equalsIgnoreCase);
 			final boolean idMatch = npcTags.contains(npc.getIndex());
-			final boolean wildcardMatch = highlights.stream()
-				.filter(highlight -> !highlight.equalsIgnoreCase(npcName))
-				.anyMatch(highlight -> WildcardMatcher.matches(highlight, npcName));
+			final boolean wildcardMatch = highlightMatcher.matches(npcName, i -> !highlights.get(i).equalsIgnoreCase(npcName));
 			int idx = -1;
 
 			client.createMenuEntry(idx--)
@@ -467,7 +466,7 @@ public class NpcIndicatorsPlugin extends Plugin
 		else
 		{
 			final String name = npc.getName();
-			final List<String> highlightedNpcs = new ArrayList<>(highlights);
+			final List<String> highlightedNpcs = new ArrayList<>(highlightMatcher.getPatterns());
 
 			if (!highlightedNpcs.removeIf(name::equalsIgnoreCase))
 			{
@@ -635,7 +634,7 @@ public class NpcIndicatorsPlugin extends Plugin
 
 	void rebuild()
 	{
-		highlights = getHighlights();
+		highlightMatcher = WildcardMatcher.compile(getHighlights());
 		highlightedNpcs.clear();
 
 		if (client.getGameState() != GameState.LOGGED_IN &&
@@ -680,15 +679,7 @@ public class NpcIndicatorsPlugin extends Plugin
 
 	private boolean highlightMatchesNPCName(String npcName)
 	{
-		for (String highlight : highlights)
-		{
-			if (WildcardMatcher.matches(highlight, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return highlightMatcher.matches(npcName);
 	}
 
 	private void validateSpawnedNpcs()
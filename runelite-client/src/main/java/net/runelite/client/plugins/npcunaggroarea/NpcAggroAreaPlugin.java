@@ -138,7 +138,7 @@ public class NpcAggroAreaPlugin extends Plugin
 	private boolean loggingIn;
 	private boolean notifyOnce;
 
-	private List<String> npcNamePatterns;
+	private WildcardMatcher npcNameMatcher;
 
 	@Provides
 	NpcAggroAreaConfig provideConfig(ConfigManager configManager)
@@ -151,7 +151,7 @@ public class NpcAggroAreaPlugin extends Plugin
 	{
 		overlayManager.add(overlay);
 		overlayManager.add(notWorkingOverlay);
-		npcNamePatterns = NAME_SPLITTER.splitToList(config.npcNamePatterns());
+		npcNameMatcher = WildcardMatcher.compile(NAME_SPLITTER.splitToList(config.npcNamePatterns()));
 		recheckActive();
 	}
 
@@ -165,7 +165,7 @@ public class NpcAggroAreaPlugin extends Plugin
 		lastPlayerLocation = null;
 		endTime = null;
 		loggingIn = false;
-		npcNamePatterns = null;
+		npcNameMatcher = null;
 		active = false;
 
 		Arrays.fill(linesToDisplay, null);
@@ -286,15 +286,7 @@ public class NpcAggroAreaPlugin extends Plugin
 			}
 		}
 
-		for (String pattern : npcNamePatterns)
-		{
-			if (WildcardMatcher.matches(pattern, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return npcNameMatcher.matches(npcName);
 	}
 
 	private void checkAreaNpcs(final NPC... npcs)
@@ -405,7 +397,7 @@ public class NpcAggroAreaPlugin extends Plugin
 				calculateLinesToDisplay();
 				break;
 			case "npcUnaggroNames":
-				npcNamePatterns = NAME_SPLITTER.splitToList(config.npcNamePatterns());
+				npcNameMatcher = WildcardMatcher.compile(NAME_SPLITTER.splitToList(config.npcNamePatterns()));
 				recheckActive();
 				break;
 		}
@@ -199,8 +199,8 @@ public class PartyPlugin extends Plugin
 		overlayManager.add(partyStatusOverlay);
 		keyManager.registerKeyListener(hotkeyListener);
 		wsClient.registerMessage(TilePing.class);
-		wsClient.registerMessage(LocationUpdate.class);
-		wsClient.registerMessage(StatusUpdate.class);
+		wsClient.registerMessage(LocationUpdate.class, LocationUpdate.CODEC);
+		wsClient.registerMessage(StatusUpdate.class, StatusUpdate.CODEC);
 		// Delay sync so the eventbus can register prior to the sync response
 		SwingUtilities.invokeLater(this::requestSync);
 	}
@@ -24,13 +24,32 @@
  */
 package net.runelite.client.plugins.party.messages;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import lombok.ToString;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.PartyMessageCodec;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @ToString(onlyExplicitlyIncluded = true)
 public class LocationUpdate extends PartyMemberMessage
 {
+	public static final PartyMessageCodec<LocationUpdate> CODEC = new PartyMessageCodec<LocationUpdate>()
+	{
+		@Override
+		public void encode(LocationUpdate message, DataOutput out) throws IOException
+		{
+			out.writeInt(message.c);
+		}
+
+		@Override
+		public LocationUpdate decode(DataInput in) throws IOException
+		{
+			return new LocationUpdate(in.readInt());
+		}
+	};
+
 	private final int c;
 
 	public LocationUpdate(WorldPoint worldPoint)
@@ -38,6 +57,11 @@ public class LocationUpdate extends PartyMemberMessage
 		c = (worldPoint.getPlane() << 28) | (worldPoint.getX() << 14) | (worldPoint.getY());
 	}
 
+	private LocationUpdate(int c)
+	{
+		this.c = c;
+	}
+
 	@ToString.Include
 	public WorldPoint getWorldPoint()
 	{
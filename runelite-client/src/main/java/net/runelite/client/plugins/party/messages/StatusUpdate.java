@@ -25,10 +25,14 @@
 package net.runelite.client.plugins.party.messages;
 
 import com.google.gson.annotations.SerializedName;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import net.runelite.client.party.PartyMessageCodec;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @Data
@@ -37,6 +41,109 @@ import net.runelite.client.party.messages.PartyMemberMessage;
 @EqualsAndHashCode(callSuper = true)
 public class StatusUpdate extends PartyMemberMessage
 {
+	/**
+	 * Encodes a bitmask of the non-null fields followed by only those fields, so an update costs
+	 * one byte plus whatever changed since the previous one.
+	 */
+	public static final PartyMessageCodec<StatusUpdate> CODEC = new PartyMessageCodec<StatusUpdate>()
+	{
+		private static final int NAME = 1;
+		private static final int HEALTH_CURRENT = 1 << 1;
+		private static final int HEALTH_MAX = 1 << 2;
+		private static final int PRAYER_CURRENT = 1 << 3;
+		private static final int PRAYER_MAX = 1 << 4;
+		private static final int RUN_ENERGY = 1 << 5;
+		private static final int SPEC_ENERGY = 1 << 6;
+		private static final int VENGEANCE = 1 << 7;
+
+		@Override
+		public void encode(StatusUpdate message, DataOutput out) throws IOException
+		{
+			int mask = 0;
+			mask |= message.characterName != null ? NAME : 0;
+			mask |= message.healthCurrent != null ? HEALTH_CURRENT : 0;
+			mask |= message.healthMax != null ? HEALTH_MAX : 0;
+			mask |= message.prayerCurrent != null ? PRAYER_CURRENT : 0;
+			mask |= message.prayerMax != null ? PRAYER_MAX : 0;
+			mask |= message.runEnergy != null ? RUN_ENERGY : 0;
+			mask |= message.specEnergy != null ? SPEC_ENERGY : 0;
+			mask |= message.vengeanceActive != null ? VENGEANCE : 0;
+			out.writeByte(mask);
+
+			if (message.characterName != null)
+			{
+				out.writeUTF(message.characterName);
+			}
+			if (message.healthCurrent != null)
+			{
+				out.writeShort(message.healthCurrent);
+			}
+			if (message.healthMax != null)
+			{
+				out.writeShort(message.healthMax);
+			}
+			if (message.prayerCurrent != null)
+			{
+				out.writeShort(message.prayerCurrent);
+			}
+			if (message.prayerMax != null)
+			{
+				out.writeShort(message.prayerMax);
+			}
+			if (message.runEnergy != null)
+			{
+				out.writeShort(message.runEnergy);
+			}
+			if (message.specEnergy != null)
+			{
+				out.writeShort(message.specEnergy);
+			}
+			if (message.vengeanceActive != null)
+			{
+				out.writeBoolean(message.vengeanceActive);
+			}
+		}
+
+		@Override
+		public StatusUpdate decode(DataInput in) throws IOException
+		{
+			final int mask = in.readUnsignedByte();
+			final StatusUpdate update = new StatusUpdate();
+			if ((mask & NAME) != 0)
+			{
+				update.characterName = in.readUTF();
+			}
+			if ((mask & HEALTH_CURRENT) != 0)
+			{
+				update.healthCurrent = (int) in.readShort();
+			}
+			if ((mask & HEALTH_MAX) != 0)
+			{
+				update.healthMax = (int) in.readShort();
+			}
+			if ((mask & PRAYER_CURRENT) != 0)
+			{
+				update.prayerCurrent = (int) in.readShort();
+			}
+			if ((mask & PRAYER_MAX) != 0)
+			{
+				update.prayerMax = (int) in.readShort();
+			}
+			if ((mask & RUN_ENERGY) != 0)
+			{
+				update.runEnergy = (int) in.readShort();
+			}
+			if ((mask & SPEC_ENERGY) != 0)
+			{
+				update.specEnergy = (int) in.readShort();
+			}
+			if ((mask & VENGEANCE) != 0)
+			{
+				update.vengeanceActive = in.readBoolean();
+			}
+			return update;
+		}
+	};
 
 	// we use boxed fields to null out properties that haven't changed
 	@SerializedName("n")
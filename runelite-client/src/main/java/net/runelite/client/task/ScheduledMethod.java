@@ -26,6 +26,8 @@ package net.runelite.client.task;
 
 import java.lang.reflect.Method;
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -44,4 +46,20 @@ public class ScheduledMethod
 	private final Runnable lambda;
 	@Setter
 	private Instant last = Instant.now();
+
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	long periodNanos;
+	/**
+	 * {@link System#nanoTime()} after which the method is next due
+	 */
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	long nextRun;
+	/**
+	 * Set while an asynchronous run is queued or executing
+	 */
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	final AtomicBoolean running = new AtomicBoolean();
 }
@@ -30,29 +30,54 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.ClientExecutors;
+import net.runelite.client.util.InvocationMetrics;
+import net.runelite.client.util.TaskMonitor;
 
 @Singleton
 @Slf4j
 public class Scheduler
 {
 	private final List<ScheduledMethod> scheduledMethods = new CopyOnWriteArrayList<>();
+	// ordered by deadline, so a tick only looks at methods which are due
+	private final PriorityQueue<ScheduledMethod> queue = new PriorityQueue<>((a, b) -> Long.signum(a.nextRun - b.nextRun));
 
 	@Inject
-	ScheduledExecutorService executor;
+	ClientExecutors executors;
+
+	@Inject
+	InvocationMetrics invocationMetrics;
+
+	// the clock deadlines are measured with, replaced in tests
+	LongSupplier nanoTime = System::nanoTime;
 
 	public void addScheduledMethod(ScheduledMethod method)
 	{
+		final Schedule schedule = method.getSchedule();
+		method.periodNanos = Duration.of(schedule.period(), schedule.unit()).toNanos();
+
+		synchronized (queue)
+		{
+			method.nextRun = nanoTime.getAsLong() + method.periodNanos;
+			queue.add(method);
+		}
 		scheduledMethods.add(method);
 	}
 
 	public void removeScheduledMethod(ScheduledMethod method)
 	{
 		scheduledMethods.remove(method);
+		synchronized (queue)
+		{
+			queue.remove(method);
+		}
 	}
 
 	public List<ScheduledMethod> getScheduledMethods()
@@ -62,37 +87,76 @@ public class Scheduler
 
 	public void tick()
 	{
-		Instant now = Instant.now();
+		final long now = nanoTime.getAsLong();
 
-		for (ScheduledMethod scheduledMethod : scheduledMethods)
+		for (;;)
 		{
-			Instant last = scheduledMethod.getLast();
+			final ScheduledMethod scheduledMethod;
+			synchronized (queue)
+			{
+				final ScheduledMethod next = queue.peek();
+				if (next == null || now - next.nextRun <= 0)
+				{
+					return;
+				}
+
+				scheduledMethod = queue.poll();
+				scheduledMethod.nextRun = now + scheduledMethod.periodNanos;
+				queue.add(scheduledMethod);
+			}
 
-			Duration difference = Duration.between(last, now);
+			log.trace("Scheduled task triggered: {}", scheduledMethod);
 
-			Schedule schedule = scheduledMethod.getSchedule();
-			Duration timeSinceRun = Duration.of(schedule.period(), schedule.unit());
+			scheduledMethod.setLast(Instant.now());
 
-			if (difference.compareTo(timeSinceRun) > 0)
+			if (scheduledMethod.getSchedule().asynchronous())
 			{
-				log.trace("Scheduled task triggered: {}", scheduledMethod);
+				submit(scheduledMethod);
+			}
+			else
+			{
+				run(scheduledMethod);
+			}
+		}
+	}
 
-				scheduledMethod.setLast(now);
+	private void submit(ScheduledMethod scheduledMethod)
+	{
+		// at most one queued or running invocation per method, so a slow task can't pile up behind itself
+		if (!scheduledMethod.running.compareAndSet(false, true))
+		{
+			log.debug("Skipping scheduled task {}, the previous run has not finished", scheduledMethod);
+			return;
+		}
 
-				if (schedule.asynchronous())
+		try
+		{
+			executors.getIo().execute(TaskMonitor.attribute(() ->
+			{
+				try
 				{
-					executor.submit(() -> run(scheduledMethod));
+					run(scheduledMethod);
 				}
-				else
+				finally
 				{
-					run(scheduledMethod);
+					scheduledMethod.running.set(false);
 				}
-			}
+			}, scheduledMethod.getObject().getClass()));
+		}
+		catch (RejectedExecutionException ex)
+		{
+			scheduledMethod.running.set(false);
+			log.warn("unable to submit scheduled task {}", scheduledMethod, ex);
 		}
 	}
 
 	private void run(ScheduledMethod scheduledMethod)
 	{
+		final InvocationMetrics metrics = invocationMetrics;
+		final boolean timed = metrics != null && metrics.isEnabled();
+		final long allocated = timed ? metrics.allocatedBytes() : 0L;
+		final long start = System.nanoTime();
+
 		try
 		{
 			Runnable lambda = scheduledMethod.getLambda();
@@ -114,5 +178,18 @@ public class Scheduler
 		{
 			log.warn("error during scheduled task", ex);
 		}
+		finally
+		{
+			if (timed)
+			{
+				metrics.record(InvocationMetrics.Category.SCHEDULED, scheduledMethod, Scheduler::describe, start, allocated);
+			}
+		}
+	}
+
+	private static String describe(Object o)
+	{
+		final Method method = ((ScheduledMethod) o).getMethod();
+		return method.getDeclaringClass().getSimpleName() + "." + method.getName();
 	}
 }
@@ -31,6 +31,10 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.image.BufferedImage;
 import java.lang.reflect.InvocationTargetException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 import javax.swing.ImageIcon;
 import javax.swing.JFrame;
@@ -55,6 +59,11 @@ public class SplashScreen extends JFrame implements ActionListener
 
 	private static SplashScreen INSTANCE;
 
+	// time spent in each stage, keyed by sub action text
+	private static final Map<String, Long> PHASE_NANOS = new LinkedHashMap<>();
+	private static String phase;
+	private static long phaseStart;
+
 	private final JLabel action = new JLabel("Loading");
 	private final JProgressBar progress = new JProgressBar();
 	private final JLabel subAction = new JLabel();
@@ -195,6 +204,11 @@ public class SplashScreen extends JFrame implements ActionListener
 
 	public static void stop()
 	{
+		if (timePhase(null))
+		{
+			log.info("Startup stage timings (ms): {}", getPhaseTimings());
+		}
+
 		SwingUtilities.invokeLater(() ->
 		{
 			if (INSTANCE == null)
@@ -239,6 +253,8 @@ public class SplashScreen extends JFrame implements ActionListener
 
 	public static void stage(double overallProgress, @Nullable String actionText, String subActionText, @Nullable String progressText)
 	{
+		timePhase(subActionText);
+
 		if (INSTANCE != null)
 		{
 			INSTANCE.overallProgress = overallProgress;
@@ -250,4 +266,38 @@ public class SplashScreen extends JFrame implements ActionListener
 			INSTANCE.progressText = progressText;
 		}
 	}
+
+	/**
+	 * Record the end of the current stage, if the sub action text has changed
+	 *
+	 * @return true if a stage ended
+	 */
+	private static synchronized boolean timePhase(@Nullable String subActionText)
+	{
+		if (Objects.equals(subActionText, phase))
+		{
+			return false;
+		}
+
+		final long now = System.nanoTime();
+		if (phase != null)
+		{
+			PHASE_NANOS.merge(phase, now - phaseStart, Long::sum);
+		}
+		phase = subActionText;
+		phaseStart = now;
+		return true;
+	}
+
+	/**
+	 * Get the time spent in each startup stage so far
+	 *
+	 * @return milliseconds per stage, in the order the stages were first entered
+	 */
+	public static synchronized Map<String, Long> getPhaseTimings()
+	{
+		final Map<String, Long> timings = new LinkedHashMap<>();
+		PHASE_NANOS.forEach((name, nanos) -> timings.put(name, TimeUnit.NANOSECONDS.toMillis(nanos)));
+		return timings;
+	}
 }
@@ -69,6 +69,7 @@ import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.JagexColors;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.HotkeyListener;
+import net.runelite.client.util.InvocationMetrics;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 
@@ -95,6 +96,7 @@ public class OverlayRenderer extends MouseAdapter
 	private final ClientUI clientUI;
 	private final EventBus eventBus;
 	private final ChatMessageManager chatMessageManager;
+	private final InvocationMetrics invocationMetrics;
 
 	// Overlay movement variables
 	private final Point overlayOffset = new Point();
@@ -126,7 +128,8 @@ public class OverlayRenderer extends MouseAdapter
 		final KeyManager keyManager,
 		final ClientUI clientUI,
 		final EventBus eventBus,
-		final ChatMessageManager chatMessageManager
+		final ChatMessageManager chatMessageManager,
+		final InvocationMetrics invocationMetrics
 	)
 	{
 		this.client = client;
@@ -135,6 +138,7 @@ public class OverlayRenderer extends MouseAdapter
 		this.clientUI = clientUI;
 		this.eventBus = eventBus;
 		this.chatMessageManager = chatMessageManager;
+		this.invocationMetrics = invocationMetrics;
 
 		HotkeyListener hotkeyListener = new HotkeyListener(runeLiteConfig::dragHotkey)
 		{
@@ -729,6 +733,10 @@ public class OverlayRenderer extends MouseAdapter
 		graphics.translate(point.x, point.y);
 		overlay.getBounds().setLocation(point);
 
+		final boolean timed = invocationMetrics.isEnabled();
+		final long allocated = timed ? invocationMetrics.allocatedBytes() : 0L;
+		final long start = timed ? System.nanoTime() : 0L;
+
 		final Dimension overlayDimension;
 		try
 		{
@@ -739,11 +747,24 @@ public class OverlayRenderer extends MouseAdapter
 			log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
 			return;
 		}
+		finally
+		{
+			if (timed)
+			{
+				invocationMetrics.record(InvocationMetrics.Category.OVERLAY, overlay, OverlayRenderer::describe, start, allocated);
+			}
+		}
 
 		final Dimension dimension = MoreObjects.firstNonNull(overlayDimension, new Dimension());
 		overlay.getBounds().setSize(dimension);
 	}
 
+	private static String describe(Object o)
+	{
+		final Overlay overlay = (Overlay) o;
+		return overlay.getPlugin() != null ? overlay.getPlugin().getName() + " " + overlay.getName() : overlay.getName();
+	}
+
 	private OverlayPosition getCorrectedOverlayPosition(final Overlay overlay)
 	{
 		OverlayPosition overlayPosition = overlay.getPosition();
@@ -25,6 +25,8 @@
 package net.runelite.client.util;
 
 import java.util.concurrent.Callable;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CallableExceptionLogger<V> implements Callable<V>
 {
+	@Getter(AccessLevel.PACKAGE)
 	private final Callable<V> callable;
 
 	@Override
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The client's background executors, split into tiers so that blocking work can't starve timers:
+ * <ul>
+ *     <li>{@link #getIo()} for blocking work such as http requests and file access. Runs on virtual threads where the
+ *     JVM supports them.</li>
+ *     <li>{@link #getTimer()} for delayed and periodic tasks. This is the injected {@link ScheduledExecutorService}, it has
+ *     a single thread, so tasks which block should be handed off to the io tier.</li>
+ * </ul>
+ * Each tier reports to a {@link TaskMonitor}, which warns when the tier is saturated. Their state is shown by the
+ * performance inspector.
+ */
+@Slf4j
+@Singleton
+public class ClientExecutors
+{
+	private static final int IO_THREADS = 8;
+
+	@Getter
+	private final ExecutorService io;
+	@Getter
+	private final ScheduledExecutorService timer;
+
+	private final List<TaskMonitor> monitors = new ArrayList<>(2);
+
+	@Inject
+	public ClientExecutors(InvocationMetrics invocationMetrics)
+	{
+		final TaskMonitor ioMonitor = new TaskMonitor("io", invocationMetrics, 32, 2, TimeUnit.SECONDS);
+		final TaskMonitor timerMonitor = new TaskMonitor("timer", invocationMetrics, 16, 1, TimeUnit.SECONDS);
+		monitors.add(ioMonitor);
+		monitors.add(timerMonitor);
+
+		io = new MonitoredExecutorService(createIoExecutor(), ioMonitor);
+		timer = new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+			.setNameFormat("RL-timer-%d")
+			.build()), timerMonitor);
+	}
+
+	private static ExecutorService createIoExecutor()
+	{
+		if (!Boolean.getBoolean("runelite.executor.noVirtualThreads"))
+		{
+			try
+			{
+				// Thread.ofVirtual().name("RL-io-", 0).factory(), which is only available from Java 21
+				final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+				Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+				builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "RL-io-", 0L);
+				final ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+				final Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+				final ExecutorService executor = (ExecutorService) newThreadPerTaskExecutor.invoke(null, factory);
+				log.debug("Using virtual threads for the io executor");
+				return executor;
+			}
+			catch (ReflectiveOperationException | LinkageError ex)
+			{
+				log.debug("Virtual threads are unavailable, using a thread pool for the io executor", ex);
+			}
+		}
+
+		return createPool(IO_THREADS, threadFactory("RL-io-%d"));
+	}
+
+	private static ThreadPoolExecutor createPool(int threads, ThreadFactory threadFactory)
+	{
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static ThreadFactory threadFactory(String nameFormat)
+	{
+		return new ThreadFactoryBuilder()
+			.setNameFormat(nameFormat)
+			.setDaemon(true)
+			.build();
+	}
+
+	public List<TaskMonitor.Snapshot> getSnapshots()
+	{
+		final List<TaskMonitor.Snapshot> snapshots = new ArrayList<>(monitors.size());
+		for (TaskMonitor monitor : monitors)
+		{
+			snapshots.add(monitor.snapshot());
+		}
+		return snapshots;
+	}
+}
@@ -29,19 +29,33 @@ import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import lombok.RequiredArgsConstructor;
+import javax.annotation.Nullable;
 
 /**
- * Wrapper for ${@link ScheduledExecutorService} that will log all uncaught exceptions as warning to console
+ * Wrapper for ${@link ScheduledExecutorService} that will log all uncaught exceptions as warning to console,
+ * and optionally report its tasks to a {@link TaskMonitor}
  */
-@RequiredArgsConstructor
 public class ExecutorServiceExceptionLogger implements ScheduledExecutorService
 {
 	private final ScheduledExecutorService service;
+	@Nullable
+	private final TaskMonitor monitor;
+
+	public ExecutorServiceExceptionLogger(ScheduledExecutorService service)
+	{
+		this(service, null);
+	}
+
+	public ExecutorServiceExceptionLogger(ScheduledExecutorService service, @Nullable TaskMonitor monitor)
+	{
+		this.service = service;
+		this.monitor = monitor;
+	}
 
 	private static Runnable monitor(final Runnable command)
 	{
@@ -56,27 +70,98 @@ public class ExecutorServiceExceptionLogger implements ScheduledExecutorService
 	@Override
 	public <T> Future<T> submit(Callable<T> task)
 	{
+		if (monitor != null)
+		{
+			return enqueue(monitor.newTask(monitor(task)));
+		}
 		return service.submit(monitor(task));
 	}
 
 	@Override
 	public <T> Future<T> submit(Runnable task, T result)
 	{
+		if (monitor != null)
+		{
+			return enqueue(monitor.newTask(monitor(task), result));
+		}
 		return service.submit(monitor(task), result);
 	}
 
 	@Override
 	public Future<?> submit(Runnable task)
 	{
+		if (monitor != null)
+		{
+			return enqueue(monitor.newTask(monitor(task), null));
+		}
 		return service.submit(monitor(task));
 	}
 
 	@Override
 	public void execute(Runnable command)
 	{
+		if (monitor != null)
+		{
+			enqueue(monitor.wrap(monitor(command)));
+			return;
+		}
 		service.execute(monitor(command));
 	}
 
+	private <T extends Runnable> T enqueue(T task)
+	{
+		try
+		{
+			service.execute(task);
+		}
+		catch (RejectedExecutionException ex)
+		{
+			monitor.rejected();
+			throw ex;
+		}
+		return task;
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit)
+	{
+		if (monitor != null)
+		{
+			command = monitor.wrapScheduled(command, unit.toNanos(delay), 0L);
+		}
+		return service.schedule(command, delay, unit);
+	}
+
+	@Override
+	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit)
+	{
+		if (monitor != null)
+		{
+			callable = monitor.wrapScheduled(callable, unit.toNanos(delay));
+		}
+		return service.schedule(callable, delay, unit);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit)
+	{
+		if (monitor != null)
+		{
+			command = monitor.wrapScheduled(command, unit.toNanos(initialDelay), unit.toNanos(period));
+		}
+		return service.scheduleAtFixedRate(command, initialDelay, period, unit);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit)
+	{
+		if (monitor != null)
+		{
+			command = monitor.wrapScheduled(command, unit.toNanos(initialDelay), -unit.toNanos(delay));
+		}
+		return service.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+	}
+
 	// Everything below is direct proxy to provided executor service
 
 	@Override
@@ -132,28 +217,4 @@ public class ExecutorServiceExceptionLogger implements ScheduledExecutorService
 	{
 		return service.invokeAny(tasks, timeout, unit);
 	}
-
-	@Override
-	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit)
-	{
-		return service.schedule(command, delay, unit);
-	}
-
-	@Override
-	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit)
-	{
-		return service.schedule(callable, delay, unit);
-	}
-
-	@Override
-	public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit)
-	{
-		return service.scheduleAtFixedRate(command, initialDelay, period, unit);
-	}
-
-	@Override
-	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit)
-	{
-		return service.scheduleWithFixedDelay(command, initialDelay, delay, unit);
-	}
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Opt-in timing of event subscribers, overlays, scheduled methods and executor tasks. While disabled, callers only pay for a volatile read
+ * in {@link #isEnabled()}.
+ */
+@Slf4j
+@ThreadSafe
+public class InvocationMetrics
+{
+	public enum Category
+	{
+		SUBSCRIBER,
+		OVERLAY,
+		SCHEDULED,
+		TASK,
+	}
+
+	@Value
+	public static class Sample
+	{
+		private final Category category;
+		private final String name;
+		private final long invocations;
+		private final long totalNanos;
+		private final long maxNanos;
+		/**
+		 * Bytes allocated by the invoking thread, or -1 if the JVM can't measure it
+		 */
+		private final long allocatedBytes;
+	}
+
+	private static class Counter
+	{
+		private final Category category;
+		private final String name;
+		private final LongAdder invocations = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+		private final LongAdder allocatedBytes = new LongAdder();
+
+		Counter(Category category, String name)
+		{
+			this.category = category;
+			this.name = name;
+		}
+	}
+
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = createThreadMXBean();
+
+	/**
+	 * Counters are keyed by the invoked object itself, so they are dropped when metrics are disabled
+	 * to avoid holding onto unloaded plugins.
+	 */
+	private final Map<Object, Counter> counters = new ConcurrentHashMap<>();
+
+	@Getter
+	private volatile boolean enabled;
+
+	private static com.sun.management.ThreadMXBean createThreadMXBean()
+	{
+		try
+		{
+			java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			if (bean instanceof com.sun.management.ThreadMXBean)
+			{
+				com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+				if (sunBean.isThreadAllocatedMemorySupported())
+				{
+					sunBean.setThreadAllocatedMemoryEnabled(true);
+					return sunBean;
+				}
+			}
+		}
+		catch (LinkageError | UnsupportedOperationException | SecurityException ex)
+		{
+			log.debug("thread allocation tracking is unavailable", ex);
+		}
+		return null;
+	}
+
+	public void setEnabled(boolean enabled)
+	{
+		this.enabled = enabled;
+		if (!enabled)
+		{
+			counters.clear();
+		}
+	}
+
+	public boolean isAllocationTrackingSupported()
+	{
+		return THREAD_MX_BEAN != null;
+	}
+
+	/**
+	 * Get the number of bytes allocated so far by the current thread, to be passed to
+	 * {@link #record(Category, Object, Function, long, long)} after the invocation.
+	 */
+	public long allocatedBytes()
+	{
+		return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0L;
+	}
+
+	/**
+	 * Record a completed invocation
+	 *
+	 * @param category kind of invocation
+	 * @param key the invoked object, used to group invocations
+	 * @param namer names the key, only called the first time the key is seen
+	 * @param startNanos {@link System#nanoTime()} before the invocation
+	 * @param startAllocated {@link #allocatedBytes()} before the invocation
+	 */
+	public void record(Category category, Object key, Function<Object, String> namer, long startNanos, long startAllocated)
+	{
+		final long elapsed = System.nanoTime() - startNanos;
+		final long allocated = allocatedBytes() - startAllocated;
+
+		if (!enabled)
+		{
+			// disabled during the invocation
+			return;
+		}
+
+		Counter counter = counters.get(key);
+		if (counter == null)
+		{
+			counter = counters.computeIfAbsent(key, k -> new Counter(category, namer.apply(k)));
+		}
+
+		counter.invocations.increment();
+		counter.totalNanos.add(elapsed);
+		counter.maxNanos.accumulateAndGet(elapsed, Math::max);
+		counter.allocatedBytes.add(allocated);
+	}
+
+	public List<Sample> getSamples()
+	{
+		final boolean allocations = isAllocationTrackingSupported();
+		final List<Sample> samples = new ArrayList<>(counters.size());
+		for (Counter counter : counters.values())
+		{
+			samples.add(new Sample(counter.category, counter.name,
+				counter.invocations.sum(),
+				counter.totalNanos.sum(),
+				counter.maxNanos.get(),
+				allocations ? counter.allocatedBytes.sum() : -1L));
+		}
+		return samples;
+	}
+
+	public void reset()
+	{
+		counters.clear();
+	}
+}
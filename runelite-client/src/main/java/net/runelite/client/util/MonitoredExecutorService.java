@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Wrapper for {@link ExecutorService} which logs uncaught exceptions and reports its tasks to a {@link TaskMonitor}
+ */
+@RequiredArgsConstructor
+public class MonitoredExecutorService extends AbstractExecutorService
+{
+	private final ExecutorService service;
+	@Getter
+	private final TaskMonitor monitor;
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value)
+	{
+		return monitor.newTask(RunnableExceptionLogger.wrap(runnable), value);
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable)
+	{
+		return monitor.newTask(CallableExceptionLogger.wrap(callable));
+	}
+
+	@Override
+	public void execute(Runnable command)
+	{
+		// futures from newTaskFor are already monitored and pass through wrap unchanged
+		final Runnable task = command instanceof RunnableFuture ? monitor.wrap(command) : monitor.wrap(RunnableExceptionLogger.wrap(command));
+		try
+		{
+			service.execute(task);
+		}
+		catch (RejectedExecutionException ex)
+		{
+			monitor.rejected();
+			throw ex;
+		}
+	}
+
+	@Override
+	public void shutdown()
+	{
+		service.shutdown();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow()
+	{
+		return service.shutdownNow();
+	}
+
+	@Override
+	public boolean isShutdown()
+	{
+		return service.isShutdown();
+	}
+
+	@Override
+	public boolean isTerminated()
+	{
+		return service.isTerminated();
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		return service.awaitTermination(timeout, unit);
+	}
+}
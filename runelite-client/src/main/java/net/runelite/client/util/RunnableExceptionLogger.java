@@ -24,6 +24,8 @@
  */
 package net.runelite.client.util;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class RunnableExceptionLogger implements Runnable
 {
+	@Getter(AccessLevel.PACKAGE)
 	private final Runnable runnable;
 
 	@Override
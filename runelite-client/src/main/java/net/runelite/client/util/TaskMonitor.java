@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queue depth, wait time and per-owner run time of the tasks submitted to one executor tier. Tasks are attributed to
+ * the top level class that created them, or to the plugin package for classes under {@code net.runelite.client.plugins}.
+ */
+@Slf4j
+@ThreadSafe
+public class TaskMonitor
+{
+	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins.";
+	private static final long WARNING_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private static final ClassValue<String> OWNERS = new ClassValue<String>()
+	{
+		@Override
+		protected String computeValue(Class<?> type)
+		{
+			return ownerName(type.getName());
+		}
+	};
+
+	@Value
+	public static class Snapshot
+	{
+		private final String name;
+		/**
+		 * Tasks submitted for immediate execution which have not started yet
+		 */
+		private final int queued;
+		private final int active;
+		private final long completed;
+		/**
+		 * Time between a task becoming due and it starting. For immediate tasks this is the time spent queued,
+		 * for delayed and periodic tasks it is how late the task ran.
+		 */
+		private final long totalWaitNanos;
+		private final long maxWaitNanos;
+		private final Map<String, Long> ownerRunNanos;
+	}
+
+	private static final class Owner
+	{
+		private final String name;
+		private final LongAdder runNanos = new LongAdder();
+
+		private Owner(String name)
+		{
+			this.name = name;
+		}
+	}
+
+	/**
+	 * A task attributed to an owner other than the class which created it
+	 */
+	private static final class Attributed implements Runnable
+	{
+		private final Runnable runnable;
+		private final Class<?> owner;
+
+		private Attributed(Runnable runnable, Class<?> owner)
+		{
+			this.runnable = runnable;
+			this.owner = owner;
+		}
+
+		@Override
+		public void run()
+		{
+			runnable.run();
+		}
+
+		@Override
+		public String toString()
+		{
+			return runnable.toString();
+		}
+	}
+
+	/**
+	 * Future for a task submitted to a monitored executor. The accounting is done here instead of in the wrapped
+	 * task so a future which is cancelled before it starts still leaves the queue.
+	 */
+	private final class TrackedFuture<V> extends FutureTask<V>
+	{
+		private final Owner owner;
+		private final long submitted = System.nanoTime();
+
+		private TrackedFuture(Callable<V> callable, Owner owner)
+		{
+			super(callable);
+			this.owner = owner;
+		}
+
+		private TrackedFuture(Runnable runnable, V result, Owner owner)
+		{
+			super(runnable, result);
+			this.owner = owner;
+		}
+
+		@Override
+		public void run()
+		{
+			queued.decrementAndGet();
+			final long start = begin(submitted);
+			final long startAllocated = invocationMetrics.isEnabled() ? invocationMetrics.allocatedBytes() : 0L;
+			try
+			{
+				super.run();
+			}
+			finally
+			{
+				end(owner, start, startAllocated);
+			}
+		}
+	}
+
+	@Getter
+	private final String name;
+	private final InvocationMetrics invocationMetrics;
+	private final int saturationQueueDepth;
+	private final long saturationWaitNanos;
+
+	private final Map<String, Owner> owners = new ConcurrentHashMap<>();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicInteger active = new AtomicInteger();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder totalWaitNanos = new LongAdder();
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+	private final AtomicLong lastWarning = new AtomicLong(System.nanoTime() - WARNING_INTERVAL_NANOS);
+
+	/**
+	 * @param name name of the executor, used in saturation warnings
+	 * @param invocationMetrics receives per-owner run times while it is enabled
+	 * @param saturationQueueDepth number of queued tasks at which the executor is considered saturated
+	 * @param saturationWait wait time at which the executor is considered saturated
+	 * @param unit unit of {@code saturationWait}
+	 */
+	public TaskMonitor(String name, InvocationMetrics invocationMetrics, int saturationQueueDepth, long saturationWait, TimeUnit unit)
+	{
+		this.name = name;
+		this.invocationMetrics = invocationMetrics;
+		this.saturationQueueDepth = saturationQueueDepth;
+		this.saturationWaitNanos = unit.toNanos(saturationWait);
+	}
+
+	/**
+	 * Attribute a task to {@code owner} rather than the class of the task, for tasks created on behalf of another
+	 * class such as the {@code @Schedule} methods run by the scheduler.
+	 */
+	public static Runnable attribute(Runnable task, Class<?> owner)
+	{
+		return new Attributed(task, owner);
+	}
+
+	static String ownerName(String className)
+	{
+		// nested, anonymous and lambda classes belong to their top level class
+		final int nested = className.indexOf('$');
+		if (nested != -1)
+		{
+			className = className.substring(0, nested);
+		}
+
+		if (className.startsWith(PLUGIN_PACKAGE))
+		{
+			final int end = className.indexOf('.', PLUGIN_PACKAGE.length());
+			if (end != -1)
+			{
+				return className.substring(PLUGIN_PACKAGE.length(), end) + " plugin";
+			}
+		}
+
+		return className.substring(className.lastIndexOf('.') + 1);
+	}
+
+	private Owner ownerOf(Object task)
+	{
+		if (task instanceof RunnableExceptionLogger)
+		{
+			task = ((RunnableExceptionLogger) task).getRunnable();
+		}
+		else if (task instanceof CallableExceptionLogger)
+		{
+			task = ((CallableExceptionLogger<?>) task).getCallable();
+		}
+
+		final Class<?> type = task instanceof Attributed ? ((Attributed) task).owner : task.getClass();
+		final String ownerName = OWNERS.get(type);
+		Owner owner = owners.get(ownerName);
+		if (owner == null)
+		{
+			owner = owners.computeIfAbsent(ownerName, Owner::new);
+		}
+		return owner;
+	}
+
+	/**
+	 * Create the future for a task about to be submitted for immediate execution
+	 */
+	public <V> RunnableFuture<V> newTask(Callable<V> callable)
+	{
+		final Owner owner = ownerOf(callable);
+		enqueue();
+		return new TrackedFuture<>(callable, owner);
+	}
+
+	/**
+	 * Create the future for a task about to be submitted for immediate execution
+	 */
+	public <V> RunnableFuture<V> newTask(Runnable runnable, V result)
+	{
+		final Owner owner = ownerOf(runnable);
+		enqueue();
+		return new TrackedFuture<>(runnable, result, owner);
+	}
+
+	/**
+	 * Wrap a task about to be submitted for immediate execution
+	 */
+	public Runnable wrap(Runnable task)
+	{
+		if (task instanceof TrackedFuture)
+		{
+			return task;
+		}
+
+		final Owner owner = ownerOf(task);
+		final long submitted = System.nanoTime();
+		enqueue();
+		return () ->
+		{
+			queued.decrementAndGet();
+			final long start = begin(submitted);
+			final long startAllocated = invocationMetrics.isEnabled() ? invocationMetrics.allocatedBytes() : 0L;
+			try
+			{
+				task.run();
+			}
+			finally
+			{
+				end(owner, start, startAllocated);
+			}
+		};
+	}
+
+	/**
+	 * Wrap a delayed or periodic task. Its wait is measured from the time it was due to run.
+	 *
+	 * @param delayNanos delay before the first run
+	 * @param periodNanos 0 for a one-shot task, the period for a fixed rate task, or the negated delay for a fixed
+	 * delay task
+	 */
+	public Runnable wrapScheduled(Runnable task, long delayNanos, long periodNanos)
+	{
+		final Owner owner = ownerOf(task);
+		final long[] due = {System.nanoTime() + delayNanos};
+		return () ->
+		{
+			// periodic tasks never run concurrently with themselves, so due needs no synchronization
+			final long start = begin(due[0]);
+			final long startAllocated = invocationMetrics.isEnabled() ? invocationMetrics.allocatedBytes() : 0L;
+			try
+			{
+				task.run();
+			}
+			finally
+			{
+				end(owner, start, startAllocated);
+				if (periodNanos > 0)
+				{
+					due[0] += periodNanos;
+				}
+				else if (periodNanos < 0)
+				{
+					due[0] = System.nanoTime() - periodNanos;
+				}
+			}
+		};
+	}
+
+	/**
+	 * Wrap a delayed task. Its wait is measured from the time it was due to run.
+	 */
+	public <V> Callable<V> wrapScheduled(Callable<V> task, long delayNanos)
+	{
+		final Owner owner = ownerOf(task);
+		final long due = System.nanoTime() + delayNanos;
+		return () ->
+		{
+			final long start = begin(due);
+			final long startAllocated = invocationMetrics.isEnabled() ? invocationMetrics.allocatedBytes() : 0L;
+			try
+			{
+				return task.call();
+			}
+			finally
+			{
+				end(owner, start, startAllocated);
+			}
+		};
+	}
+
+	/**
+	 * Must be called if a task created by {@link #wrap(Runnable)} or {@code newTask} is rejected by the executor
+	 */
+	public void rejected()
+	{
+		queued.decrementAndGet();
+	}
+
+	private void enqueue()
+	{
+		final int depth = queued.incrementAndGet();
+		if (depth >= saturationQueueDepth)
+		{
+			warnSaturated("{} executor is saturated: {} tasks queued, {} active, busiest: {}",
+				name, depth, active.get(), busiestOwner());
+		}
+	}
+
+	private long begin(long due)
+	{
+		final long start = System.nanoTime();
+		final long wait = Math.max(0L, start - due);
+		totalWaitNanos.add(wait);
+		maxWaitNanos.accumulateAndGet(wait, Math::max);
+		active.incrementAndGet();
+
+		if (wait >= saturationWaitNanos)
+		{
+			warnSaturated("{} executor is saturated: task waited {}ms, {} tasks queued, {} active, busiest: {}",
+				name, TimeUnit.NANOSECONDS.toMillis(wait), queued.get(), active.get(), busiestOwner());
+		}
+		return start;
+	}
+
+	private void end(Owner owner, long start, long startAllocated)
+	{
+		active.decrementAndGet();
+		completed.increment();
+		owner.runNanos.add(System.nanoTime() - start);
+
+		if (invocationMetrics.isEnabled())
+		{
+			invocationMetrics.record(InvocationMetrics.Category.TASK, owner, o -> name + ": " + ((Owner) o).name, start, startAllocated);
+		}
+	}
+
+	private void warnSaturated(String format, Object... args)
+	{
+		final long now = System.nanoTime();
+		final long last = lastWarning.get();
+		if (now - last >= WARNING_INTERVAL_NANOS && lastWarning.compareAndSet(last, now))
+		{
+			log.warn(format, args);
+		}
+	}
+
+	private String busiestOwner()
+	{
+		Owner busiest = null;
+		long busiestNanos = -1L;
+		for (Owner owner : owners.values())
+		{
+			final long nanos = owner.runNanos.sum();
+			if (nanos > busiestNanos)
+			{
+				busiest = owner;
+				busiestNanos = nanos;
+			}
+		}
+		return busiest == null ? "none" : busiest.name;
+	}
+
+	public Snapshot snapshot()
+	{
+		final Map<String, Long> ownerRunNanos = new HashMap<>(owners.size());
+		for (Owner owner : owners.values())
+		{
+			ownerRunNanos.put(owner.name, owner.runNanos.sum());
+		}
+		return new Snapshot(name, queued.get(), active.get(), completed.sum(), totalWaitNanos.sum(), maxWaitNanos.get(), ownerRunNanos);
+	}
+}
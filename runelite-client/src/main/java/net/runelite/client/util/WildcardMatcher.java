@@ -24,34 +24,264 @@
  */
 package net.runelite.client.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
 
+/**
+ * Case insensitive matching of names against patterns where {@code *} matches any sequence of characters.
+ * {@link #compile(Collection)} builds a matcher for a list of patterns which checks all of them in about
+ * one pass over the name: exact patterns are looked up in a hash map, {@code prefix*} and {@code *suffix}
+ * patterns in tries, and only patterns with other wildcards are checked individually.
+ */
 public class WildcardMatcher
 {
-	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*)");
+	private static final int[] NONE = new int[0];
 
-	public static boolean matches(String pattern, String text)
+	private static class Node
+	{
+		private final Map<Character, Node> children = new HashMap<>();
+		// indexes of the patterns ending at this node
+		private int[] patterns = NONE;
+
+		Node child(char c)
+		{
+			return children.computeIfAbsent(c, k -> new Node());
+		}
+	}
+
+	private final List<String> patterns;
+	// patterns which are only wildcards
+	private final int[] any;
+	private final Map<String, int[]> exact = new HashMap<>();
+	private final Node prefixes = new Node();
+	private final Node suffixes = new Node();
+	private final List<String[]> globs = new ArrayList<>();
+	private final List<Integer> globPatterns = new ArrayList<>();
+
+	private WildcardMatcher(List<String> patterns)
 	{
-		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
-		final StringBuffer buffer = new StringBuffer();
+		this.patterns = Collections.unmodifiableList(patterns);
 
-		buffer.append("(?i)");
-		while (matcher.find())
+		int[] any = NONE;
+		for (int i = 0; i < patterns.size(); ++i)
 		{
-			if (matcher.group(1) != null)
+			final String[] segments = split(patterns.get(i));
+			final String first = segments[0];
+			final String last = segments[segments.length - 1];
+
+			if (segments.length == 1)
+			{
+				exact.merge(first, new int[]{i}, WildcardMatcher::concat);
+			}
+			else if (isOnlyWildcards(segments))
 			{
-				matcher.appendReplacement(buffer, ".*");
+				any = concat(any, new int[]{i});
+			}
+			else if (segments.length == 2 && last.isEmpty())
+			{
+				Node node = prefixes;
+				for (int j = 0; j < first.length(); ++j)
+				{
+					node = node.child(first.charAt(j));
+				}
+				node.patterns = concat(node.patterns, new int[]{i});
+			}
+			else if (segments.length == 2 && first.isEmpty())
+			{
+				Node node = suffixes;
+				for (int j = last.length() - 1; j >= 0; --j)
+				{
+					node = node.child(last.charAt(j));
+				}
+				node.patterns = concat(node.patterns, new int[]{i});
 			}
 			else
 			{
-				matcher.appendReplacement(buffer, Matcher.quoteReplacement(Pattern.quote(matcher.group(0))));
+				globs.add(segments);
+				globPatterns.add(i);
+			}
+		}
+		this.any = any;
+	}
+
+	/**
+	 * Compile a list of patterns into a matcher
+	 *
+	 * @param patterns the patterns. Pattern indexes passed to {@link #matches(String, IntPredicate)} are
+	 *                 indexes into this collection's iteration order.
+	 */
+	public static WildcardMatcher compile(Collection<String> patterns)
+	{
+		return new WildcardMatcher(new ArrayList<>(patterns));
+	}
+
+	/**
+	 * Get the patterns this matcher was compiled from, in the order their indexes refer to
+	 */
+	public List<String> getPatterns()
+	{
+		return patterns;
+	}
+
+	/**
+	 * Check if any of the patterns matches the text
+	 */
+	public boolean matches(String text)
+	{
+		return matches(text, i -> true);
+	}
+
+	/**
+	 * Check if any of the patterns which match the text also pass the filter
+	 *
+	 * @param text the text to match
+	 * @param filter tested with the index of each matching pattern
+	 */
+	public boolean matches(String text, IntPredicate filter)
+	{
+		if (test(any, filter))
+		{
+			return true;
+		}
+
+		final String folded = fold(text);
+		final int len = folded.length();
+
+		if (test(exact.get(folded), filter))
+		{
+			return true;
+		}
+
+		Node node = prefixes;
+		for (int i = 0; ; ++i)
+		{
+			if (test(node.patterns, filter))
+			{
+				return true;
+			}
+			if (i == len || (node = node.children.get(folded.charAt(i))) == null)
+			{
+				break;
+			}
+		}
+
+		node = suffixes;
+		for (int i = len - 1; ; --i)
+		{
+			if (test(node.patterns, filter))
+			{
+				return true;
+			}
+			if (i < 0 || (node = node.children.get(folded.charAt(i))) == null)
+			{
+				break;
+			}
+		}
+
+		for (int i = 0; i < globs.size(); ++i)
+		{
+			if (globMatches(globs.get(i), folded) && filter.test(globPatterns.get(i)))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	public static boolean matches(String pattern, String text)
+	{
+		return globMatches(split(pattern), fold(text));
+	}
+
+	private static boolean test(int[] patterns, IntPredicate filter)
+	{
+		if (patterns != null)
+		{
+			for (int pattern : patterns)
+			{
+				if (filter.test(pattern))
+				{
+					return true;
+				}
 			}
 		}
+		return false;
+	}
 
-		matcher.appendTail(buffer);
-		final String replaced = buffer.toString();
+	/**
+	 * Match folded text against the folded segments of a pattern, which are separated by wildcards
+	 */
+	private static boolean globMatches(String[] segments, String text)
+	{
+		final String first = segments[0];
+		if (segments.length == 1)
+		{
+			return text.equals(first);
+		}
 
-		return text.matches(replaced);
+		final String last = segments[segments.length - 1];
+		if (text.length() < first.length() + last.length() || !text.startsWith(first) || !text.endsWith(last))
+		{
+			return false;
+		}
+
+		// the leftmost match of each middle segment leaves the most room for the rest
+		int pos = first.length();
+		final int end = text.length() - last.length();
+		for (int i = 1; i < segments.length - 1; ++i)
+		{
+			final String segment = segments[i];
+			final int idx = text.indexOf(segment, pos);
+			if (idx == -1 || idx + segment.length() > end)
+			{
+				return false;
+			}
+			pos = idx + segment.length();
+		}
+		return true;
+	}
+
+	private static boolean isOnlyWildcards(String[] segments)
+	{
+		for (String segment : segments)
+		{
+			if (!segment.isEmpty())
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String[] split(String pattern)
+	{
+		return fold(pattern).split("\\*", -1);
+	}
+
+	/**
+	 * Fold case the same way as {@link String#equalsIgnoreCase(String)}
+	 */
+	private static String fold(String s)
+	{
+		final char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; ++i)
+		{
+			chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+		}
+		return new String(chars);
+	}
+
+	private static int[] concat(int[] a, int[] b)
+	{
+		final int[] r = Arrays.copyOf(a, a.length + b.length);
+		System.arraycopy(b, 0, r, a.length, b.length);
+		return r;
 	}
 }
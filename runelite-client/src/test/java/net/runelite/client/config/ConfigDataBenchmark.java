@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares loading a profile from just the properties file against loading it with a journal
+ * to replay, and saving a small patch by rewriting the properties file against appending it to
+ * the journal. The profile is shaped like a loot tracker heavy one: many small keys and some
+ * large JSON values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ConfigDataBenchmark
+{
+	@Param({"20000"})
+	private int keys;
+
+	@Param({"500"})
+	private int journalRecords;
+
+	private File dir;
+	private File snapshotFile;
+	private File journaledFile;
+	private File patchFile;
+	private ConfigData patchSnapshot;
+	private ConfigData patchJournal;
+	private int writes;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		dir = Files.createTempDirectory("configdata").toFile();
+
+		Map<String, String> values = new HashMap<>();
+		StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < 40; ++i)
+		{
+			json.append("{\"id\":").append(i).append(",\"qty\":").append(i * 7).append("},");
+		}
+		json.append("{}]");
+		for (int i = 0; i < keys; ++i)
+		{
+			values.put("group" + (i % 100) + ".key" + i, i % 10 == 0 ? json.toString() : Integer.toString(i));
+		}
+
+		snapshotFile = create("snapshot.properties", values, false);
+		journaledFile = create("journaled.properties", values, true);
+		for (int i = 0; i < journalRecords; ++i)
+		{
+			ConfigData data = new ConfigData(journaledFile, true);
+			data.setProperty("loottracker.drop" + i, json.toString());
+			// avoid compacting, to measure the replay
+			data.patch(data.swapChanges());
+		}
+
+		patchFile = create("patch.properties", values, false);
+		patchSnapshot = new ConfigData(patchFile, false);
+		patchJournal = new ConfigData(patchFile, true);
+	}
+
+	private File create(String name, Map<String, String> values, boolean journal)
+	{
+		File file = new File(dir, name);
+		ConfigData data = new ConfigData(file, journal);
+		data.putAll(values);
+		data.patch(data.swapChanges());
+		return file;
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		for (File file : dir.listFiles())
+		{
+			file.delete();
+		}
+		dir.delete();
+	}
+
+	@TearDown(Level.Iteration)
+	public void compactPatchFile()
+	{
+		ConfigData.compact(patchFile);
+	}
+
+	@Benchmark
+	public ConfigData loadProperties()
+	{
+		return new ConfigData(snapshotFile);
+	}
+
+	@Benchmark
+	public ConfigData loadPropertiesWithJournal()
+	{
+		return new ConfigData(journaledFile);
+	}
+
+	@Benchmark
+	public void patchProperties()
+	{
+		patchSnapshot.patch(Collections.singletonMap("xptracker.xp", Integer.toString(++writes)));
+	}
+
+	@Benchmark
+	public void patchJournal()
+	{
+		patchJournal.patch(Collections.singletonMap("xptracker.xp", Integer.toString(++writes)));
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ConfigDataBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ConfigDataTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static void save(ConfigData data)
+	{
+		data.patch(data.swapChanges());
+	}
+
+	@Test
+	public void testJournal() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+
+		ConfigData data = new ConfigData(file, true);
+		data.setProperty("a", "1");
+		data.setProperty("b", "2");
+		save(data);
+
+		// the first save writes the properties file
+		assertTrue(file.exists());
+		assertFalse(ConfigData.journalFile(file).exists());
+
+		data.setProperty("a", "3");
+		data.unset("b");
+		data.setProperty("c", "multi\nline = value");
+		save(data);
+
+		assertTrue(ConfigData.journalFile(file).exists());
+
+		ConfigData loaded = new ConfigData(file, true);
+		assertEquals("3", loaded.getProperty("a"));
+		assertNull(loaded.getProperty("b"));
+		assertEquals("multi\nline = value", loaded.getProperty("c"));
+
+		ConfigData.compact(file);
+		assertFalse(ConfigData.journalFile(file).exists());
+
+		loaded = new ConfigData(file, false);
+		assertEquals(data.get(), loaded.get());
+	}
+
+	@Test
+	public void testMerge()
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+
+		ConfigData first = new ConfigData(file, true);
+		first.setProperty("a", "1");
+		save(first);
+
+		ConfigData second = new ConfigData(file, false);
+		ConfigData third = new ConfigData(file, true);
+
+		first.setProperty("b", "2");
+		save(first);
+
+		// rewriting the properties file must keep the journaled change to b
+		second.setProperty("c", "3");
+		save(second);
+
+		third.setProperty("d", "4");
+		save(third);
+
+		Map<String, String> expected = new HashMap<>();
+		expected.put("a", "1");
+		expected.put("b", "2");
+		expected.put("c", "3");
+		expected.put("d", "4");
+		assertEquals(expected, new ConfigData(file, false).get());
+	}
+
+	@Test
+	public void testTruncatedJournal() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+
+		ConfigData data = new ConfigData(file, true);
+		data.setProperty("a", "1");
+		save(data);
+		data.setProperty("b", "2");
+		save(data);
+		data.setProperty("c", "3");
+		save(data);
+
+		File journal = ConfigData.journalFile(file);
+		try (RandomAccessFile raf = new RandomAccessFile(journal, "rw"))
+		{
+			raf.setLength(raf.length() - 2);
+		}
+
+		ConfigData loaded = new ConfigData(file, true);
+		assertEquals("1", loaded.getProperty("a"));
+		assertEquals("2", loaded.getProperty("b"));
+		assertNull(loaded.getProperty("c"));
+		// the partial record is dropped so that new records are readable
+		assertFalse(journal.exists());
+		// and the config lock taken for the load is released
+		assertFalse(new File(folder.getRoot(), "test.properties.lck").exists());
+
+		loaded.putAll(Collections.singletonMap("d", "4"));
+		save(loaded);
+		assertEquals("4", new ConfigData(file, true).getProperty("d"));
+	}
+
+	@Test
+	public void testKeysWithPrefix()
+	{
+		ConfigData data = new ConfigData(new File(folder.getRoot(), "test.properties"), false);
+		data.setProperty("a.b", "1");
+		data.setProperty("loot.drops_1", "1");
+		data.setProperty("loot.drops_2", "2");
+		data.setProperty("loot.drops", "3");
+		data.setProperty("loot.other", "4");
+		data.setProperty("lootz.drops_3", "5");
+
+		NavigableSet<String> keys = data.keysWithPrefix("loot.drops_");
+		assertEquals(Arrays.asList("loot.drops_1", "loot.drops_2"), Arrays.asList(keys.toArray()));
+
+		data.unset("loot.drops_1");
+		data.putAll(Collections.singletonMap("loot.drops_0", "6"));
+		assertEquals(Arrays.asList("loot.drops_0", "loot.drops_2"), Arrays.asList(data.keysWithPrefix("loot.drops_").toArray()));
+
+		assertEquals(4, data.keysWithPrefix("loot.").size());
+		assertEquals(6, data.keysWithPrefix("").size());
+		assertTrue(data.keysWithPrefix("loot.drops_\uffff").isEmpty());
+	}
+}
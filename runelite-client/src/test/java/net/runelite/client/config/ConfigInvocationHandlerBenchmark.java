@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.io.File;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Named;
+import net.runelite.api.Client;
+import net.runelite.client.RuneLite;
+import net.runelite.client.account.SessionManager;
+import net.runelite.client.eventbus.EventBus;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures config proxy getter throughput, both alone and while another thread is
+ * continually writing to an unrelated config group, as the loot and xp trackers do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ConfigInvocationHandlerBenchmark
+{
+	@ConfigGroup("benchmark")
+	public interface BenchmarkConfig extends Config
+	{
+		@ConfigItem(
+			keyName = "enabled",
+			name = "Enabled",
+			description = ""
+		)
+		default boolean enabled()
+		{
+			return true;
+		}
+
+		@ConfigItem(
+			keyName = "size",
+			name = "Size",
+			description = ""
+		)
+		default int size()
+		{
+			return 5;
+		}
+
+		@ConfigItem(
+			keyName = "color",
+			name = "Color",
+			description = ""
+		)
+		default String color()
+		{
+			return "#ff0000";
+		}
+	}
+
+	@Bind
+	EventBus eventBus = new EventBus();
+
+	@Bind
+	ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+
+	@Bind
+	@Named("sessionfile")
+	File sessionfile = RuneLite.DEFAULT_SESSION_FILE;
+
+	@Bind
+	@Named("profile")
+	@Nullable
+	String profile;
+
+	@Bind
+	Client client = mock(Client.class);
+
+	@Bind
+	ConfigClient configClient = mock(ConfigClient.class);
+
+	@Bind
+	SessionManager sessionManager = mock(SessionManager.class);
+
+	@Bind
+	ProfileManager profileManager = mock(ProfileManager.class);
+
+	@Inject
+	ConfigManager manager;
+
+	private BenchmarkConfig config;
+	private int writes;
+
+	@Setup
+	public void setup()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		ProfileManager.Lock lock = mock(ProfileManager.Lock.class);
+		when(lock.createProfile(anyString())).thenAnswer(a ->
+		{
+			ConfigProfile profile = new ConfigProfile(System.nanoTime());
+			profile.setName(a.getArgument(0));
+			return profile;
+		});
+		when(lock.createProfile(anyString(), anyLong())).thenAnswer(a ->
+		{
+			ConfigProfile profile = new ConfigProfile(a.getArgument(1));
+			profile.setName(a.getArgument(0));
+			return profile;
+		});
+		when(profileManager.lock()).thenReturn(lock);
+
+		manager.load();
+		manager.setConfiguration("benchmark", "size", 10);
+
+		config = manager.getConfig(BenchmarkConfig.class);
+	}
+
+	private void readAll(Blackhole bh)
+	{
+		bh.consume(config.enabled());
+		bh.consume(config.size());
+		bh.consume(config.color());
+	}
+
+	@Benchmark
+	public void read(Blackhole bh)
+	{
+		readAll(bh);
+	}
+
+	@Benchmark
+	@Group("readWhileWriting")
+	@GroupThreads(3)
+	public void readWhileWritingGetter(Blackhole bh)
+	{
+		readAll(bh);
+	}
+
+	@Benchmark
+	@Group("readWhileWriting")
+	@GroupThreads(1)
+	public void readWhileWritingWriter()
+	{
+		manager.setConfiguration("loottracker", "kills", ++writes);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ConfigInvocationHandlerBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
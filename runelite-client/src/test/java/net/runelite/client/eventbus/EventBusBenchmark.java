@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures posting events with a typical number of plugins registered. Every plugin
+ * subscribes to the per frame event, about half to the per tick event, and each also
+ * subscribes to a few of many rarer events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EventBusBenchmark
+{
+	public static class FrameEvent
+	{
+	}
+
+	public static class TickEvent
+	{
+	}
+
+	public static class RareEvent
+	{
+	}
+
+	public static class UnsubscribedEvent
+	{
+	}
+
+	public static class Plugin
+	{
+		final Blackhole bh;
+
+		Plugin(Blackhole bh)
+		{
+			this.bh = bh;
+		}
+
+		@Subscribe
+		public void onFrameEvent(FrameEvent event)
+		{
+			bh.consume(event);
+		}
+	}
+
+	public static class TickPlugin extends Plugin
+	{
+		TickPlugin(Blackhole bh)
+		{
+			super(bh);
+		}
+
+		@Subscribe
+		public void onTickEvent(TickEvent event)
+		{
+			bh.consume(event);
+		}
+
+		@Subscribe(priority = 1)
+		public void onRareEvent(RareEvent event)
+		{
+			bh.consume(event);
+		}
+	}
+
+	@Param({"100"})
+	private int plugins;
+
+	private EventBus eventBus;
+	private TickPlugin churn;
+
+	private final FrameEvent frameEvent = new FrameEvent();
+	private final TickEvent tickEvent = new TickEvent();
+	private final UnsubscribedEvent unsubscribedEvent = new UnsubscribedEvent();
+
+	@Setup
+	public void setup(Blackhole bh)
+	{
+		eventBus = new EventBus();
+
+		List<Plugin> registered = new ArrayList<>();
+		for (int i = 0; i < plugins; ++i)
+		{
+			Plugin plugin = i % 2 == 0 ? new TickPlugin(bh) : new Plugin(bh);
+			eventBus.register(plugin);
+			registered.add(plugin);
+
+			// other subscriptions of the plugin, to populate the subscriber index
+			for (int j = 0; j < 10; ++j)
+			{
+				eventBus.register(Integer.class, bh::consume, j);
+				eventBus.register(String.class, bh::consume, j);
+			}
+		}
+
+		churn = new TickPlugin(bh);
+	}
+
+	@Benchmark
+	public void postFrameEvent()
+	{
+		eventBus.post(frameEvent);
+	}
+
+	@Benchmark
+	public void postTickEvent()
+	{
+		eventBus.post(tickEvent);
+	}
+
+	@Benchmark
+	public void postUnsubscribedEvent()
+	{
+		eventBus.post(unsubscribedEvent);
+	}
+
+	@Benchmark
+	public void registerUnregister()
+	{
+		eventBus.register(churn);
+		eventBus.unregister(churn);
+	}
+
+	@Benchmark
+	public void registerUnregisterConsumer()
+	{
+		eventBus.unregister(eventBus.register(TickEvent.class, churn::onTickEvent, 0));
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(EventBusBenchmark.class.getSimpleName())
+			.build())
+			.run();
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ItemNameIndexTest
+{
+	private static final String[] NAMES = {
+		"Dwarf remains",
+		"Toolkit",
+		"Cannonball",
+		"null",
+		"Shark",
+		"Raw shark",
+		"Shark lure",
+		"Sharks tooth",
+		null,
+		"Anti-venom(4)",
+		"Anti-venom+(4)",
+		"Bronze dagger",
+		"Dragon dagger(p++)",
+	};
+
+	private final ItemNameIndex index = ItemNameIndex.build(NAMES.length, id -> NAMES[id]);
+
+	@Test
+	public void testRanking()
+	{
+		// prefix, then word start, then shortest
+		assertArrayEquals(new int[]{4, 6, 7, 5}, index.search("shark", 10));
+		assertArrayEquals(new int[]{4, 6}, index.search("SHARK", 2));
+		assertArrayEquals(new int[]{11, 12}, index.search("dagger", 10));
+	}
+
+	@Test
+	public void testSubstring()
+	{
+		assertArrayEquals(new int[]{9, 10}, index.search("venom", 10));
+		assertArrayEquals(new int[]{10}, index.search("venom+", 10));
+		assertArrayEquals(new int[]{2}, index.search("nonba", 10));
+		assertArrayEquals(new int[0], index.search("sharkk", 10));
+		assertArrayEquals(new int[0], index.search("null", 10));
+	}
+
+	@Test
+	public void testShortQuery()
+	{
+		assertArrayEquals(new int[]{1}, index.search("to", 1));
+		assertArrayEquals(new int[]{10, 12}, index.search("+", 10));
+		assertEquals(0, index.search("", 10).length);
+	}
+
+	@Test
+	public void testFilter()
+	{
+		assertArrayEquals(new int[]{7, 5}, index.search("shark", id -> id % 2 == 1, 10));
+	}
+
+	@Test
+	public void testMatchesScan()
+	{
+		final String[] queries = {"a", "an", "ar", "sha", "ger", "(4)", "om(", "r s", "z"};
+		for (String query : queries)
+		{
+			int count = 0;
+			for (String name : NAMES)
+			{
+				if (name != null && !name.equals("null") && name.toLowerCase().contains(query))
+				{
+					++count;
+				}
+			}
+			assertEquals(query, count, index.search(query, Integer.MAX_VALUE).length);
+		}
+	}
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.party.messages.PartyChatMessage;
+import net.runelite.client.party.messages.UserSync;
+import net.runelite.client.party.messages.WebsocketMessage;
+import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.StatusUpdate;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WSClientTest
+{
+	private final LocalWebSocket socket = new LocalWebSocket();
+	private final EventBus eventBus = new EventBus();
+	private final List<WebsocketMessage> received = new ArrayList<>();
+	private WSClient wsClient;
+
+	@Before
+	public void before()
+	{
+		final OkHttpClient okHttpClient = new OkHttpClient()
+		{
+			@Override
+			public WebSocket newWebSocket(Request request, WebSocketListener listener)
+			{
+				return socket;
+			}
+		};
+
+		wsClient = Guice.createInjector(binder ->
+		{
+			binder.bind(EventBus.class).toInstance(eventBus);
+			binder.bind(OkHttpClient.class).toInstance(okHttpClient);
+			binder.bind(HttpUrl.class).annotatedWith(Names.named("runelite.ws")).toInstance(HttpUrl.get("https://localhost/ws"));
+		}).getInstance(WSClient.class);
+		wsClient.registerMessage(StatusUpdate.class, StatusUpdate.CODEC);
+		wsClient.registerMessage(LocationUpdate.class, LocationUpdate.CODEC);
+		wsClient.changeSession(UUID.randomUUID());
+
+		eventBus.register(this);
+	}
+
+	@Subscribe
+	public void onStatusUpdate(StatusUpdate event)
+	{
+		received.add(event);
+	}
+
+	@Subscribe
+	public void onLocationUpdate(LocationUpdate event)
+	{
+		received.add(event);
+	}
+
+	@Subscribe
+	public void onUserSync(UserSync event)
+	{
+		received.add(event);
+	}
+
+	@Test
+	public void testBatch() throws Exception
+	{
+		final StatusUpdate status = new StatusUpdate();
+		status.setHealthCurrent(42);
+		status.setVengeanceActive(true);
+
+		wsClient.send(status);
+		wsClient.send(new LocationUpdate(new WorldPoint(3200, 3200, 1)));
+		assertTrue(socket.frames.isEmpty());
+
+		wsClient.flush();
+		assertEquals(1, socket.frames.size());
+
+		final Party.C2S c2s = Party.C2S.parseFrom(socket.frames.get(0).toByteArray());
+		assertEquals(PartyBatch.TYPE, c2s.getData().getType());
+
+		relay(c2s, 1234L);
+		assertEquals(2, received.size());
+
+		final StatusUpdate receivedStatus = (StatusUpdate) received.get(0);
+		assertEquals(1234L, receivedStatus.getMemberId());
+		assertEquals(Integer.valueOf(42), receivedStatus.getHealthCurrent());
+		assertEquals(Boolean.TRUE, receivedStatus.getVengeanceActive());
+		assertNull(receivedStatus.getCharacterName());
+		assertNull(receivedStatus.getHealthMax());
+
+		final LocationUpdate receivedLocation = (LocationUpdate) received.get(1);
+		assertEquals(new WorldPoint(3200, 3200, 1), receivedLocation.getWorldPoint());
+		assertEquals(1234L, receivedLocation.getMemberId());
+
+		// nothing left to send
+		wsClient.flush();
+		assertEquals(1, socket.frames.size());
+	}
+
+	@Test
+	public void testJsonNotBatched() throws Exception
+	{
+		wsClient.send(new PartyChatMessage("hello"));
+		assertEquals(1, socket.frames.size());
+
+		final Party.C2S c2s = Party.C2S.parseFrom(socket.frames.get(0).toByteArray());
+		assertEquals("PartyChatMessage", c2s.getData().getType());
+
+		wsClient.flush();
+		assertEquals(1, socket.frames.size());
+	}
+
+	@Test
+	public void testUnregisteredTypeSkipped() throws Exception
+	{
+		wsClient.send(new LocationUpdate(new WorldPoint(3200, 3200, 0)));
+		wsClient.send(new StatusUpdate());
+		wsClient.flush();
+
+		wsClient.unregisterMessage(LocationUpdate.class);
+		relay(Party.C2S.parseFrom(socket.frames.get(0).toByteArray()), 1L);
+
+		assertEquals(1, received.size());
+		assertTrue(received.get(0) instanceof StatusUpdate);
+	}
+
+	@Test
+	public void testUserSyncSentAsJson() throws Exception
+	{
+		wsClient.send(new UserSync());
+		assertEquals(1, socket.frames.size());
+
+		final Party.C2S c2s = Party.C2S.parseFrom(socket.frames.get(0).toByteArray());
+		assertEquals("UserSync", c2s.getData().getType());
+
+		relay(c2s, 1L);
+		assertEquals(PartyBatch.VERSION, ((UserSync) received.get(0)).getBatchVersion());
+	}
+
+	@Test
+	public void testJsonUntilAllMembersSupportBatches() throws Exception
+	{
+		wsClient.join(1L, 10L);
+		memberJoin(1L, 10L);
+		memberJoin(1L, 20L);
+		socket.frames.clear();
+
+		// member 20 hasn't said it can decode batches
+		wsClient.send(new LocationUpdate(new WorldPoint(3200, 3200, 0)));
+		assertEquals(1, socket.frames.size());
+		assertEquals("LocationUpdate", Party.C2S.parseFrom(socket.frames.get(0).toByteArray()).getData().getType());
+
+		// member 20 syncs from a client which supports batches
+		wsClient.send(new UserSync());
+		relay(Party.C2S.parseFrom(socket.frames.get(1).toByteArray()), 20L);
+		socket.frames.clear();
+
+		wsClient.send(new LocationUpdate(new WorldPoint(3200, 3200, 0)));
+		assertTrue(socket.frames.isEmpty());
+
+		// member 30 joins before the end of the tick from an older client
+		memberJoin(1L, 30L);
+		wsClient.flush();
+		assertEquals(1, socket.frames.size());
+		assertEquals("LocationUpdate", Party.C2S.parseFrom(socket.frames.get(0).toByteArray()).getData().getType());
+
+		// and is treated as supporting batches once it sends one
+		relay(Party.C2S.newBuilder()
+			.setData(Party.Data.newBuilder()
+				.setType(PartyBatch.TYPE)
+				.setData(com.google.protobuf.ByteString.copyFrom(new byte[]{1, 0})))
+			.build(), 30L);
+		socket.frames.clear();
+		wsClient.send(new LocationUpdate(new WorldPoint(3200, 3200, 0)));
+		assertTrue(socket.frames.isEmpty());
+	}
+
+	@Test
+	public void testCorruptBatch()
+	{
+		final byte[][] frames = {
+			{1, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x0f}, // type count -1
+			{1, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07}, // type count too large
+			{1, 0, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x0f, 0}, // record index -1
+			{1, 1, 0, 14, 'L', 'o', 'c', 'a', 't', 'i', 'o', 'n', 'U', 'p', 'd', 'a', 't', 'e',
+				0, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x0f}, // record length -1
+			{1, 1, 0, 14, 'L', 'o', 'c', 'a', 't', 'i', 'o', 'n', 'U', 'p', 'd', 'a', 't', 'e', 0, 1, 0}, // truncated record
+		};
+
+		for (byte[] frame : frames)
+		{
+			relay(Party.C2S.newBuilder()
+				.setData(Party.Data.newBuilder()
+					.setType(PartyBatch.TYPE)
+					.setData(com.google.protobuf.ByteString.copyFrom(frame)))
+				.build(), 1L);
+		}
+
+		assertTrue(received.isEmpty());
+	}
+
+	private void memberJoin(long partyId, long memberId)
+	{
+		final Party.S2C s2c = Party.S2C.newBuilder()
+			.setJoin(Party.UserJoin.newBuilder()
+				.setPartyId(partyId)
+				.setMemberId(memberId))
+			.build();
+		wsClient.onMessage(socket, ByteString.of(s2c.toByteArray()));
+	}
+
+	private void relay(Party.C2S c2s, long memberId)
+	{
+		final Party.PartyData data = Party.PartyData.newBuilder()
+			.setMemberId(memberId)
+			.setType(c2s.getData().getType())
+			.setData(c2s.getData().getData())
+			.build();
+		final Party.S2C s2c = Party.S2C.newBuilder()
+			.setData(data)
+			.build();
+		wsClient.onMessage(socket, ByteString.of(s2c.toByteArray()));
+	}
+
+	/**
+	 * Records frames instead of sending them to a server
+	 */
+	private static class LocalWebSocket implements WebSocket
+	{
+		private final List<ByteString> frames = new ArrayList<>();
+
+		@Override
+		public Request request()
+		{
+			return null;
+		}
+
+		@Override
+		public long queueSize()
+		{
+			return 0;
+		}
+
+		@Override
+		public boolean send(String text)
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean send(ByteString bytes)
+		{
+			frames.add(bytes);
+			return true;
+		}
+
+		@Override
+		public boolean close(int code, String reason)
+		{
+			return true;
+		}
+
+		@Override
+		public void cancel()
+		{
+		}
+	}
+}
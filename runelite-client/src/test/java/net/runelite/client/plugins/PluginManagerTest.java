@@ -40,11 +40,13 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteModule;
@@ -56,6 +58,7 @@ import net.runelite.client.eventbus.EventBus;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import org.junit.Before;
 import org.junit.Rule;
@@ -165,6 +168,54 @@ public class PluginManagerTest
 		assertEquals(expected, plugins.size());
 	}
 
+	@Test
+	public void testLoadPluginsParallel() throws Exception
+	{
+		PluginManager serialManager = new PluginManager(false, false, null, null, null, null);
+		serialManager.loadCorePlugins();
+
+		PluginManager pluginManager = new PluginManager(false, false, null, null, null, null);
+		pluginManager.setParallelStartup(true);
+		pluginManager.loadCorePlugins();
+		List<Plugin> plugins = new ArrayList<>(pluginManager.getPlugins());
+
+		assertEquals(
+			serialManager.getPlugins().stream().map(p -> p.getClass().getName()).collect(Collectors.toSet()),
+			plugins.stream().map(p -> p.getClass().getName()).collect(Collectors.toSet()));
+
+		// dependencies are still loaded before their dependents
+		for (int i = 0; i < plugins.size(); ++i)
+		{
+			for (PluginDependency dependency : plugins.get(i).getClass().getAnnotationsByType(PluginDependency.class))
+			{
+				int idx = -1;
+				for (int j = 0; j < plugins.size(); ++j)
+				{
+					if (plugins.get(j).getClass() == dependency.value())
+					{
+						idx = j;
+					}
+				}
+				assertTrue(idx != -1 && idx < i);
+			}
+		}
+	}
+
+	@Test
+	public void testPluginIndex() throws Exception
+	{
+		PluginIndex index = PluginIndex.load(getClass().getClassLoader());
+		assertNotNull(index);
+
+		Set<String> indexed = index.getEntries().stream()
+			.map(PluginIndex.Entry::getClassName)
+			.collect(Collectors.toSet());
+		Set<String> scanned = pluginClasses.stream()
+			.map(Class::getName)
+			.collect(Collectors.toSet());
+		assertEquals(scanned, indexed);
+	}
+
 	@Test
 	public void dumpGraph() throws Exception
 	{
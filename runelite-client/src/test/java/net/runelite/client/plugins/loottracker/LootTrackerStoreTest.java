@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LootTrackerStoreTest
+{
+	private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testAggregate() throws IOException
+	{
+		File dir = folder.getRoot();
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertTrue(store.isEmpty());
+			store.add(LootRecordType.NPC, "Goblin", 1, new int[]{526, 1, 995, 5}, T0);
+			store.add(LootRecordType.NPC, "Goblin", 2, new int[]{995, 10}, T0.plusSeconds(60));
+			store.add(LootRecordType.EVENT, "Barrows", 1, new int[]{4708, 1}, T0.plusSeconds(120));
+		}
+
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertFalse(store.isEmpty());
+			assertEquals(2, store.getAggregates().size());
+
+			ConfigLoot goblin = store.getAggregate(LootRecordType.NPC, "Goblin");
+			assertEquals(3, goblin.kills);
+			assertArrayEquals(new int[]{526, 1, 995, 15}, goblin.drops);
+			assertEquals(T0, goblin.first);
+			assertEquals(T0.plusSeconds(60), goblin.last);
+		}
+	}
+
+	@Test
+	public void testQuery() throws IOException
+	{
+		try (LootTrackerStore store = new LootTrackerStore(folder.getRoot()))
+		{
+			// enough records for the time index to have several entries
+			for (int i = 0; i < 10_000; ++i)
+			{
+				store.add(LootRecordType.NPC, "Goblin", 1, new int[]{995, 1}, T0.plusSeconds(i));
+			}
+
+			List<ConfigLoot> window = store.query(T0.plusSeconds(5000), T0.plusSeconds(5100));
+			assertEquals(1, window.size());
+			assertEquals(100, window.get(0).kills);
+			assertArrayEquals(new int[]{995, 100}, window.get(0).drops);
+
+			store.remove(LootRecordType.NPC, "Goblin", T0.plusSeconds(10_000));
+			store.add(LootRecordType.NPC, "Goblin", 1, new int[]{995, 7}, T0.plusSeconds(10_001));
+
+			window = store.query(T0, T0.plusSeconds(20_000));
+			assertEquals(1, window.size());
+			assertEquals(1, window.get(0).kills);
+			assertEquals(1, store.getAggregate(LootRecordType.NPC, "Goblin").kills);
+		}
+	}
+
+	@Test
+	public void testEvictAndClear() throws IOException
+	{
+		File dir = folder.getRoot();
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			store.add(LootRecordType.NPC, "Goblin", 1, new int[0], T0);
+			store.add(LootRecordType.NPC, "Cow", 1, new int[0], T0.plusSeconds(600));
+			List<ConfigLoot> evicted = store.evict(T0.plusSeconds(300));
+			assertEquals(1, evicted.size());
+			assertEquals("Goblin", evicted.get(0).name);
+			assertNull(store.getAggregate(LootRecordType.NPC, "Goblin"));
+		}
+
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertNull(store.getAggregate(LootRecordType.NPC, "Goblin"));
+			assertEquals(1, store.getAggregate(LootRecordType.NPC, "Cow").kills);
+
+			store.clear();
+			assertTrue(store.getAggregates().isEmpty());
+		}
+
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertTrue(store.getAggregates().isEmpty());
+		}
+	}
+
+	@Test
+	public void testImport() throws IOException
+	{
+		ConfigLoot loot = new ConfigLoot(LootRecordType.EVENT, "Barrows");
+		loot.kills = 10;
+		loot.last = T0;
+		loot.add(4708, 2);
+
+		File dir = folder.getRoot();
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			store.importAggregates(Collections.singletonList(loot));
+		}
+
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertFalse(store.isEmpty());
+			ConfigLoot imported = store.getAggregate(LootRecordType.EVENT, "Barrows");
+			assertEquals(10, imported.kills);
+			assertArrayEquals(new int[]{4708, 2}, imported.drops);
+		}
+	}
+
+	@Test
+	public void testSyncMarker() throws IOException
+	{
+		File dir = folder.getRoot();
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertNull(store.getSyncMarker());
+			store.setSyncMarker("marker");
+		}
+
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertEquals("marker", store.getSyncMarker());
+		}
+	}
+
+	@Test
+	public void testTornLog() throws IOException
+	{
+		File dir = folder.getRoot();
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			store.add(LootRecordType.NPC, "Goblin", 1, new int[]{995, 1}, T0);
+			store.add(LootRecordType.NPC, "Goblin", 1, new int[]{995, 1}, T0.plusSeconds(1));
+		}
+
+		// remove the snapshot and tear the last record, as if the client crashed mid write
+		new File(dir, "loot.snapshot").delete();
+		try (RandomAccessFile raf = new RandomAccessFile(new File(dir, "loot.log"), "rw"))
+		{
+			raf.setLength(raf.length() - 3);
+		}
+
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertEquals(1, store.getAggregate(LootRecordType.NPC, "Goblin").kills);
+			store.add(LootRecordType.NPC, "Goblin", 1, new int[]{995, 1}, T0.plusSeconds(2));
+		}
+
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertEquals(2, store.getAggregate(LootRecordType.NPC, "Goblin").kills);
+		}
+	}
+
+	@Test
+	public void testSecondStoreReadOnly() throws IOException
+	{
+		File dir = folder.getRoot();
+		try (LootTrackerStore writer = new LootTrackerStore(dir))
+		{
+			writer.add(LootRecordType.NPC, "Goblin", 1, new int[]{995, 5}, T0);
+
+			try (LootTrackerStore reader = new LootTrackerStore(dir))
+			{
+				assertTrue(reader.isReadOnly());
+				assertEquals(1, reader.getAggregate(LootRecordType.NPC, "Goblin").kills);
+
+				try
+				{
+					reader.add(LootRecordType.NPC, "Goblin", 1, new int[]{995, 5}, T0);
+					fail();
+				}
+				catch (IOException ex)
+				{
+					// expected
+				}
+			}
+
+			writer.add(LootRecordType.NPC, "Goblin", 1, new int[]{995, 5}, T0.plusSeconds(60));
+		}
+
+		// the lock is released on close
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertFalse(store.isReadOnly());
+			assertEquals(2, store.getAggregate(LootRecordType.NPC, "Goblin").kills);
+		}
+	}
+
+	@Test
+	public void testUnknownType() throws IOException
+	{
+		File dir = folder.getRoot();
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			store.add(LootRecordType.NPC, "Goblin", 1, new int[]{995, 1}, T0);
+		}
+
+		// records from a client with more record types, by code and by name
+		appendRecord(new File(dir, "loot.log"), lootPayload(T0.plusSeconds(1), 200, null, "Imp"));
+		appendRecord(new File(dir, "loot.log"), lootPayload(T0.plusSeconds(2), 255, "FISHING", "Shark"));
+		appendRecord(new File(dir, "loot.log"), lootPayload(T0.plusSeconds(3), 255, "PICKPOCKET", "Man"));
+
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertEquals(2, store.getAggregates().size());
+			assertEquals(1, store.getAggregate(LootRecordType.PICKPOCKET, "Man").kills);
+			store.add(LootRecordType.NPC, "Goblin", 1, new int[]{995, 1}, T0.plusSeconds(4));
+		}
+
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertEquals(2, store.getAggregate(LootRecordType.NPC, "Goblin").kills);
+			assertEquals(2, store.query(T0, T0.plusSeconds(10)).size());
+		}
+	}
+
+	@Test
+	public void testMalformedRecord() throws IOException
+	{
+		File dir = folder.getRoot();
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			store.add(LootRecordType.NPC, "Goblin", 1, new int[]{995, 1}, T0);
+		}
+
+		// complete records with valid checksums, but a bad drop count and a truncated payload
+		byte[] payload = lootPayload(T0.plusSeconds(1), 0, null, "Goblin");
+		payload[payload.length - 12] = 0x7f;
+		appendRecord(new File(dir, "loot.log"), payload);
+		appendRecord(new File(dir, "loot.log"), new byte[]{1, 0, 0});
+		appendRecord(new File(dir, "loot.log"), lootPayload(T0.plusSeconds(2), 0, null, "Goblin"));
+
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertEquals(2, store.getAggregate(LootRecordType.NPC, "Goblin").kills);
+			store.add(LootRecordType.NPC, "Goblin", 1, new int[]{995, 1}, T0.plusSeconds(3));
+		}
+
+		new File(dir, "loot.snapshot").delete();
+		try (LootTrackerStore store = new LootTrackerStore(dir))
+		{
+			assertEquals(3, store.getAggregate(LootRecordType.NPC, "Goblin").kills);
+			assertEquals(3, store.query(T0, T0.plusSeconds(10)).get(0).kills);
+		}
+	}
+
+	private static byte[] lootPayload(Instant time, int type, String typeName, String name) throws IOException
+	{
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(buf);
+		out.writeByte(1); // OP_LOOT
+		out.writeLong(time.toEpochMilli());
+		out.writeByte(type);
+		if (typeName != null)
+		{
+			out.writeUTF(typeName);
+		}
+		out.writeUTF(name);
+		out.writeInt(1);
+		out.writeInt(1);
+		out.writeInt(995);
+		out.writeInt(1);
+		return buf.toByteArray();
+	}
+
+	private static void appendRecord(File log, byte[] payload) throws IOException
+	{
+		CRC32 crc = new CRC32();
+		crc.update(payload, 0, payload.length);
+		try (DataOutputStream out = new DataOutputStream(new FileOutputStream(log, true)))
+		{
+			out.writeInt(payload.length);
+			out.write(payload);
+			out.writeInt((int) crc.getValue());
+		}
+	}
+}
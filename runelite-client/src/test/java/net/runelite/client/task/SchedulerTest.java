@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.lang.reflect.Method;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.client.util.ClientExecutors;
+import net.runelite.client.util.InvocationMetrics;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SchedulerTest
+{
+	private Scheduler scheduler;
+	private long now;
+
+	@Before
+	public void before()
+	{
+		final InvocationMetrics invocationMetrics = new InvocationMetrics();
+		scheduler = new Scheduler();
+		scheduler.executors = new ClientExecutors(invocationMetrics);
+		scheduler.invocationMetrics = invocationMetrics;
+		scheduler.nanoTime = () -> now;
+	}
+
+	private void advance(long millis)
+	{
+		now += TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+
+	@Schedule(period = 1, unit = ChronoUnit.HOURS)
+	public void hourly()
+	{
+	}
+
+	@Schedule(period = 10, unit = ChronoUnit.MILLIS)
+	public void often()
+	{
+	}
+
+	@Schedule(period = 10, unit = ChronoUnit.MILLIS, asynchronous = true)
+	public void oftenAsync()
+	{
+	}
+
+	private ScheduledMethod schedule(String name, Runnable runnable) throws NoSuchMethodException
+	{
+		final Method method = SchedulerTest.class.getMethod(name);
+		final ScheduledMethod scheduledMethod = new ScheduledMethod(method.getAnnotation(Schedule.class), method, this, runnable);
+		scheduler.addScheduledMethod(scheduledMethod);
+		return scheduledMethod;
+	}
+
+	@Test
+	public void testOnlyDueMethodsRun() throws Exception
+	{
+		final AtomicInteger hourly = new AtomicInteger();
+		final AtomicInteger often = new AtomicInteger();
+		schedule("hourly", hourly::incrementAndGet);
+		schedule("often", often::incrementAndGet);
+
+		scheduler.tick();
+		assertEquals(0, often.get());
+
+		advance(20);
+		scheduler.tick();
+		scheduler.tick();
+		assertEquals(1, often.get());
+		assertEquals(0, hourly.get());
+	}
+
+	@Test
+	public void testRemove() throws Exception
+	{
+		final AtomicInteger often = new AtomicInteger();
+		final ScheduledMethod scheduledMethod = schedule("often", often::incrementAndGet);
+		scheduler.removeScheduledMethod(scheduledMethod);
+
+		advance(20);
+		scheduler.tick();
+		assertEquals(0, often.get());
+		assertEquals(0, scheduler.getScheduledMethods().size());
+	}
+
+	@Test
+	public void testAsyncOverrun() throws Exception
+	{
+		final AtomicInteger runs = new AtomicInteger();
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch finished = new CountDownLatch(1);
+		schedule("oftenAsync", () ->
+		{
+			runs.incrementAndGet();
+			try
+			{
+				release.await();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+			finished.countDown();
+		});
+
+		// the first run blocks; later deadlines pass while it is still running
+		for (int i = 0; i < 5; ++i)
+		{
+			advance(15);
+			scheduler.tick();
+		}
+
+		release.countDown();
+		assertTrue(finished.await(1, TimeUnit.SECONDS));
+		assertEquals(1, runs.get());
+	}
+
+	@Test
+	public void testMetrics() throws Exception
+	{
+		scheduler.invocationMetrics.setEnabled(true);
+		schedule("often", () ->
+		{
+		});
+
+		advance(20);
+		scheduler.tick();
+
+		assertEquals(1, scheduler.invocationMetrics.getSamples().size());
+		final InvocationMetrics.Sample sample = scheduler.invocationMetrics.getSamples().get(0);
+		assertEquals(InvocationMetrics.Category.SCHEDULED, sample.getCategory());
+		assertEquals("SchedulerTest.often", sample.getName());
+		assertEquals(1, sample.getInvocations());
+	}
+}
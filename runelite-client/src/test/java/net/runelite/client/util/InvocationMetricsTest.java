@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.List;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class InvocationMetricsTest
+{
+	private static class Listener
+	{
+		@Subscribe
+		public void onString(String s)
+		{
+		}
+	}
+
+	@Test
+	public void testDisabled()
+	{
+		final InvocationMetrics metrics = new InvocationMetrics();
+		final EventBus eventBus = new EventBus(metrics);
+		eventBus.register(new Listener());
+
+		eventBus.post("test");
+
+		assertTrue(metrics.getSamples().isEmpty());
+	}
+
+	@Test
+	public void testSubscriberMetrics()
+	{
+		final InvocationMetrics metrics = new InvocationMetrics();
+		final EventBus eventBus = new EventBus(metrics);
+		eventBus.register(new Listener());
+
+		metrics.setEnabled(true);
+		eventBus.post("a");
+		eventBus.post("b");
+		eventBus.post(42);
+
+		final List<InvocationMetrics.Sample> samples = metrics.getSamples();
+		assertEquals(1, samples.size());
+
+		final InvocationMetrics.Sample sample = samples.get(0);
+		assertEquals(InvocationMetrics.Category.SUBSCRIBER, sample.getCategory());
+		assertEquals("Listener.onString", sample.getName());
+		assertEquals(2, sample.getInvocations());
+		assertTrue(sample.getMaxNanos() <= sample.getTotalNanos());
+
+		metrics.setEnabled(false);
+		assertTrue(metrics.getSamples().isEmpty());
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TaskMonitorTest
+{
+	private TaskMonitor monitor;
+	private ExecutorService executor;
+
+	@Before
+	public void before()
+	{
+		monitor = new TaskMonitor("test", new InvocationMetrics(), 100, 1, TimeUnit.MINUTES);
+		executor = new MonitoredExecutorService(Executors.newSingleThreadExecutor(), monitor);
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testOwnerName()
+	{
+		assertEquals("ItemManager", TaskMonitor.ownerName("net.runelite.client.game.ItemManager"));
+		assertEquals("ItemManager", TaskMonitor.ownerName("net.runelite.client.game.ItemManager$$Lambda$42/0x0000000800c3b440"));
+		assertEquals("xptracker plugin", TaskMonitor.ownerName("net.runelite.client.plugins.xptracker.XpClient$1"));
+		assertEquals("Foo", TaskMonitor.ownerName("Foo"));
+	}
+
+	@Test
+	public void testQueueDepth() throws Exception
+	{
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final Future<?> blocker = executor.submit(() ->
+		{
+			started.countDown();
+			release.await();
+			return null;
+		});
+		assertTrue(started.await(1, TimeUnit.SECONDS));
+
+		executor.execute(() ->
+		{
+		});
+		final Future<?> cancelled = executor.submit(() ->
+		{
+		});
+		cancelled.cancel(false);
+
+		TaskMonitor.Snapshot snapshot = monitor.snapshot();
+		assertEquals(2, snapshot.getQueued());
+		assertEquals(1, snapshot.getActive());
+
+		release.countDown();
+		blocker.get(1, TimeUnit.SECONDS);
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+		snapshot = monitor.snapshot();
+		assertEquals(0, snapshot.getQueued());
+		assertEquals(0, snapshot.getActive());
+		assertEquals(3, snapshot.getCompleted());
+		assertTrue(snapshot.getMaxWaitNanos() > 0);
+	}
+
+	@Test
+	public void testAttribution() throws Exception
+	{
+		executor.submit(TaskMonitor.attribute(() ->
+		{
+		}, String.class)).get(1, TimeUnit.SECONDS);
+		executor.submit(() ->
+		{
+		}).get(1, TimeUnit.SECONDS);
+
+		final TaskMonitor.Snapshot snapshot = monitor.snapshot();
+		assertEquals(2, snapshot.getOwnerRunNanos().size());
+		assertTrue(snapshot.getOwnerRunNanos().containsKey("String"));
+		assertTrue(snapshot.getOwnerRunNanos().containsKey("TaskMonitorTest"));
+	}
+
+	@Test
+	public void testScheduled() throws Exception
+	{
+		final InvocationMetrics invocationMetrics = new InvocationMetrics();
+		invocationMetrics.setEnabled(true);
+		final TaskMonitor timerMonitor = new TaskMonitor("timer", invocationMetrics, 100, 1, TimeUnit.MINUTES);
+		final ExecutorServiceExceptionLogger timer = new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor(), timerMonitor);
+		try
+		{
+			timer.schedule(() ->
+			{
+			}, 10, TimeUnit.MILLISECONDS).get(1, TimeUnit.SECONDS);
+		}
+		finally
+		{
+			timer.shutdownNow();
+		}
+
+		assertEquals(1, timerMonitor.snapshot().getCompleted());
+		assertEquals(1, invocationMetrics.getSamples().size());
+		final InvocationMetrics.Sample sample = invocationMetrics.getSamples().get(0);
+		assertEquals(InvocationMetrics.Category.TASK, sample.getCategory());
+		assertEquals("timer: TaskMonitorTest", sample.getName());
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Matches a scene's worth of NPC names against a long highlight list, as NpcIndicatorsPlugin does
+ * on rebuild. The patterns are a mix of exact names, prefixes, suffixes and contains, and about
+ * a tenth of the names match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class WildcardMatcherBenchmark
+{
+	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*)");
+
+	@Param({"200"})
+	private int patternCount;
+
+	@Param({"500"})
+	private int npcCount;
+
+	private List<String> patterns;
+	private String[] npcs;
+	private WildcardMatcher matcher;
+
+	@Setup
+	public void setup()
+	{
+		final Random random = new Random(42);
+		patterns = new ArrayList<>(patternCount);
+		for (int i = 0; i < patternCount; ++i)
+		{
+			final String name = name(random);
+			switch (i % 10)
+			{
+				case 0:
+				case 1:
+				case 2:
+				case 3:
+				case 4:
+					patterns.add(name);
+					break;
+				case 5:
+				case 6:
+					patterns.add(name.substring(0, 4) + "*");
+					break;
+				case 7:
+				case 8:
+					patterns.add("*" + name.substring(name.length() - 4));
+					break;
+				default:
+					patterns.add("*" + name.substring(2, 6) + "*");
+					break;
+			}
+		}
+
+		npcs = new String[npcCount];
+		for (int i = 0; i < npcCount; ++i)
+		{
+			// reuse some exact names so that there are hits
+			npcs[i] = i % 10 == 0 ? patterns.get((i / 10 * 10) % patternCount) : name(random);
+		}
+
+		matcher = WildcardMatcher.compile(patterns);
+	}
+
+	private static String name(Random random)
+	{
+		final StringBuilder sb = new StringBuilder();
+		final int len = 8 + random.nextInt(10);
+		sb.append((char) ('A' + random.nextInt(26)));
+		for (int i = 1; i < len; ++i)
+		{
+			sb.append(i % 6 == 0 ? ' ' : (char) ('a' + random.nextInt(26)));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The previous implementation of {@link WildcardMatcher#matches(String, String)}
+	 */
+	private static boolean regexMatches(String pattern, String text)
+	{
+		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
+		final StringBuffer buffer = new StringBuffer();
+
+		buffer.append("(?i)");
+		while (matcher.find())
+		{
+			if (matcher.group(1) != null)
+			{
+				matcher.appendReplacement(buffer, ".*");
+			}
+			else
+			{
+				matcher.appendReplacement(buffer, Matcher.quoteReplacement(Pattern.quote(matcher.group(0))));
+			}
+		}
+
+		matcher.appendTail(buffer);
+		return text.matches(buffer.toString());
+	}
+
+	@Benchmark
+	public int regexPerPattern()
+	{
+		int matches = 0;
+		for (String npc : npcs)
+		{
+			for (String pattern : patterns)
+			{
+				if (regexMatches(pattern, npc))
+				{
+					++matches;
+					break;
+				}
+			}
+		}
+		return matches;
+	}
+
+	@Benchmark
+	public int globPerPattern()
+	{
+		int matches = 0;
+		for (String npc : npcs)
+		{
+			for (String pattern : patterns)
+			{
+				if (WildcardMatcher.matches(pattern, npc))
+				{
+					++matches;
+					break;
+				}
+			}
+		}
+		return matches;
+	}
+
+	@Benchmark
+	public int compiled()
+	{
+		int matches = 0;
+		for (String npc : npcs)
+		{
+			if (matcher.matches(npc))
+			{
+				++matches;
+			}
+		}
+		return matches;
+	}
+
+	@Benchmark
+	public WildcardMatcher compile()
+	{
+		return WildcardMatcher.compile(patterns);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(WildcardMatcherBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -24,8 +24,10 @@
  */
 package net.runelite.client.util;
 
+import java.util.Arrays;
 import static junit.framework.TestCase.assertTrue;
 import static net.runelite.client.util.WildcardMatcher.matches;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import org.junit.Test;
 
@@ -40,5 +42,44 @@ public class WildcardMatcherTest
 		assertTrue(matches("rune*", "Runeite Ore"));
 		assertTrue(matches("Abyssal whip", "Abyssal whip"));
 		assertTrue(matches("string $ with special character", "string $ with special character"));
+		assertTrue(matches("*dragon*", "Black dragon"));
+		assertTrue(matches("a*b*c", "abc"));
+		assertTrue(matches("a*b*c", "aXbYbc"));
+		assertFalse(matches("a*b*c", "acb"));
+		assertFalse(matches("ab*ba", "aba"));
+		assertTrue(matches("*", ""));
+	}
+
+	@Test
+	public void testCompiled()
+	{
+		WildcardMatcher matcher = WildcardMatcher.compile(Arrays.asList(
+			"Abyssal whip", // 0
+			"rune*", // 1
+			"*dragon", // 2
+			"*demon*", // 3
+			"g*n", // 4
+			"rune*" // 5
+		));
+
+		assertTrue(matcher.matches("abyssal WHIP"));
+		assertFalse(matcher.matches("Abyssal whips"));
+		assertTrue(matcher.matches("Rune"));
+		assertTrue(matcher.matches("Rune pouch"));
+		assertTrue(matcher.matches("Black dragon"));
+		assertFalse(matcher.matches("Dragon impling"));
+		assertTrue(matcher.matches("Greater demon"));
+		assertTrue(matcher.matches("Demonic gorilla"));
+		assertTrue(matcher.matches("Goblin"));
+		assertFalse(matcher.matches("Goblins"));
+		assertFalse(matcher.matches(""));
+
+		assertTrue(matcher.matches("Rune pouch", i -> i == 5));
+		assertFalse(matcher.matches("Rune pouch", i -> i != 1 && i != 5));
+		assertFalse(matcher.matches("Abyssal whip", i -> i != 0));
+		assertEquals("*dragon", matcher.getPatterns().get(2));
+
+		assertTrue(WildcardMatcher.compile(Arrays.asList("**")).matches("anything"));
+		assertFalse(WildcardMatcher.compile(Arrays.asList()).matches("anything"));
 	}
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes the index of core plugins read by {@link PluginIndex}, so that the client does not need to
+ * scan and load every class in the plugins package to find them. Only the descriptor flags the client
+ * filters on before loading a class are written.
+ * <p>
+ * This is built separately from the client, so it refers to the plugin annotations by name.
+ */
+@SupportedAnnotationTypes(PluginIndexProcessor.PLUGIN_DESCRIPTOR)
+public class PluginIndexProcessor extends AbstractProcessor
+{
+	// must match PluginIndex.RESOURCE
+	private static final String RESOURCE = "META-INF/runelite/plugins.idx";
+	static final String PLUGIN_DESCRIPTOR = "net.runelite.client.plugins.PluginDescriptor";
+	private static final String[] FLAGS = {"developerPlugin", "loadWhenOutdated"};
+
+	// sorted so the output is reproducible
+	private final Map<String, String> entries = new TreeMap<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		for (TypeElement annotation : annotations)
+		{
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+			{
+				// the classpath scan this replaces only finds top level classes
+				if (element.getKind() == ElementKind.CLASS && ((TypeElement) element).getNestingKind() == NestingKind.TOP_LEVEL)
+				{
+					add((TypeElement) element);
+				}
+			}
+		}
+
+		if (roundEnv.processingOver() && !entries.isEmpty())
+		{
+			write();
+		}
+		return false;
+	}
+
+	private void add(TypeElement type)
+	{
+		final List<String> flags = new ArrayList<>();
+		for (AnnotationMirror mirror : type.getAnnotationMirrors())
+		{
+			final String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+			if (PLUGIN_DESCRIPTOR.equals(name))
+			{
+				final Map<? extends ExecutableElement, ? extends AnnotationValue> values = processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+				for (String flag : FLAGS)
+				{
+					if (Boolean.TRUE.equals(value(values, flag)))
+					{
+						flags.add(flag);
+					}
+				}
+			}
+		}
+
+		final String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+		entries.put(className, className + '\t' + String.join(",", flags));
+	}
+
+	private static Object value(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String name)
+	{
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet())
+		{
+			if (entry.getKey().getSimpleName().contentEquals(name))
+			{
+				return entry.getValue().getValue();
+			}
+		}
+		return null;
+	}
+
+	private void write()
+	{
+		try
+		{
+			final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE);
+			try (Writer out = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))
+			{
+				out.write("# class\tflags\n");
+				for (String entry : entries.values())
+				{
+					out.write(entry);
+					out.write('\n');
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "unable to write plugin index: " + ex);
+		}
+	}
+}
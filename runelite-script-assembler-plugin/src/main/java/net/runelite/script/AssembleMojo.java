@@ -24,10 +24,24 @@
  */
 package net.runelite.script;
 
+import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.ScriptDefinition;
 import net.runelite.cache.definitions.savers.ScriptSaver;
@@ -43,63 +57,298 @@ import org.apache.maven.plugins.annotations.Parameter;
 
 @Mojo(
 	name = "assemble",
-	defaultPhase = LifecyclePhase.GENERATE_RESOURCES
+	defaultPhase = LifecyclePhase.GENERATE_RESOURCES,
+	threadSafe = true
 )
 public class AssembleMojo extends AbstractMojo
 {
+	/**
+	 * Manifest key holding the fingerprint of the assembler the manifest was built with
+	 */
+	private static final String ASSEMBLER_KEY = "@assembler";
+
 	@Parameter(required = true)
 	private File scriptDirectory;
 
 	@Parameter(required = true)
 	private File outputDirectory;
 
+	/**
+	 * Records the source hash and output of each assembled script, so unchanged scripts
+	 * can be skipped on the next build. Kept outside of outputDirectory so it isn't packaged.
+	 */
+	@Parameter(defaultValue = "${project.build.directory}/script-assembler/manifest.properties")
+	private File manifestFile;
+
+	@Parameter(property = "runelite.assemble.incremental", defaultValue = "true")
+	private boolean incremental;
+
+	/**
+	 * Number of assembler threads, or 0 to use one per processor
+	 */
+	@Parameter(property = "runelite.assemble.threads", defaultValue = "0")
+	private int threads;
+
 	private final Log log = getLog();
 
 	@Override
 	public void execute() throws MojoExecutionException, MojoFailureException
 	{
-		RuneLiteInstructions instructions = new RuneLiteInstructions();
-		instructions.init();
+		final long start = System.nanoTime();
 
-		Assembler assembler = new Assembler(instructions);
-		ScriptSaver saver = new ScriptSaver();
-
-		int count = 0;
 		File scriptOut = new File(outputDirectory, Integer.toString(IndexType.CLIENTSCRIPT.getNumber()));
 		scriptOut.mkdirs();
 
+		final String assemblerHash = hashAssembler();
+		final Properties previous = incremental && assemblerHash != null ? loadManifest(assemblerHash) : new Properties();
+		final Properties manifest = new Properties();
+		if (assemblerHash != null)
+		{
+			manifest.setProperty(ASSEMBLER_KEY, assemblerHash);
+		}
+
+		List<File> changed = new ArrayList<>();
+		List<String> changedHashes = new ArrayList<>();
 		for (File scriptFile : scriptDirectory.listFiles((dir, name) -> name.endsWith(".rs2asm")))
 		{
-			log.debug("Assembling " + scriptFile);
+			String name = scriptFile.getName();
+			String sourceHash = hashSource(scriptFile);
+			String entry = previous.getProperty(name);
+			if (entry != null && isUpToDate(entry, sourceHash, scriptOut))
+			{
+				log.debug("Skipping unchanged " + scriptFile);
+				manifest.setProperty(name, entry);
+			}
+			else
+			{
+				changed.add(scriptFile);
+				changedHashes.add(sourceHash);
+			}
+		}
 
-			try (FileInputStream fin = new FileInputStream(scriptFile))
+		int nThreads = Math.min(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), changed.size());
+		if (!changed.isEmpty())
+		{
+			List<Integer> ids = assemble(changed, scriptOut, nThreads);
+			for (int i = 0; i < changed.size(); ++i)
 			{
-				ScriptDefinition script = assembler.assemble(fin);
-				byte[] packedScript = saver.save(script);
+				manifest.setProperty(changed.get(i).getName(), changedHashes.get(i) + " " + ids.get(i));
+			}
+		}
 
-				File targetFile = new File(scriptOut, Integer.toString(script.getId()));
-				Files.write(packedScript, targetFile);
+		// Remove the output of scripts which have been deleted since the last build, or which now
+		// assemble to a different id, unless another script now produces that id
+		Set<String> ids = new HashSet<>();
+		for (String name : manifest.stringPropertyNames())
+		{
+			if (!name.equals(ASSEMBLER_KEY))
+			{
+				ids.add(manifest.getProperty(name).split(" ")[1]);
+			}
+		}
+		for (String name : previous.stringPropertyNames())
+		{
+			String[] parts = previous.getProperty(name).split(" ");
+			if (!name.equals(ASSEMBLER_KEY) && parts.length == 2 && !ids.contains(parts[1]))
+			{
+				log.debug("Removing stale output " + parts[1] + " of script " + name);
+				new File(scriptOut, parts[1]).delete();
+				new File(scriptOut, parts[1] + ".hash").delete();
+			}
+		}
 
-				// Copy hash file
+		saveManifest(manifest);
 
-				File hashFile = new File(scriptDirectory, Files.getNameWithoutExtension(scriptFile.getName()) + ".hash");
-				if (hashFile.exists())
-				{
-					Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
-				}
-				else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
-				{
-					throw new MojoExecutionException("Unable to find hash file for " + scriptFile);
-				}
+		int total = manifest.size() - (manifest.containsKey(ASSEMBLER_KEY) ? 1 : 0);
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		if (changed.isEmpty())
+		{
+			log.info("All " + total + " scripts up to date (" + elapsed + "ms)");
+		}
+		else
+		{
+			log.info("Assembled " + changed.size() + " of " + total + " scripts using " + nThreads + " threads in " + elapsed + "ms");
+		}
+	}
 
-				++count;
+	private List<Integer> assemble(List<File> scriptFiles, File scriptOut, int nThreads) throws MojoExecutionException, MojoFailureException
+	{
+		// The assembler's ANTLR pipeline isn't safe to share, so each worker builds its own
+		ThreadLocal<Assembler> assemblers = ThreadLocal.withInitial(() ->
+		{
+			RuneLiteInstructions instructions = new RuneLiteInstructions();
+			instructions.init();
+			return new Assembler(instructions);
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+		try
+		{
+			List<Future<Integer>> futures = new ArrayList<>(scriptFiles.size());
+			for (File scriptFile : scriptFiles)
+			{
+				futures.add(executor.submit(() -> assemble(assemblers.get(), scriptFile, scriptOut)));
+			}
+
+			List<Integer> ids = new ArrayList<>(futures.size());
+			for (Future<Integer> future : futures)
+			{
+				ids.add(future.get());
+			}
+			return ids;
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new MojoExecutionException("interrupted assembling scripts", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof MojoExecutionException)
+			{
+				throw (MojoExecutionException) cause;
 			}
-			catch (IOException ex)
+			if (cause instanceof MojoFailureException)
 			{
-				throw new MojoFailureException("unable to open file", ex);
+				throw (MojoFailureException) cause;
 			}
+			throw new MojoExecutionException("error assembling scripts", cause);
 		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
 
-		log.info("Assembled " + count + " scripts");
+	private int assemble(Assembler assembler, File scriptFile, File scriptOut) throws MojoExecutionException, MojoFailureException
+	{
+		log.debug("Assembling " + scriptFile);
+
+		try (FileInputStream fin = new FileInputStream(scriptFile))
+		{
+			ScriptDefinition script = assembler.assemble(fin);
+			byte[] packedScript = new ScriptSaver().save(script);
+
+			File targetFile = new File(scriptOut, Integer.toString(script.getId()));
+			Files.write(packedScript, targetFile);
+
+			// Copy hash file
+
+			File hashFile = hashFileFor(scriptFile);
+			if (hashFile.exists())
+			{
+				Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
+			}
+			else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+			{
+				throw new MojoExecutionException("Unable to find hash file for " + scriptFile);
+			}
+
+			return script.getId();
+		}
+		catch (IOException ex)
+		{
+			throw new MojoFailureException("unable to open file", ex);
+		}
+	}
+
+	private boolean isUpToDate(String entry, String sourceHash, File scriptOut)
+	{
+		String[] parts = entry.split(" ");
+		if (parts.length != 2 || !parts[0].equals(sourceHash))
+		{
+			return false;
+		}
+
+		// the output may have been removed without the manifest, eg. by a partial clean
+		return new File(scriptOut, parts[1]).exists();
+	}
+
+	private File hashFileFor(File scriptFile)
+	{
+		return new File(scriptDirectory, Files.getNameWithoutExtension(scriptFile.getName()) + ".hash");
+	}
+
+	/**
+	 * Hash a script along with its .hash file, since both end up in the output
+	 */
+	private String hashSource(File scriptFile) throws MojoFailureException
+	{
+		try
+		{
+			File hashFile = hashFileFor(scriptFile);
+			return Hashing.sha256().newHasher()
+				.putBytes(Files.toByteArray(scriptFile))
+				.putBytes(hashFile.exists() ? Files.toByteArray(hashFile) : new byte[0])
+				.putBoolean(hashFile.exists())
+				.hash()
+				.toString();
+		}
+		catch (IOException ex)
+		{
+			throw new MojoFailureException("unable to open file", ex);
+		}
+	}
+
+	/**
+	 * Fingerprint the jar the assembler was loaded from, so a change to the assembler or
+	 * instruction set forces a full rebuild. Returns null if it can't be determined, which
+	 * disables incremental assembly.
+	 */
+	private String hashAssembler()
+	{
+		try
+		{
+			File source = new File(Assembler.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+			if (source.isFile())
+			{
+				return Files.asByteSource(source).hash(Hashing.sha256()).toString();
+			}
+		}
+		catch (Exception ex)
+		{
+			log.debug("unable to fingerprint assembler", ex);
+		}
+		return null;
+	}
+
+	private Properties loadManifest(String assemblerHash)
+	{
+		Properties manifest = new Properties();
+		if (!manifestFile.exists())
+		{
+			return manifest;
+		}
+
+		try (InputStream in = new FileInputStream(manifestFile))
+		{
+			manifest.load(in);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to read script manifest, reassembling all scripts", ex);
+			return new Properties();
+		}
+
+		if (!assemblerHash.equals(manifest.getProperty(ASSEMBLER_KEY)))
+		{
+			log.info("Script assembler has changed, reassembling all scripts");
+			return new Properties();
+		}
+		return manifest;
+	}
+
+	private void saveManifest(Properties manifest) throws MojoExecutionException
+	{
+		manifestFile.getParentFile().mkdirs();
+		try (OutputStream out = new FileOutputStream(manifestFile))
+		{
+			manifest.store(out, null);
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("unable to write script manifest", ex);
+		}
 	}
 }